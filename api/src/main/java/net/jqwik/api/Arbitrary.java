@@ -151,6 +151,26 @@ public interface Arbitrary<T> {
 		return true;
 	}
 
+	/**
+	 * Generators of cacheable arbitraries are shared across all properties of a test run
+	 * whereas other memoizable generators are only reused within a single property.
+	 *
+	 * <p>
+	 * Override and return true only if the arbitrary's generators keep no state
+	 * between calls to {@linkplain RandomGenerator#next(Random)} and if equal instances
+	 * of the arbitrary create equivalent generators regardless of the property,
+	 * domain context or store in which a generator is created.
+	 * Arbitraries that combine other arbitraries should only be cacheable
+	 * if all combined arbitraries are.
+	 * </p>
+	 *
+	 * @return false unless overridden
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	default boolean isGeneratorCacheable() {
+		return false;
+	}
+
 	EdgeCases<T> edgeCases(int maxEdgeCases);
 
 	/**
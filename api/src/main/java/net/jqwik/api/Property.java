@@ -38,6 +38,8 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	int PARALLELISM_NOT_SET = 0;
+	int TIME_BUDGET_NOT_SET = 0;
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -92,4 +94,38 @@ public @interface Property {
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
+
+	/**
+	 * The maximum number of tries that are executed concurrently.
+	 * <p>
+	 * Generation of parameters still happens sequentially on the property's thread
+	 * so that a given seed always produces the same samples.
+	 * Only the execution of tries is distributed over a pool of worker threads.
+	 * Shrinking evaluates up to this number of shrinking candidates concurrently
+	 * but always chooses the same shrunk sample as sequential shrinking would.
+	 * <p>
+	 * Default value is 1, i.e. tries are executed one after the other.
+	 * Use only if the property method, its lifecycle hooks and all used stores
+	 * can cope with concurrent invocation.
+	 *
+	 * @return maximum number of concurrently executed tries
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	int parallelism() default PARALLELISM_NOT_SET;
+
+	/**
+	 * The maximum number of seconds spent on generating and executing tries.
+	 * <p>
+	 * With a time budget tries are run until the budget is used up
+	 * unless {@link #tries()} is also set explicitly, in which case the property
+	 * stops at whatever limit is reached first. At least one try is always run.
+	 * Shrinking is not part of the time budget.
+	 * <p>
+	 * By default there is no time budget. You can set a global default
+	 * with the {@code jqwik.timebudget.seconds.default} configuration property.
+	 *
+	 * @return maximum number of seconds for tries
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	int timeBudgetSeconds() default TIME_BUDGET_NOT_SET;
 }
@@ -18,7 +18,16 @@ public enum Reporting {
 	 * {@link Reporting#FALSIFIED} will report each set of parameters that is falsified during shrinking.
 	 * i.e., report "table" will be printed only when some test fails.
 	 */
-	FALSIFIED;
+	FALSIFIED,
+
+	/**
+	 * {@link Reporting#METRICS} will report the time spent on generating, executing and shrinking
+	 * as well as the number of filter misses after running the property.
+	 *
+	 * @see net.jqwik.api.lifecycle.PropertyMetrics
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	METRICS;
 
 	public boolean containedIn(Reporting[] reporting) {
 		return Arrays.stream(reporting).anyMatch(this::equals);
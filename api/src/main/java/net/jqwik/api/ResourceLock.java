@@ -0,0 +1,40 @@
+package net.jqwik.api;
+
+import java.lang.annotation.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Use {@code @ResourceLock} to prevent properties from being executed concurrently
+ * when concurrent execution has been switched on through configuration parameter
+ * {@code jqwik.execution.parallelism}.
+ *
+ * <p>
+ * Properties that share a resource lock will never run at the same time.
+ * An annotated container class applies its lock to all property methods within,
+ * including those in nested groups.
+ * </p>
+ *
+ * <p>
+ * Without a value the lock is specific to the annotated container class -
+ * or to the method's container class, if a method is annotated.
+ * Thus {@code @ResourceLock} on a container opts this container out of concurrent execution.
+ * </p>
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@API(status = EXPERIMENTAL, since = "1.7.0")
+public @interface ResourceLock {
+
+	/**
+	 * The name of the shared resource.
+	 *
+	 * @return resource name or empty string for a lock that is specific to the container class
+	 */
+	String value() default "";
+
+}
@@ -0,0 +1,117 @@
+package net.jqwik.api.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * A filter predicate with a known structure that some arbitraries can translate
+ * into constraints of generation instead of rejecting generated values.
+ *
+ * <p>
+ * Use it like any other predicate, e.g.
+ * {@code Arbitraries.integers().filter(ConstraintPredicate.divisibleBy(1000))}.
+ * Integer, long and string arbitraries created through {@linkplain Arbitraries}
+ * generate values that satisfy range, modulo, length and char constraints directly.
+ * All other arbitraries as well as predicates without a known structure -
+ * e.g. lambdas combined through {@linkplain #and(Predicate)} - fall back to filtering.
+ * </p>
+ *
+ * @param <T> The type of values to test
+ */
+@API(status = EXPERIMENTAL, since = "1.7.0")
+public interface ConstraintPredicate<T> extends Predicate<T> {
+
+	@API(status = INTERNAL)
+	abstract class ConstraintPredicateFacade {
+		private static final ConstraintPredicateFacade implementation;
+
+		static {
+			implementation = FacadeLoader.load(ConstraintPredicateFacade.class);
+		}
+
+		public abstract <T extends Number> ConstraintPredicate<T> between(long min, long max);
+
+		public abstract <T extends Number> ConstraintPredicate<T> modulo(long divisor, long remainder);
+
+		public abstract <T extends CharSequence> ConstraintPredicate<T> lengthBetween(int min, int max);
+
+		public abstract <T extends CharSequence> ConstraintPredicate<T> charsBetween(char min, char max);
+
+		public abstract <T extends CharSequence> ConstraintPredicate<T> onlyChars(char[] chars);
+
+		public abstract <T> ConstraintPredicate<T> and(ConstraintPredicate<T> self, Predicate<? super T> other);
+	}
+
+	/**
+	 * Accept integral values between {@code min} (included) and {@code max} (included).
+	 *
+	 * @throws IllegalArgumentException if {@code min} is larger than {@code max}
+	 */
+	static <T extends Number> ConstraintPredicate<T> between(long min, long max) {
+		return ConstraintPredicateFacade.implementation.between(min, max);
+	}
+
+	/**
+	 * Accept integral values {@code value} for which {@code Math.floorMod(value, divisor) == remainder}.
+	 *
+	 * @throws IllegalArgumentException if {@code divisor} is not positive
+	 *                                  or {@code remainder} is not between 0 and {@code divisor - 1}
+	 */
+	static <T extends Number> ConstraintPredicate<T> modulo(long divisor, long remainder) {
+		return ConstraintPredicateFacade.implementation.modulo(divisor, remainder);
+	}
+
+	/**
+	 * Accept integral values that are multiples of {@code divisor}.
+	 *
+	 * @throws IllegalArgumentException if {@code divisor} is not positive
+	 */
+	static <T extends Number> ConstraintPredicate<T> divisibleBy(long divisor) {
+		return modulo(divisor, 0);
+	}
+
+	/**
+	 * Accept char sequences whose length is between {@code min} (included) and {@code max} (included).
+	 *
+	 * @throws IllegalArgumentException if {@code min} is negative or larger than {@code max}
+	 */
+	static <T extends CharSequence> ConstraintPredicate<T> lengthBetween(int min, int max) {
+		return ConstraintPredicateFacade.implementation.lengthBetween(min, max);
+	}
+
+	/**
+	 * Accept char sequences that only contain chars between {@code min} (included) and {@code max} (included).
+	 *
+	 * @throws IllegalArgumentException if {@code min} is larger than {@code max}
+	 */
+	static <T extends CharSequence> ConstraintPredicate<T> charsBetween(char min, char max) {
+		return ConstraintPredicateFacade.implementation.charsBetween(min, max);
+	}
+
+	/**
+	 * Accept char sequences that only contain chars from {@code chars}.
+	 */
+	static <T extends CharSequence> ConstraintPredicate<T> onlyChars(char... chars) {
+		return ConstraintPredicateFacade.implementation.onlyChars(chars);
+	}
+
+	/**
+	 * The parts of this predicate that must all be satisfied.
+	 * Parts that are not created through the static factory methods of this interface
+	 * can only be used for filtering.
+	 */
+	default List<Predicate<? super T>> parts() {
+		return Collections.singletonList(this);
+	}
+
+	@Override
+	default ConstraintPredicate<T> and(Predicate<? super T> other) {
+		return ConstraintPredicateFacade.implementation.and(this, other);
+	}
+}
@@ -29,4 +29,22 @@ public interface FunctionArbitrary<F, R> extends Arbitrary<F> {
 	 */
 	<F_ extends F> FunctionArbitrary<F_, R> when(Predicate<List<Object>> parameterCondition, Function<List<Object>, R> answer);
 
+	/**
+	 * Generated functions remember their result for each list of parameters
+	 * and return the same result instance when called with equal parameters again.
+	 * Use this if generating results is expensive and generated functions are called
+	 * many times with the same parameters, e.g. in sorting or stream pipelines.
+	 *
+	 * <p>
+	 * Results of {@linkplain #when(Predicate, Function) conditional answers} are not memoized.
+	 * Mutating parameters or results after a call can lead to unexpected results of later calls.
+	 * </p>
+	 *
+	 * @param <F_> The exact functional type to generate. Must be same as {@code F}
+	 *
+	 * @return A new instance of function arbitrary
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	<F_ extends F> FunctionArbitrary<F_, R> memoizeResults();
+
 }
@@ -107,6 +107,26 @@ public interface PropertyAttributes {
 	@API(status = MAINTAINED, since = "1.4.0")
 	Optional<FixedSeedMode> whenFixedSeed();
 
+	/**
+	 * The maximum number of concurrently executed tries of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#parallelism()}
+	 * or {@linkplain #setParallelism(Integer)}.
+	 *
+	 * @return optional parallelism
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	Optional<Integer> parallelism();
+
+	/**
+	 * The maximum number of seconds spent on tries of the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#timeBudgetSeconds()}
+	 * or {@linkplain #setTimeBudgetSeconds(Integer)}.
+	 *
+	 * @return optional time budget in seconds
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	Optional<Integer> timeBudgetSeconds();
+
 	void setTries(Integer tries);
 
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
@@ -125,4 +145,10 @@ public interface PropertyAttributes {
 
 	void setWhenFixedSeed(FixedSeedMode fixedSeedMode);
 
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	void setParallelism(Integer parallelism);
+
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	void setTimeBudgetSeconds(Integer timeBudgetSeconds);
+
 }
@@ -104,6 +104,16 @@ public interface PropertyExecutionResult {
 	@API(status = MAINTAINED, since = "1.3.5")
 	Optional<ShrunkFalsifiedSample> shrunkSample();
 
+	/**
+	 * Return the metrics of running the property if the property has been run at all.
+	 *
+	 * @return optional metrics
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	default Optional<PropertyMetrics> metrics() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Use to change the {@linkplain Status status} of a property execution result in a
 	 * {@linkplain AroundPropertyHook}.
@@ -0,0 +1,54 @@
+package net.jqwik.api.lifecycle;
+
+import java.time.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Measurements of where the time of a property's run went.
+ *
+ * <p>
+ * Metrics can be accessed through {@linkplain PropertyExecutionResult#metrics()}
+ * in an {@linkplain AroundPropertyHook} or reported with {@code @Report(Reporting.METRICS)}.
+ * A globally registered {@linkplain AroundPropertyHook} can listen to the metrics of all properties.
+ * </p>
+ */
+@API(status = EXPERIMENTAL, since = "1.7.0")
+public interface PropertyMetrics {
+
+	/**
+	 * The accumulated time spent on generating the parameters of all tries.
+	 */
+	Duration generationTime();
+
+	/**
+	 * The accumulated time spent on executing all tries including around try hooks.
+	 * If tries are executed concurrently this can exceed the property's wall clock time.
+	 */
+	Duration executionTime();
+
+	/**
+	 * The time spent on shrinking a falsified sample.
+	 */
+	Duration shrinkingTime();
+
+	/**
+	 * The number of values that were checked by filters during generation.
+	 */
+	long filterChecks();
+
+	/**
+	 * The number of values that were rejected by filters during generation.
+	 */
+	long filterMisses();
+
+	/**
+	 * The ratio of rejected to checked values, 0.0 if no value has been checked.
+	 */
+	default double filterMissRatio() {
+		long checks = filterChecks();
+		return checks == 0 ? 0.0 : (double) filterMisses() / checks;
+	}
+}
@@ -0,0 +1,86 @@
+package net.jqwik.api.lifecycle;
+
+import java.util.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Implement this hook to take control over the source of randomness
+ * from which the parameters of a randomized property are generated.
+ * This is the extension point for guided generation strategies
+ * that use feedback from previous tries - e.g. code coverage or a fitness value -
+ * to steer generation towards interesting samples.
+ *
+ * <p>
+ * The hook is only applied to properties with {@linkplain net.jqwik.api.GenerationMode#RANDOMIZED randomized generation}.
+ * </p>
+ * <p>
+ * Caveat: Only one hook per property method is possible.
+ * </p>
+ */
+@API(status = EXPERIMENTAL, since = "1.7.0")
+@FunctionalInterface
+public interface ProvideGenerationSourceHook extends LifecycleHook {
+
+	ProvideGenerationSourceHook DEFAULT = context -> GenerationSource.DEFAULT;
+
+	/**
+	 * Provide the generation source for a property.
+	 *
+	 * <p>This method will be called exactly once per property.</p>
+	 *
+	 * @param context The property's lifecycle context
+	 * @return a new generation source for all tries of the property
+	 */
+	GenerationSource provide(PropertyLifecycleContext context);
+
+	/**
+	 * A generation source is asked for the source of randomness of each try
+	 * and is informed about each try's result.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.7.0")
+	@FunctionalInterface
+	interface GenerationSource {
+
+		GenerationSource DEFAULT = defaultRandom -> defaultRandom;
+
+		/**
+		 * Provide the source of randomness for generating the parameters of the next try.
+		 * All values of the try - including the decision to use an edge case - are drawn from it.
+		 *
+		 * <p>
+		 * Implementations that do not want to control generation for the next try
+		 * just return {@code defaultRandom}.
+		 * </p>
+		 *
+		 * @param defaultRandom The source of randomness jqwik would use without this hook.
+		 *                      It is derived from the property's seed.
+		 * @return a source of randomness that must only be used for one try
+		 */
+		Random nextRandom(Random defaultRandom);
+
+		/**
+		 * Called with the result of each try that has been executed.
+		 * Use this method to collect feedback, e.g. coverage data, and to adapt
+		 * the random sources returned by subsequent calls to {@linkplain #nextRandom(Random)}.
+		 *
+		 * <p>
+		 * Tries are reported in the order in which they have been generated.
+		 * When tries are executed concurrently the parameters of several tries
+		 * can be generated before the first of them is reported.
+		 * </p>
+		 *
+		 * <p>
+		 * An exception thrown by this method fails the property as an error of the hook.
+		 * The try's sample is neither reported as falsified nor shrunk.
+		 * </p>
+		 *
+		 * @param sample The parameters that have been used in the try
+		 * @param result The result of the try
+		 */
+		default void guide(List<Object> sample, TryExecutionResult result) {
+		}
+	}
+}
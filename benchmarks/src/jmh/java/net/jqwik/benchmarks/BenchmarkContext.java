@@ -0,0 +1,35 @@
+package net.jqwik.benchmarks;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Generators, edge cases and shrinking access stores and other lifecycle state
+ * which is only available on a thread that runs a jqwik container or property.
+ * Benchmarks that use those parts outside of the engine must therefore
+ * run on a thread with a current test descriptor.
+ */
+class BenchmarkContext {
+
+	private BenchmarkContext() {
+	}
+
+	/**
+	 * Must be called in a benchmark's setup so that the descriptor is pushed
+	 * onto the thread that will execute the benchmark.
+	 */
+	static TestDescriptor enter(Class<?> benchmarkClass) {
+		UniqueId uniqueId = UniqueId.forEngine(JqwikTestEngine.ENGINE_ID).append("class", benchmarkClass.getName());
+		TestDescriptor descriptor = new ContainerClassDescriptor(uniqueId, benchmarkClass, false);
+		CurrentTestDescriptor.push(descriptor);
+		return descriptor;
+	}
+
+	static void leave(TestDescriptor descriptor) {
+		StoreRepository.getCurrent().finishScope(descriptor);
+		CurrentTestDescriptor.pop();
+	}
+}
@@ -0,0 +1,80 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+
+/**
+ * Throughput of generating values through {@linkplain Combinators}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class CombinatorsBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Random random;
+
+	private RandomGenerator<Tuple2<Integer, String>> combineTwo;
+	private RandomGenerator<Tuple4<Integer, String, Long, Boolean>> combineFour;
+	private RandomGenerator<Integer> flatCombine;
+	private RandomGenerator<List<Integer>> combineList;
+
+	private TestDescriptor descriptor;
+
+	@Setup
+	public void setup() {
+		descriptor = BenchmarkContext.enter(getClass());
+
+		random = new Random(42L);
+
+		Arbitrary<Integer> integers = Arbitraries.integers();
+		Arbitrary<String> strings = Arbitraries.strings().ofMaxLength(10);
+		Arbitrary<Long> longs = Arbitraries.longs();
+		Arbitrary<Boolean> booleans = Arbitraries.of(true, false);
+
+		combineTwo = Combinators.combine(integers, strings).as(Tuple::of).generator(GEN_SIZE);
+		combineFour = Combinators.combine(integers, strings, longs, booleans).as(Tuple::of).generator(GEN_SIZE);
+		Arbitrary<Integer> smallIntegers = Arbitraries.integers().between(0, 100);
+		flatCombine = Combinators.combine(smallIntegers, smallIntegers)
+								 .flatAs((min, width) -> Arbitraries.integers().between(min, min + width))
+								 .generator(GEN_SIZE);
+		combineList = Combinators.combine(Collections.nCopies(8, integers))
+								 .as(values -> values)
+								 .generator(GEN_SIZE);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkContext.leave(descriptor);
+	}
+
+	@Benchmark
+	public Tuple2<Integer, String> combineTwo() {
+		return combineTwo.next(random).value();
+	}
+
+	@Benchmark
+	public Tuple4<Integer, String, Long, Boolean> combineFour() {
+		return combineFour.next(random).value();
+	}
+
+	@Benchmark
+	public Integer flatCombine() {
+		return flatCombine.next(random).value();
+	}
+
+	@Benchmark
+	public List<Integer> combineList() {
+		return combineList.next(random).value();
+	}
+}
@@ -0,0 +1,66 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+/**
+ * Cost of creating and iterating through edge cases,
+ * in particular the combination of edge cases of several arbitraries.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class EdgeCasesBenchmarks {
+
+	@Param({"20", "1000"})
+	public int maxEdgeCases;
+
+	private List<Arbitrary<Object>> arbitraries;
+	private Arbitrary<List<Integer>> lists;
+
+	private TestDescriptor descriptor;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		descriptor = BenchmarkContext.enter(getClass());
+
+		arbitraries = Arrays.asList(
+			(Arbitrary<Object>) (Arbitrary<?>) Arbitraries.integers(),
+			(Arbitrary<Object>) (Arbitrary<?>) Arbitraries.longs(),
+			(Arbitrary<Object>) (Arbitrary<?>) Arbitraries.strings(),
+			(Arbitrary<Object>) (Arbitrary<?>) Arbitraries.doubles()
+		);
+		lists = Arbitraries.integers().list().ofMaxSize(10);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkContext.leave(descriptor);
+	}
+
+	@Benchmark
+	public void combineEdgeCases(Blackhole blackhole) {
+		EdgeCases<List<Object>> edgeCases = EdgeCasesSupport.combine(arbitraries, params -> params, maxEdgeCases);
+		for (Shrinkable<List<Object>> edgeCase : edgeCases) {
+			blackhole.consume(edgeCase.value());
+		}
+	}
+
+	@Benchmark
+	public void listEdgeCases(Blackhole blackhole) {
+		for (Shrinkable<List<Integer>> edgeCase : lists.edgeCases(maxEdgeCases)) {
+			blackhole.consume(edgeCase.value());
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package net.jqwik.benchmarks;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.testkit.engine.*;
+import org.openjdk.jmh.annotations.*;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+
+/**
+ * End-to-end discovery and execution of the properties in {@linkplain SyntheticContainer}
+ * through the jqwik test engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Thread)
+public class EngineExecutionBenchmarks {
+
+	@Param({"1", "4"})
+	public int executionParallelism;
+
+	private Path databaseDirectory;
+	private Path databasePath;
+
+	@Setup
+	public void setup() throws IOException {
+		databaseDirectory = Files.createTempDirectory("jqwik-benchmarks");
+		databasePath = databaseDirectory.resolve(".jqwik-database");
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(databasePath);
+		Files.deleteIfExists(databaseDirectory);
+	}
+
+	@Benchmark
+	public long executeSyntheticContainer() {
+		EngineExecutionResults results =
+			EngineTestKit.engine("jqwik")
+						 .configurationParameter("jqwik.database", databasePath.toString())
+						 .configurationParameter("jqwik.reporting.onlyfailures", "true")
+						 .configurationParameter("jqwik.execution.parallelism", Integer.toString(executionParallelism))
+						 .selectors(selectClass(SyntheticContainer.class))
+						 .execute();
+		long succeeded = results.testEvents().succeeded().count();
+		if (succeeded != SyntheticContainer.NUMBER_OF_PROPERTIES) {
+			throw new IllegalStateException("Expected all properties to succeed but only " + succeeded + " did");
+		}
+		return succeeded;
+	}
+}
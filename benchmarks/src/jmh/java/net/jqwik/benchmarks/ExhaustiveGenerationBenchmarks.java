@@ -0,0 +1,79 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Cost of creating exhaustive generators and iterating through all their values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class ExhaustiveGenerationBenchmarks {
+
+	private static final long MAX_NUMBER_OF_SAMPLES = 100_000L;
+
+	private Arbitrary<Integer> integers;
+	private Arbitrary<List<Integer>> lists;
+	private Arbitrary<String> strings;
+	private Arbitrary<String> combined;
+
+	private TestDescriptor descriptor;
+
+	@Setup
+	public void setup() {
+		descriptor = BenchmarkContext.enter(getClass());
+
+		integers = Arbitraries.integers().between(0, 10_000);
+		lists = Arbitraries.integers().between(0, 9).list().ofMaxSize(4);
+		strings = Arbitraries.strings().withCharRange('a', 'f').ofMaxLength(5);
+		combined = Combinators.combine(
+			Arbitraries.integers().between(0, 99),
+			Arbitraries.of("a", "b", "c", "d"),
+			Arbitraries.of(true, false)
+		).as((i, s, b) -> s + i + b);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkContext.leave(descriptor);
+	}
+
+	@Benchmark
+	public void integers(Blackhole blackhole) {
+		exhaust(integers, blackhole);
+	}
+
+	@Benchmark
+	public void lists(Blackhole blackhole) {
+		exhaust(lists, blackhole);
+	}
+
+	@Benchmark
+	public void strings(Blackhole blackhole) {
+		exhaust(strings, blackhole);
+	}
+
+	@Benchmark
+	public void combined(Blackhole blackhole) {
+		exhaust(combined, blackhole);
+	}
+
+	private static <T> void exhaust(Arbitrary<T> arbitrary, Blackhole blackhole) {
+		ExhaustiveGenerator<T> generator =
+			arbitrary.exhaustive(MAX_NUMBER_OF_SAMPLES)
+					 .orElseThrow(() -> new IllegalStateException("No exhaustive generator for " + arbitrary));
+		for (T value : generator) {
+			blackhole.consume(value);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Throughput of drawing single values from the random generators of basic arbitraries.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class GenerationBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Random random;
+
+	private RandomGenerator<Integer> integers;
+	private RandomGenerator<Integer> smallIntegers;
+	private RandomGenerator<Long> longs;
+	private RandomGenerator<String> strings;
+	private RandomGenerator<List<Integer>> lists;
+	private RandomGenerator<Set<Integer>> sets;
+
+	private TestDescriptor descriptor;
+
+	@Setup
+	public void setup() {
+		descriptor = BenchmarkContext.enter(getClass());
+
+		random = new Random(42L);
+		integers = Arbitraries.integers().generator(GEN_SIZE);
+		smallIntegers = Arbitraries.integers().between(-100, 100).generator(GEN_SIZE);
+		longs = Arbitraries.longs().generator(GEN_SIZE);
+		strings = Arbitraries.strings().alpha().ofMaxLength(50).generator(GEN_SIZE);
+		lists = Arbitraries.integers().list().ofMaxSize(50).generator(GEN_SIZE);
+		sets = Arbitraries.integers().between(0, 10000).set().ofMaxSize(50).generator(GEN_SIZE);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkContext.leave(descriptor);
+	}
+
+	@Benchmark
+	public Integer integers() {
+		return integers.next(random).value();
+	}
+
+	@Benchmark
+	public Integer smallIntegers() {
+		return smallIntegers.next(random).value();
+	}
+
+	@Benchmark
+	public Long longs() {
+		return longs.next(random).value();
+	}
+
+	@Benchmark
+	public String strings() {
+		return strings.next(random).value();
+	}
+
+	@Benchmark
+	public List<Integer> lists() {
+		return lists.next(random).value();
+	}
+
+	@Benchmark
+	public Set<Integer> sets() {
+		return sets.next(random).value();
+	}
+}
@@ -0,0 +1,104 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.testing.*;
+
+/**
+ * Time to shrink falsified samples of a few canonical failing properties
+ * down to their minimal counter example.
+ *
+ * <p>
+ * Each invocation starts from the same falsified sample,
+ * so that only the shrinking itself is measured.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class ShrinkingBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Shrinkable<Integer> largeInteger;
+	private Shrinkable<List<Integer>> listWithLargeSum;
+	private Shrinkable<String> stringWithForbiddenChar;
+	private List<Shrinkable<Object>> twoIntegersWithLargeSum;
+
+	private TestDescriptor descriptor;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		descriptor = BenchmarkContext.enter(getClass());
+
+		largeInteger = falsified(
+			Arbitraries.integers().between(0, 1_000_000),
+			anInt -> anInt < 1000
+		);
+		listWithLargeSum = falsified(
+			Arbitraries.integers().between(0, 1000).list().ofMaxSize(50),
+			aList -> aList.stream().mapToInt(i -> i).sum() <= 1000
+		);
+		stringWithForbiddenChar = falsified(
+			Arbitraries.strings().withChars("abcx").ofMinLength(10).ofMaxLength(50),
+			aString -> !aString.contains("x")
+		);
+		Arbitrary<Integer> integers = Arbitraries.integers().between(0, 1000);
+		twoIntegersWithLargeSum = Arrays.asList(
+			(Shrinkable<Object>) (Shrinkable<?>) falsified(integers, anInt -> anInt < 500),
+			(Shrinkable<Object>) (Shrinkable<?>) falsified(integers, anInt -> anInt < 500)
+		);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkContext.leave(descriptor);
+	}
+
+	@Benchmark
+	public Integer shrinkInteger() {
+		TestingFalsifier<Integer> falsifier = anInt -> anInt < 1000;
+		return ShrinkingSupport.shrink(largeInteger, falsifier, null);
+	}
+
+	@Benchmark
+	public List<Integer> shrinkList() {
+		TestingFalsifier<List<Integer>> falsifier = aList -> aList.stream().mapToInt(i -> i).sum() <= 1000;
+		return ShrinkingSupport.shrink(listWithLargeSum, falsifier, null);
+	}
+
+	@Benchmark
+	public String shrinkString() {
+		TestingFalsifier<String> falsifier = aString -> !aString.contains("x");
+		return ShrinkingSupport.shrink(stringWithForbiddenChar, falsifier, null);
+	}
+
+	@Benchmark
+	public List<Object> shrinkTwoParameters() {
+		List<Object> parameters = new ArrayList<>();
+		twoIntegersWithLargeSum.forEach(shrinkable -> parameters.add(shrinkable.value()));
+		FalsifiedSample sample = new FalsifiedSampleImpl(parameters, twoIntegersWithLargeSum, Optional.empty(), Collections.emptyList());
+		PropertyShrinker shrinker = new PropertyShrinker(sample, ShrinkingMode.FULL, 10, 1, ignore -> {}, null);
+
+		TestingFalsifier<List<Object>> falsifier = params -> (int) params.get(0) + (int) params.get(1) < 1000;
+		return shrinker.shrink(falsifier).parameters();
+	}
+
+	private static <T> Shrinkable<T> falsified(Arbitrary<T> arbitrary, TestingFalsifier<T> falsifier) {
+		RandomGenerator<T> generator = arbitrary.generator(GEN_SIZE);
+		Random random = new Random(42L);
+		return TestingSupport.generateUntil(generator, random, value -> falsifier.execute(value).isFalsified());
+	}
+}
@@ -0,0 +1,72 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * A container with a mix of typical properties and examples.
+ * It is only executed by {@linkplain EngineExecutionBenchmarks}.
+ */
+@PropertyDefaults(tries = 100)
+class SyntheticContainer {
+
+	static final int NUMBER_OF_PROPERTIES = 8;
+
+	@Property
+	boolean absoluteValueIsNotNegative(@ForAll @IntRange(min = -1000, max = 1000) int anInt) {
+		return Math.abs(anInt) >= 0;
+	}
+
+	@Property
+	boolean reversingTwiceIsIdentity(@ForAll List<@StringLength(max = 10) String> aList) {
+		List<String> reversed = new ArrayList<>(aList);
+		Collections.reverse(reversed);
+		Collections.reverse(reversed);
+		return reversed.equals(aList);
+	}
+
+	@Property
+	boolean concatenationAddsLengths(@ForAll String first, @ForAll String second) {
+		return (first + second).length() == first.length() + second.length();
+	}
+
+	@Property
+	boolean sortedSetHasNoDuplicates(@ForAll @Size(max = 20) Set<@IntRange(max = 100) Integer> aSet) {
+		return new TreeSet<>(aSet).size() == aSet.size();
+	}
+
+	@Property
+	boolean additionIsCommutative(@ForAll long a, @ForAll long b) {
+		return a + b == b + a;
+	}
+
+	@Property(generation = GenerationMode.EXHAUSTIVE)
+	boolean smallProductsAreSmall(@ForAll @IntRange(max = 9) int a, @ForAll @IntRange(max = 9) int b) {
+		return a * b < 100;
+	}
+
+	@Example
+	boolean anExample() {
+		return true;
+	}
+
+	@Group
+	class Nested {
+
+		@Property
+		@AddLifecycleHook(value = NoopHook.class)
+		boolean mapValuesAreFound(@ForAll @Size(max = 10) Map<@IntRange(max = 20) Integer, String> aMap) {
+			return aMap.keySet().stream().allMatch(aMap::containsKey);
+		}
+	}
+
+	static class NoopHook implements AroundTryHook {
+		@Override
+		public TryExecutionResult aroundTry(TryLifecycleContext context, TryExecutor aTry, List<Object> parameters) {
+			return aTry.execute(parameters);
+		}
+	}
+}
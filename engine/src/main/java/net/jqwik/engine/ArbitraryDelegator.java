@@ -16,6 +16,11 @@ public class ArbitraryDelegator<T> extends ArbitraryDecorator<T> {
 		return delegate;
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return delegate.isGeneratorCacheable();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -8,4 +8,8 @@ public interface JqwikConfiguration {
 	boolean useJunitPlatformReporter();
 
 	boolean reportOnlyFailures();
+
+	int executionParallelism();
+
+	boolean flightRecorderEvents();
 }
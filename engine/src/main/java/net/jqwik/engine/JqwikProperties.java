@@ -27,6 +27,9 @@ public class JqwikProperties {
 	private static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	private static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	private static final int DEFAULT_BOUNDED_SHRINKING_SECONDS = 10;
+	private static final int DEFAULT_EXECUTION_PARALLELISM = 1;
+	private static final int DEFAULT_TIME_BUDGET_SECONDS = 0;
+	private static final boolean DEFAULT_FLIGHT_RECORDER_EVENTS = false;
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -44,6 +47,9 @@ public class JqwikProperties {
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
 	private final FixedSeedMode fixedSeedMode;
+	private final int executionParallelism;
+	private final int defaultTimeBudgetSeconds;
+	private final boolean flightRecorderEvents;
 
 	public String databasePath() {
 		return databasePath;
@@ -93,6 +99,18 @@ public class JqwikProperties {
 		return fixedSeedMode;
 	}
 
+	public int executionParallelism() {
+		return executionParallelism;
+	}
+
+	public int defaultTimeBudgetSeconds() {
+		return defaultTimeBudgetSeconds;
+	}
+
+	public boolean flightRecorderEvents() {
+		return flightRecorderEvents;
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
@@ -106,6 +124,9 @@ public class JqwikProperties {
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
+		executionParallelism = parameters.get("execution.parallelism", Integer::parseInt).orElse(DEFAULT_EXECUTION_PARALLELISM);
+		defaultTimeBudgetSeconds = parameters.get("timebudget.seconds.default", Integer::parseInt).orElse(DEFAULT_TIME_BUDGET_SECONDS);
+		flightRecorderEvents = parameters.getBoolean("jfr.enabled").orElse(DEFAULT_FLIGHT_RECORDER_EVENTS);
 	}
 
 	static JqwikProperties load(ConfigurationParameters fromJunit) {
@@ -9,6 +9,7 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -60,14 +61,19 @@ public class JqwikTestEngine implements TestEngine {
 
 	private void executeTests(JqwikEngineDescriptor root, EngineExecutionListener listener) {
 		JqwikConfiguration configuration = root.getConfiguration();
+		FlightRecorderEvents.enable(configuration.flightRecorderEvents());
 		try (TestRunRecorder recorder = configuration.testEngineConfiguration().recorder()) {
 			new JqwikExecutor(
 				lifecycleRegistry,
 				recorder,
 				configuration.testEngineConfiguration().previousFailures(),
 				configuration.useJunitPlatformReporter(),
-				configuration.reportOnlyFailures()
+				configuration.reportOnlyFailures(),
+				configuration.executionParallelism()
 			).execute(root, listener);
+		} finally {
+			// Shared generators must not outlive the test run they were created in
+			Memoize.sharedGenerators().clear();
 		}
 	}
 
@@ -19,6 +19,9 @@ public interface PropertyAttributesDefaults {
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// 0 means that there is no time budget
+	int timeBudgetSeconds();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -27,7 +30,8 @@ public interface PropertyAttributesDefaults {
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
-		FixedSeedMode fixedSeedMode
+		FixedSeedMode fixedSeedMode,
+		int timeBudgetSeconds
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -74,6 +78,11 @@ public interface PropertyAttributesDefaults {
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
 			}
+
+			@Override
+			public int timeBudgetSeconds() {
+				return timeBudgetSeconds;
+			}
 		};
 	}
 }
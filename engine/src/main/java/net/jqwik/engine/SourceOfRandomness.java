@@ -37,6 +37,34 @@ public class SourceOfRandomness {
 		return new XORShiftRandom(seed);
 	}
 
+	/**
+	 * Derive an independent seed for the {@code index}th element of a sequence
+	 * from a base seed. This allows to recreate any element directly
+	 * without stepping through the elements before it.
+	 *
+	 * <p>
+	 * Uses the finalizer of the SplitMix64 algorithm to spread the seeds.
+	 * Never returns 0L because 0L is not allowed as a seed.
+	 * </p>
+	 */
+	public static long deriveSeed(long baseSeed, long index) {
+		long z = baseSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		z = z ^ (z >>> 31);
+		return z == 0L ? 0x9E3779B97F4A7C15L : z;
+	}
+
+	/**
+	 * Create an independent random stream for the {@code index}th child of {@code baseSeed}.
+	 * Since children can have children themselves, streams form a tree
+	 * in which each stream can be recreated from the root seed and the indices leading to it,
+	 * e.g. the random stream of a parameter from the property's seed, the try's index and the parameter's index.
+	 */
+	public static Random deriveRandom(long baseSeed, long index) {
+		return newRandom(deriveSeed(baseSeed, index));
+	}
+
 	public static Random current() {
 		return current.get();
 	}
@@ -50,7 +78,6 @@ public class SourceOfRandomness {
 	 * <p>
 	 * For further performance improvements within jqwik, consider to override:
 	 * <ul>
-	 *     <li>nextDouble()</li>
 	 *     <li>nextBytes(int)</li>
 	 * </ul>
 	 */
@@ -87,5 +114,14 @@ public class SourceOfRandomness {
 			this.seed = x;
 			return x;
 		}
+
+		/**
+		 * Uses the upper 53 bits of a single generated long
+		 * whereas {@linkplain Random#nextDouble()} generates two values.
+		 */
+		@Override
+		public double nextDouble() {
+			return (nextLong() >>> 11) * 0x1.0p-53;
+		}
 	}
 }
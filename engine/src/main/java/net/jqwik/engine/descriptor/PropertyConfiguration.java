@@ -1,5 +1,8 @@
 package net.jqwik.engine.descriptor;
 
+import java.time.*;
+import java.util.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
@@ -26,7 +29,7 @@ public class PropertyConfiguration {
 	private final PropertyAttributesDefaults propertyAttributesDefaults;
 	private final GenerationInfo previousFailureGeneration;
 	private final String overriddenSeed;
-	private final Integer overriddenTries;
+	private final Long overriddenTries;
 	private final GenerationMode overriddenGenerationMode;
 
 	public PropertyConfiguration(
@@ -34,7 +37,7 @@ public class PropertyConfiguration {
 		PropertyAttributesDefaults propertyAttributesDefaults,
 		GenerationInfo previousFailureGeneration,
 		String overriddenSeed,
-		Integer overriddenTries,
+		Long overriddenTries,
 		GenerationMode overriddenGenerationMode
 	) {
 		this.propertyAttributes = propertyAttributes;
@@ -67,7 +70,7 @@ public class PropertyConfiguration {
 		);
 	}
 
-	public PropertyConfiguration withTries(int changedTries) {
+	public PropertyConfiguration withTries(long changedTries) {
 		return new PropertyConfiguration(
 			this.propertyAttributes,
 			this.propertyAttributesDefaults,
@@ -82,13 +85,29 @@ public class PropertyConfiguration {
 		return propertyAttributes;
 	}
 
-	public int getTries() {
+	public long getTries() {
 		if (overriddenTries != null) {
 			return overriddenTries;
 		}
 		return propertyAttributes.tries().orElse(propertyAttributesDefaults.tries());
 	}
 
+	/**
+	 * With a time budget tries are only limited by an explicitly set number of tries
+	 */
+	public long getMaxTries() {
+		boolean triesSetExplicitly = overriddenTries != null || propertyAttributes.tries().isPresent();
+		if (getTimeBudget().isPresent() && !triesSetExplicitly) {
+			return Long.MAX_VALUE;
+		}
+		return getTries();
+	}
+
+	public Optional<Duration> getTimeBudget() {
+		int seconds = propertyAttributes.timeBudgetSeconds().orElse(propertyAttributesDefaults.timeBudgetSeconds());
+		return seconds > 0 ? Optional.of(Duration.ofSeconds(seconds)) : Optional.empty();
+	}
+
 	public String getSeed() {
 		if (overriddenSeed != null) {
 			return overriddenSeed;
@@ -131,10 +150,15 @@ public class PropertyConfiguration {
 	public int boundedShrinkingSeconds() {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
+
 	public FixedSeedMode getFixedSeedMode() {
 		return propertyAttributes.whenFixedSeed().orElse(propertyAttributesDefaults.whenFixedSeed());
 	}
 
+	public int getParallelism() {
+		return propertyAttributes.parallelism().orElse(1);
+	}
+
 	public boolean hasFixedSeed() {
 		return !getSeed().equals(Property.SEED_NOT_SET);
 	}
@@ -0,0 +1,75 @@
+package net.jqwik.engine.execution;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.logging.*;
+
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Binds a property method and its target to a method handle once per property
+ * so that each try does not have to go through reflective invocation.
+ * The result of the method is checked without boxing if it returns boolean or void.
+ *
+ * <p>
+ * Only used when no {@linkplain net.jqwik.api.lifecycle.InvokePropertyMethodHook} is registered.
+ * </p>
+ */
+class BoundPropertyMethod {
+
+	private static final Logger LOG = Logger.getLogger(BoundPropertyMethod.class.getName());
+
+	static Optional<CheckedFunction> bind(Method method, Object target) {
+		MethodHandle handle;
+		try {
+			handle = spreadHandle(method, target);
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			String message = String.format("Cannot bind method handle for [%s]. Using reflection instead: %s", method, throwable);
+			LOG.fine(message);
+			return Optional.empty();
+		}
+
+		Class<?> returnType = method.getReturnType();
+		if (returnType == boolean.class) {
+			MethodHandle booleanHandle = handle.asType(MethodType.methodType(boolean.class, Object[].class));
+			return Optional.of(params -> {
+				try {
+					return (boolean) booleanHandle.invokeExact(params.toArray());
+				} catch (Throwable throwable) {
+					return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+				}
+			});
+		}
+		if (returnType == void.class) {
+			MethodHandle voidHandle = handle.asType(MethodType.methodType(void.class, Object[].class));
+			return Optional.of(params -> {
+				try {
+					voidHandle.invokeExact(params.toArray());
+					return true;
+				} catch (Throwable throwable) {
+					return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+				}
+			});
+		}
+		MethodHandle objectHandle = handle.asType(MethodType.methodType(Object.class, Object[].class));
+		return Optional.of(params -> {
+			try {
+				Object result = objectHandle.invokeExact(params.toArray());
+				return result == null || !Boolean.FALSE.equals(result);
+			} catch (Throwable throwable) {
+				return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+			}
+		});
+	}
+
+	private static MethodHandle spreadHandle(Method method, Object target) throws IllegalAccessException {
+		MethodHandle handle = MethodHandles.lookup().unreflect(JqwikReflectionSupport.makeAccessible(method)).asFixedArity();
+		if (!Modifier.isStatic(method.getModifiers())) {
+			handle = handle.bindTo(target);
+		}
+		return handle.asSpreader(Object[].class, method.getParameterCount());
+	}
+}
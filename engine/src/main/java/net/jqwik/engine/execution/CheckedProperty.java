@@ -7,6 +7,7 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.ProvideGenerationSourceHook.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
@@ -25,6 +26,7 @@ public class CheckedProperty {
 
 	private final ArbitraryResolver arbitraryResolver;
 	private final ResolveParameterHook resolveParameterHook;
+	private final ProvideGenerationSourceHook provideGenerationSourceHook;
 	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final Optional<Iterable<? extends Tuple>> optionalData;
 	private Optional<ExhaustiveShrinkablesGenerator> optionalExhaustive;
@@ -35,6 +37,7 @@ public class CheckedProperty {
 		List<MethodParameter> propertyParameters,
 		ArbitraryResolver arbitraryResolver,
 		ResolveParameterHook resolveParameterHook,
+		ProvideGenerationSourceHook provideGenerationSourceHook,
 		PropertyLifecycleContext propertyLifecycleContext,
 		Optional<Iterable<? extends Tuple>> optionalData,
 		PropertyConfiguration configuration
@@ -45,6 +48,7 @@ public class CheckedProperty {
 		this.forAllParameters = selectForAllParameters(propertyParameters);
 		this.arbitraryResolver = arbitraryResolver;
 		this.resolveParameterHook = resolveParameterHook;
+		this.provideGenerationSourceHook = provideGenerationSourceHook;
 		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.optionalData = optionalData;
 		this.configuration = configuration;
@@ -134,14 +138,15 @@ public class CheckedProperty {
 			ensureValidDataDrivenMode();
 		} else if (effectiveConfiguration.getGenerationMode() == GenerationMode.EXHAUSTIVE) {
 			ensureValidExhaustiveMode();
-			effectiveConfiguration = effectiveConfiguration.withTries(
-				Math.toIntExact(getOptionalExhaustive().get().maxCount())
-			);
+			effectiveConfiguration = effectiveConfiguration.withTries(getOptionalExhaustive().get().maxCount());
 		} else if (effectiveConfiguration.getGenerationMode() == GenerationMode.AUTO) {
 			effectiveConfiguration = chooseGenerationMode(effectiveConfiguration);
 		}
 
-		ForAllParametersGenerator forAllParametersGenerator = createForAllParametersGenerator(effectiveConfiguration);
+		GenerationSource generationSource = effectiveConfiguration.getGenerationMode() == GenerationMode.RANDOMIZED
+												? provideGenerationSourceHook.provide(propertyLifecycleContext)
+												: GenerationSource.DEFAULT;
+		ForAllParametersGenerator forAllParametersGenerator = createForAllParametersGenerator(effectiveConfiguration, generationSource);
 		ParametersGenerator parametersGenerator = new ResolvingParametersGenerator(
 			propertyParameters,
 			forAllParametersGenerator,
@@ -163,17 +168,27 @@ public class CheckedProperty {
 		}
 
 		Supplier<TryLifecycleContext> tryLifecycleContextSupplier = () -> new DefaultTryLifecycleContext(propertyLifecycleContext);
-		return new GenericProperty(propertyName, effectiveConfiguration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier);
+		return new GenericProperty(
+			propertyName,
+			effectiveConfiguration,
+			parametersGenerator,
+			tryLifecycleExecutor,
+			tryLifecycleContextSupplier,
+			generationSource
+		);
 	}
 
-	private ForAllParametersGenerator createForAllParametersGenerator(PropertyConfiguration effectiveConfiguration) {
+	private ForAllParametersGenerator createForAllParametersGenerator(
+		PropertyConfiguration effectiveConfiguration,
+		GenerationSource generationSource
+	) {
 		switch (effectiveConfiguration.getGenerationMode()) {
 			case EXHAUSTIVE:
 				return getOptionalExhaustive().get();
 			case DATA_DRIVEN:
 				return createDataBasedShrinkablesGenerator(effectiveConfiguration);
 			default:
-				return createRandomizedShrinkablesGenerator(effectiveConfiguration);
+				return createRandomizedShrinkablesGenerator(effectiveConfiguration, generationSource);
 		}
 	}
 
@@ -231,14 +246,18 @@ public class CheckedProperty {
 		return new DataBasedShrinkablesGenerator(forAllParameters, optionalData.get());
 	}
 
-	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration) {
+	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(
+		PropertyConfiguration configuration,
+		GenerationSource generationSource
+	) {
 		Random random = SourceOfRandomness.create(configuration.getSeed());
 		return RandomizedShrinkablesGenerator.forParameters(
 			forAllParameters,
 			arbitraryResolver,
 			random,
-			configuration.getTries(),
-			configuration.getEdgeCasesMode()
+			Math.toIntExact(configuration.getTries()),
+			configuration.getEdgeCasesMode(),
+			generationSource
 		);
 	}
 
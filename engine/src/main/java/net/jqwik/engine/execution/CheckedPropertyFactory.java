@@ -18,7 +18,8 @@ public class CheckedPropertyFactory {
 		PropertyLifecycleContext propertyLifecycleContext,
 		AroundTryHook aroundTry,
 		ResolveParameterHook parameterResolver,
-		InvokePropertyMethodHook invokeMethod
+		InvokePropertyMethodHook invokeMethod,
+		ProvideGenerationSourceHook provideGenerationSource
 	) {
 		String propertyName = propertyMethodDescriptor.extendedLabel();
 
@@ -43,6 +44,7 @@ public class CheckedPropertyFactory {
 			propertyParameters,
 			new CachingArbitraryResolver(arbitraryResolver),
 			parameterResolver,
+			provideGenerationSource,
 			propertyLifecycleContext,
 			optionalData,
 			configuration
@@ -79,6 +81,13 @@ public class CheckedPropertyFactory {
 		InvokePropertyMethodHook invokeMethod
 	) {
 		Method targetMethod = propertyLifecycleContext.targetMethod();
+		if (invokeMethod == InvokePropertyMethodHook.DEFAULT) {
+			Optional<CheckedFunction> boundMethod = BoundPropertyMethod.bind(targetMethod, propertyLifecycleContext.testInstance());
+			if (boundMethod.isPresent()) {
+				return boundMethod.get();
+			}
+		}
+
 		Function<List<Object>, Object> function = params -> {
 			try {
 				return invokeMethod.invoke(targetMethod, propertyLifecycleContext.testInstance(), params.toArray());
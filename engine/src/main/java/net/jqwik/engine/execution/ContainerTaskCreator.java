@@ -16,6 +16,11 @@ import net.jqwik.engine.support.*;
 
 class ContainerTaskCreator {
 
+	// The task returned for a container only prepares it. Its finish task must be known
+	// so that an enclosing container is not finished before all nested containers are.
+	// Sibling containers still run and finish independently of each other.
+	private final Map<ExecutionTask, ExecutionTask> finishTasks = new IdentityHashMap<>();
+
 	ExecutionTask createTask(
 		TestDescriptor containerDescriptor,
 		ExecutionTaskCreator childTaskCreator,
@@ -88,6 +93,7 @@ class ContainerTaskCreator {
 					listener.executionFinished(containerDescriptor, propertyExecutionResult);
 
 					// TODO: Move to AfterContainerExecutor as soon as there is one
+					StoreRepository.getCurrent().finishContainer(containerDescriptor);
 					StoreRepository.getCurrent().finishScope(containerDescriptor);
 				}
 			},
@@ -98,11 +104,18 @@ class ContainerTaskCreator {
 		if (childrenTasks.length == 0)
 			pipeline.submit(finishContainerTask, prepareContainerTask);
 		else
-			pipeline.submit(finishContainerTask, childrenTasks);
+			pipeline.submit(finishContainerTask, finishTasksOf(childrenTasks));
 
+		finishTasks.put(prepareContainerTask, finishContainerTask);
 		return prepareContainerTask;
 	}
 
+	private ExecutionTask[] finishTasksOf(ExecutionTask[] childrenTasks) {
+		return Arrays.stream(childrenTasks)
+					 .map(childTask -> finishTasks.getOrDefault(childTask, childTask))
+					 .toArray(ExecutionTask[]::new);
+	}
+
 	private ContainerLifecycleContext createLifecycleContext(
 		TestDescriptor containerDescriptor,
 		Reporter reporter,
@@ -13,7 +13,7 @@ public class GenerationInfo implements Serializable {
 	public final static GenerationInfo NULL = new GenerationInfo(null);
 
 	private final String randomSeed;
-	private final int generationIndex;
+	private final long generationIndex;
 
 	// Store ordinals instead of enum objects so that serialization
 	// in jqwik.database uses less disk space
@@ -23,11 +23,11 @@ public class GenerationInfo implements Serializable {
 		this(randomSeed, 0);
 	}
 
-	public GenerationInfo(String randomSeed, int generationIndex) {
+	public GenerationInfo(String randomSeed, long generationIndex) {
 		this(randomSeed, generationIndex, Collections.emptyList());
 	}
 
-	private GenerationInfo(String randomSeed, int generationIndex, List<List<Byte>> byteSequences) {
+	private GenerationInfo(String randomSeed, long generationIndex, List<List<Byte>> byteSequences) {
 		this.randomSeed = randomSeed != null ? (randomSeed.isEmpty() ? null : randomSeed) : null;
 		this.generationIndex = generationIndex;
 		this.byteSequences = byteSequences;
@@ -46,11 +46,59 @@ public class GenerationInfo implements Serializable {
 		return new GenerationInfo(randomSeed, generationIndex, newByteSequences);
 	}
 
+	/**
+	 * Write this generation info in the binary format of jqwik's test run database.
+	 */
+	public void writeTo(DataOutput out) throws IOException {
+		out.writeBoolean(randomSeed != null);
+		if (randomSeed != null) {
+			out.writeUTF(randomSeed);
+		}
+		out.writeLong(generationIndex);
+		out.writeInt(byteSequences.size());
+		for (List<Byte> bytes : byteSequences) {
+			out.writeInt(bytes.size());
+			for (Byte ordinal : bytes) {
+				out.writeByte(ordinal);
+			}
+		}
+	}
+
+	/**
+	 * Read a generation info that has been written by {@linkplain #writeTo(DataOutput)}.
+	 */
+	public static GenerationInfo readFrom(DataInput in) throws IOException {
+		String randomSeed = in.readBoolean() ? in.readUTF() : null;
+		long generationIndex = in.readLong();
+		int numberOfSequences = in.readInt();
+		if (numberOfSequences < 0) {
+			throw new IOException(String.format("Illegal number of shrinking sequences: %s", numberOfSequences));
+		}
+		int numberOfStatuses = TryExecutionResult.Status.values().length;
+		List<List<Byte>> byteSequences = new ArrayList<>();
+		for (int i = 0; i < numberOfSequences; i++) {
+			int length = in.readInt();
+			if (length < 0) {
+				throw new IOException(String.format("Illegal length of shrinking sequence: %s", length));
+			}
+			List<Byte> bytes = new ArrayList<>();
+			for (int j = 0; j < length; j++) {
+				byte ordinal = in.readByte();
+				if (ordinal < 0 || ordinal >= numberOfStatuses) {
+					throw new IOException(String.format("Illegal status in shrinking sequence: %s", ordinal));
+				}
+				bytes.add(ordinal);
+			}
+			byteSequences.add(bytes);
+		}
+		return new GenerationInfo(randomSeed, generationIndex, byteSequences);
+	}
+
 	public Optional<String> randomSeed() {
 		return Optional.ofNullable(randomSeed);
 	}
 
-	public int generationIndex() {
+	public long generationIndex() {
 		return generationIndex;
 	}
 
@@ -79,15 +127,13 @@ public class GenerationInfo implements Serializable {
 	}
 
 	private List<Shrinkable<Object>> useGenerationIndex(ParametersGenerator generator, TryLifecycleContext context) {
-		List<Shrinkable<Object>> sample = null;
-		for (int i = 0; i < generationIndex; i++) {
-			if (generator.hasNext()) {
-				sample = generator.next(context);
-			} else {
-				return null;
-			}
+		if (generationIndex <= 0) {
+			return null;
+		}
+		if (!generator.skip(generationIndex - 1, context) || !generator.hasNext()) {
+			return null;
 		}
-		return sample;
+		return generator.next(context);
 	}
 
 	public List<List<TryExecutionResult.Status>> shrinkingSequences() {
@@ -114,14 +160,14 @@ public class GenerationInfo implements Serializable {
 	@Override
 	public int hashCode() {
 		int result = randomSeed != null ? randomSeed.hashCode() : 0;
-		result = 31 * result + generationIndex;
+		result = 31 * result + Long.hashCode(generationIndex);
 		return result;
 	}
 
 	@Override
 	public String toString() {
 		List<String> sizes = byteSequences.stream().map(bytes -> "size=" + bytes.size()).collect(Collectors.toList());
-		Tuple.Tuple3<String, Integer, List<String>> tuple = Tuple.of(randomSeed, generationIndex, sizes);
+		Tuple.Tuple3<String, Long, List<String>> tuple = Tuple.of(randomSeed, generationIndex, sizes);
 		return String.format("GenerationInfo%s", tuple);
 	}
 }
@@ -11,6 +11,23 @@ public interface ParametersGenerator {
 
 	List<Shrinkable<Object>> next(TryLifecycleContext context);
 
+	/**
+	 * Skip the next {@code numberOfSamples} samples.
+	 * Implementations can override this method to skip samples
+	 * without actually generating them.
+	 *
+	 * @return false if there are fewer samples left than should be skipped
+	 */
+	default boolean skip(long numberOfSamples, TryLifecycleContext context) {
+		for (long i = 0; i < numberOfSamples; i++) {
+			if (!hasNext()) {
+				return false;
+			}
+			next(context);
+		}
+		return true;
+	}
+
 	int edgeCasesTotal();
 
 	int edgeCasesTried();
@@ -41,12 +41,13 @@ public class PropertyMethodExecutor {
 		AroundTryHook aroundTry = lifecycleSupplier.aroundTryHook(methodDescriptor);
 		ResolveParameterHook resolveParameter = lifecycleSupplier.resolveParameterHook(methodDescriptor);
 		InvokePropertyMethodHook invokeMethodHook = lifecycleSupplier.invokePropertyMethodHook(methodDescriptor);
+		ProvideGenerationSourceHook provideGenerationSource = lifecycleSupplier.provideGenerationSourceHook(methodDescriptor);
 
 		PropertyExecutionResult propertyExecutionResult;
 		try {
 			propertyExecutionResult = aroundProperty.aroundProperty(
 				propertyLifecycleContext,
-				() -> executeMethod(aroundTry, resolveParameter, invokeMethodHook)
+				() -> executeMethod(aroundTry, resolveParameter, invokeMethodHook, provideGenerationSource)
 			);
 		} catch (Throwable throwable) {
 			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
@@ -63,10 +64,11 @@ public class PropertyMethodExecutor {
 	private ExtendedPropertyExecutionResult executeMethod(
 		AroundTryHook aroundTry,
 		ResolveParameterHook resolveParameter,
-		InvokePropertyMethodHook invokeMethodHook
+		InvokePropertyMethodHook invokeMethodHook,
+		ProvideGenerationSourceHook provideGenerationSource
 	) {
 		try {
-			return executeProperty(aroundTry, resolveParameter, invokeMethodHook);
+			return executeProperty(aroundTry, resolveParameter, invokeMethodHook, provideGenerationSource);
 		} catch (TestAbortedException e) {
 			return PlainExecutionResult.aborted(e, methodDescriptor.getConfiguration().getSeed());
 		} catch (Throwable t) {
@@ -78,14 +80,16 @@ public class PropertyMethodExecutor {
 	private PropertyCheckResult executeProperty(
 		AroundTryHook aroundTry,
 		ResolveParameterHook resolveParameter,
-		InvokePropertyMethodHook invokeMethodHook
+		InvokePropertyMethodHook invokeMethodHook,
+		ProvideGenerationSourceHook provideGenerationSource
 	) {
 		CheckedProperty property = checkedPropertyFactory.fromDescriptor(
 			methodDescriptor,
 			propertyLifecycleContext,
 			aroundTry,
 			resolveParameter,
-			invokeMethodHook
+			invokeMethodHook,
+			provideGenerationSource
 		);
 		return property.check(methodDescriptor.getReporting());
 	}
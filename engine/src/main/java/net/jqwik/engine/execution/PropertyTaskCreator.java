@@ -1,12 +1,16 @@
 package net.jqwik.engine.execution;
 
 import java.lang.reflect.*;
+import java.util.*;
+
+import org.junit.platform.commons.support.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.domains.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.SkipExecutionHook.*;
 import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.discovery.predicates.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
 import net.jqwik.engine.execution.reporting.*;
@@ -66,10 +70,30 @@ class PropertyTaskCreator {
 				return TaskExecutionResult.success();
 			},
 			methodDescriptor,
-			"executing " + methodDescriptor.getDisplayName()
+			"executing " + methodDescriptor.getDisplayName(),
+			resourceLocks(methodDescriptor)
 		);
 	}
 
+	private Set<String> resourceLocks(PropertyMethodDescriptor methodDescriptor) {
+		Set<String> locks = new HashSet<>();
+		Class<?> containerClass = methodDescriptor.getContainerClass();
+		AnnotationSupport.findAnnotation(methodDescriptor.getTargetMethod(), ResourceLock.class)
+						 .ifPresent(lock -> locks.add(lockName(lock, containerClass)));
+		Class<?> current = containerClass;
+		while (current != null) {
+			Class<?> annotatedClass = current;
+			AnnotationSupport.findAnnotation(annotatedClass, ResourceLock.class)
+							 .ifPresent(lock -> locks.add(lockName(lock, annotatedClass)));
+			current = new IsContainerAGroup().test(current) ? current.getDeclaringClass() : null;
+		}
+		return locks;
+	}
+
+	private String lockName(ResourceLock lock, Class<?> annotatedClass) {
+		return lock.value().isEmpty() ? annotatedClass.getName() : lock.value();
+	}
+
 	private DomainContext createDomainContext(
 		PropertyMethodDescriptor methodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext
@@ -20,17 +20,17 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 	}
 
 	@Override
-	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+	public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
 		listener.executionSkipped(testDescriptor, reason);
 	}
 
 	@Override
-	public void executionStarted(TestDescriptor testDescriptor) {
+	public synchronized void executionStarted(TestDescriptor testDescriptor) {
 		listener.executionStarted(testDescriptor);
 	}
 
 	@Override
-	public void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+	public synchronized void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
 		recordTestRun(testDescriptor, executionResult);
 		listener.executionFinished(testDescriptor, toTestExecutionResult(executionResult));
 	}
@@ -61,7 +61,7 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 	}
 
 	@Override
-	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+	public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
 		if (useJunitPlatformReporter) {
 			listener.reportingEntryPublished(testDescriptor, entry);
 		} else {
@@ -12,7 +12,7 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 	private final List<MethodParameter> propertyParameters;
 	private final ForAllParametersGenerator forAllParametersGenerator;
 	private final ParameterSupplierResolver parameterSupplierResolver;
-	private int currentGenerationIndex = 0;
+	private long currentGenerationIndex = 0;
 
 	public ResolvingParametersGenerator(
 		List<MethodParameter> propertyParameters,
@@ -48,6 +48,16 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		return next;
 	}
 
+	@Override
+	public boolean skip(long numberOfSamples, TryLifecycleContext context) {
+		// Non @ForAll parameters are resolved per try and need not be skipped
+		if (!forAllParametersGenerator.skip(numberOfSamples)) {
+			return false;
+		}
+		currentGenerationIndex += numberOfSamples;
+		return true;
+	}
+
 	@Override
 	public int edgeCasesTotal() {
 		return forAllParametersGenerator.edgeCasesTotal();
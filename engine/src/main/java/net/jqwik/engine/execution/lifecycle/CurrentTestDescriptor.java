@@ -5,6 +5,8 @@ import java.util.function.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.engine.descriptor.*;
+
 public class CurrentTestDescriptor {
 
 	// Current test descriptors are stored in a stack because one test might invoke others
@@ -35,6 +37,18 @@ public class CurrentTestDescriptor {
 		return descriptors.get().isEmpty();
 	}
 
+	/**
+	 * The innermost property being executed on the current thread - if any.
+	 * While creating a property's test instance, the container descriptor
+	 * is on top of the property descriptor.
+	 */
+	public static Optional<TestDescriptor> currentProperty() {
+		return descriptors.get()
+						  .stream()
+						  .filter(descriptor -> descriptor instanceof PropertyMethodDescriptor)
+						  .findFirst();
+	}
+
 	public static TestDescriptor get() {
 		if (isEmpty()) {
 			String message = String.format("The current action must be run on a jqwik thread, i.e. container, property or hook.%n" +
@@ -1,5 +1,6 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
@@ -10,6 +11,29 @@ public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult
 
 	boolean isExtended();
 
+	/**
+	 * Same as {@linkplain #countTries()} but not capped at {@code Integer.MAX_VALUE},
+	 * which can be exceeded by exhaustive generation.
+	 */
+	default long countTriesAsLong() {
+		return countTries();
+	}
+
+	/**
+	 * Same as {@linkplain #countChecks()} but not capped at {@code Integer.MAX_VALUE},
+	 * which can be exceeded by exhaustive generation.
+	 */
+	default long countChecksAsLong() {
+		return countChecks();
+	}
+
+	/**
+	 * The time spent on generating and executing tries, which does not include shrinking.
+	 */
+	default Optional<Duration> triesDuration() {
+		return Optional.empty();
+	}
+
 	@Override
 	default Optional<String> seed() {
 		return generationInfo().randomSeed();
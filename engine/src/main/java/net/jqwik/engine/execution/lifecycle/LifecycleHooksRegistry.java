@@ -72,6 +72,11 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return getSingletonHook(testDescriptor, ProvidePropertyInstanceHook.class, ProvidePropertyInstanceHook.DEFAULT);
 	}
 
+	@Override
+	public ProvideGenerationSourceHook provideGenerationSourceHook(TestDescriptor testDescriptor) {
+		return getSingletonHook(testDescriptor, ProvideGenerationSourceHook.class, ProvideGenerationSourceHook.DEFAULT);
+	}
+
 	private <T extends LifecycleHook> T getSingletonHook(TestDescriptor testDescriptor, Class<T> hookType, T defaultHook) {
 		List<T> invokeMethodHooks = findHooks(testDescriptor, hookType, dontCompare());
 		if (invokeMethodHooks.isEmpty()) {
@@ -22,4 +22,6 @@ public interface LifecycleHooksSupplier {
 	InvokePropertyMethodHook invokePropertyMethodHook(TestDescriptor testDescriptor);
 
 	ProvidePropertyInstanceHook providePropertyInstanceHook(TestDescriptor testDescriptor);
+
+	ProvideGenerationSourceHook provideGenerationSourceHook(TestDescriptor testDescriptor);
 }
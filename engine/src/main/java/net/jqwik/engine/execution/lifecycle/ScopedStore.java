@@ -1,5 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.logging.*;
 
@@ -19,8 +21,13 @@ public class ScopedStore<T> implements Store<T> {
 	private final TestDescriptor scope;
 	private final Supplier<T> initialValueSupplier;
 
-	private T value;
-	private boolean initialized = false;
+	private static final Object SHARED_PARTITION = new Object();
+
+	// Values are partitioned so that concurrently running properties or tries do not see each other's values:
+	// - Lifespan TRY: one value per thread
+	// - Lifespan PROPERTY: one value per currently executed property or - outside of properties - per container
+	// - Lifespan RUN: one shared value
+	private final Map<Object, StoredValue<T>> values = new ConcurrentHashMap<>();
 
 	public ScopedStore(
 		Object identifier,
@@ -36,11 +43,12 @@ public class ScopedStore<T> implements Store<T> {
 
 	@Override
 	public synchronized T get() {
-		if (!initialized) {
-			value = initialValueSupplier.get();
-			initialized = true;
+		StoredValue<T> storedValue = values.computeIfAbsent(currentPartition(), ignore -> new StoredValue<>());
+		if (!storedValue.initialized) {
+			storedValue.value = initialValueSupplier.get();
+			storedValue.initialized = true;
 		}
-		return value;
+		return storedValue.value;
 	}
 
 	@Override
@@ -50,16 +58,49 @@ public class ScopedStore<T> implements Store<T> {
 
 	@Override
 	public synchronized void update(Function<T, T> updater) {
-		value = updater.apply(get());
+		T newValue = updater.apply(get());
+		values.get(currentPartition()).value = newValue;
 	}
 
 	@Override
 	public synchronized void reset() {
-		close();
-		initialized = false;
+		resetPartition(currentPartition());
+	}
+
+	synchronized void finishProperty(TestDescriptor property) {
+		reset();
+		resetPartition(property);
+	}
+
+	synchronized void finishContainer(TestDescriptor container) {
+		resetPartition(container);
+	}
 
-		// Free memory as soon as possible, the store object might go live on for a while:
-		value = null;
+	private void resetPartition(Object partition) {
+		// Removing the value also frees memory as soon as possible, the store object might go live on for a while
+		StoredValue<T> storedValue = values.remove(partition);
+		if (storedValue != null) {
+			closeOnReset(storedValue);
+		}
+	}
+
+	private Object currentPartition() {
+		switch (lifespan) {
+			case TRY:
+				return Thread.currentThread();
+			case PROPERTY:
+				return CurrentTestDescriptor.currentProperty().map(property -> (Object) property).orElseGet(this::currentContainerPartition);
+			default:
+				return SHARED_PARTITION;
+		}
+	}
+
+	// Values set in container hooks are reset when the container finishes
+	private Object currentContainerPartition() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return SHARED_PARTITION;
+		}
+		return CurrentTestDescriptor.get();
 	}
 
 	public Object getIdentifier() {
@@ -75,10 +116,14 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	private boolean isInScope(TestDescriptor retriever) {
-		if (retriever == scope) {
-			return true;
+		TestDescriptor current = retriever;
+		while (current != null) {
+			if (current == scope) {
+				return true;
+			}
+			current = current.getParent().orElse(null);
 		}
-		return retriever.getParent().map(this::isInScope).orElse(false);
+		return false;
 	}
 
 	@Override
@@ -88,21 +133,26 @@ public class ScopedStore<T> implements Store<T> {
 			displayString(identifier),
 			lifespan.name(),
 			scope.getUniqueId(),
-			displayString(value)
+			displayString(displayValue())
 		);
 	}
 
-	public void close() {
-		if (!initialized) {
-			return;
-		}
-		closeOnReset();
+	private T displayValue() {
+		StoredValue<T> storedValue = values.get(currentPartition());
+		return storedValue != null ? storedValue.value : null;
+	}
+
+	public synchronized void close() {
+		values.values().forEach(this::closeOnReset);
 	}
 
-	private void closeOnReset() {
-		if (value instanceof Store.CloseOnReset) {
+	private void closeOnReset(StoredValue<T> storedValue) {
+		if (!storedValue.initialized) {
+			return;
+		}
+		if (storedValue.value instanceof Store.CloseOnReset) {
 			try {
-				((Store.CloseOnReset) value).close();
+				((Store.CloseOnReset) storedValue.value).close();
 			} catch (Throwable throwable) {
 				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
 				String message = String.format("Exception while closing store [%s]", this);
@@ -111,5 +161,9 @@ public class ScopedStore<T> implements Store<T> {
 		}
 	}
 
-}
+	private static class StoredValue<T> {
+		private T value;
+		private boolean initialized = false;
+	}
 
+}
@@ -1,8 +1,8 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
@@ -10,7 +10,18 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 /**
- * StoreRepository and ScopedStore CANNOT handle concurrent execution of properties!
+ * StoreRepository and ScopedStore can handle concurrent execution of properties and tries.
+ * Values of stores are partitioned by property (lifespan PROPERTY) or by thread (lifespan TRY).
+ *
+ * <p>
+ * Stores are indexed by identifier and by scope. Since a store is visible for its scope and all descendants,
+ * lookups and resets only have to check the retriever's ancestors instead of all stores.
+ * </p>
+ *
+ * <p>
+ * Lookups do not lock. Creating and removing stores locks the stores with the same identifier only,
+ * so that concurrent tries do not contend on a single lock when they create or use different stores.
+ * </p>
  */
 public class StoreRepository {
 
@@ -25,9 +36,10 @@ public class StoreRepository {
 		return current;
 	}
 
-	private static class IdentifiedStores extends LinkedHashMap<TestDescriptor, ScopedStore<?>> {}
+	private static class IdentifiedStores extends ConcurrentHashMap<TestDescriptor, ScopedStore<?>> {}
 
-	private final Map<Object, IdentifiedStores> storesByIdentifier = new LinkedHashMap<>();
+	private final Map<Object, IdentifiedStores> storesByIdentifier = new ConcurrentHashMap<>();
+	private final Map<TestDescriptor, List<ScopedStore<?>>> storesByScope = new ConcurrentHashMap<>();
 
 	public <T> ScopedStore<T> create(
 		TestDescriptor scope,
@@ -35,6 +47,32 @@ public class StoreRepository {
 		Lifespan lifespan,
 		Supplier<T> initialValueSupplier
 	) {
+		checkArguments(scope, identifier, lifespan, initialValueSupplier);
+		return withIdentifiedStores(identifier, identifiedStores -> addStore(identifiedStores, identifier, lifespan, scope, initialValueSupplier));
+	}
+
+	/**
+	 * Retrieve the store visible for {@code scope} or create it if there is none.
+	 * Retrieval and creation are atomic for stores with the same identifier.
+	 */
+	public <T> ScopedStore<T> getOrCreate(
+		TestDescriptor scope,
+		Object identifier,
+		Lifespan lifespan,
+		Supplier<T> initialValueSupplier
+	) {
+		checkArguments(scope, identifier, lifespan, initialValueSupplier);
+		Optional<ScopedStore<T>> existingStore = get(scope, identifier);
+		if (existingStore.isPresent()) {
+			return existingStore.get();
+		}
+		return withIdentifiedStores(identifier, identifiedStores -> {
+			Optional<ScopedStore<T>> storeCreatedMeanwhile = getFirstVisibleStore(scope, identifiedStores);
+			return storeCreatedMeanwhile.orElseGet(() -> addStore(identifiedStores, identifier, lifespan, scope, initialValueSupplier));
+		});
+	}
+
+	private void checkArguments(TestDescriptor scope, Object identifier, Lifespan lifespan, Supplier<?> initialValueSupplier) {
 		if (scope == null) {
 			throw new IllegalArgumentException("scope must not be null");
 		}
@@ -47,13 +85,29 @@ public class StoreRepository {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
-		ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initialValueSupplier);
-		addStore(identifier, store);
-		return store;
 	}
 
-	private <T> void addStore(Object identifier, ScopedStore<T> newStore) {
-		IdentifiedStores identifiedStores = storesByIdentifier.computeIfAbsent(newStore.getIdentifier(), ignore -> new IdentifiedStores());
+	// Stores with the same identifier are locked together.
+	// An index entry that has been removed while waiting for its lock must not be used any longer.
+	private <R> R withIdentifiedStores(Object identifier, Function<IdentifiedStores, R> action) {
+		while (true) {
+			IdentifiedStores identifiedStores = storesByIdentifier.computeIfAbsent(identifier, ignore -> new IdentifiedStores());
+			synchronized (identifiedStores) {
+				if (storesByIdentifier.get(identifier) == identifiedStores) {
+					return action.apply(identifiedStores);
+				}
+			}
+		}
+	}
+
+	private <T> ScopedStore<T> addStore(
+		IdentifiedStores identifiedStores,
+		Object identifier,
+		Lifespan lifespan,
+		TestDescriptor scope,
+		Supplier<T> initialValueSupplier
+	) {
+		ScopedStore<T> newStore = new ScopedStore<>(identifier, lifespan, scope, initialValueSupplier);
 
 		Optional<ScopedStore<?>> conflictingStore =
 			identifiedStores
@@ -72,8 +126,14 @@ public class StoreRepository {
 			throw new JqwikException(message);
 		});
 
-		identifiedStores.put(newStore.getScope(), newStore);
-		storesByIdentifier.put(identifier, identifiedStores);
+		identifiedStores.put(scope, newStore);
+		// Adding within compute() cannot interfere with the removal of a scope's last store
+		storesByScope.compute(scope, (ignore, storesInScope) -> {
+			List<ScopedStore<?>> stores = storesInScope == null ? new CopyOnWriteArrayList<>() : storesInScope;
+			stores.add(newStore);
+			return stores;
+		});
+		return newStore;
 	}
 
 	private <T> boolean isVisibleInAncestorOrDescendant(ScopedStore<T> newStore, ScopedStore<?> store) {
@@ -93,70 +153,88 @@ public class StoreRepository {
 		}
 	}
 
+	// Stores with the same identifier cannot be visible in ancestor and descendant,
+	// so there is at most one visible store which is found by walking up the retriever's ancestors
 	@SuppressWarnings("unchecked")
 	private <T> Optional<ScopedStore<T>> getFirstVisibleStore(TestDescriptor retriever, IdentifiedStores identifiedStores) {
-		return identifiedStores.values()
-							   .stream()
-							   .filter(store -> store.isVisibleFor(retriever))
-							   .map(store -> (ScopedStore<T>) store)
-							   .findFirst();
+		TestDescriptor current = retriever;
+		while (current != null) {
+			ScopedStore<?> store = identifiedStores.get(current);
+			if (store != null) {
+				return Optional.of((ScopedStore<T>) store);
+			}
+			current = current.getParent().orElse(null);
+		}
+		return Optional.empty();
 	}
 
-	public void finishScope(TestDescriptor scope) {
-		List<ScopedStore<?>> storesToRemove =
-			streamAllStores()
-				.filter(store -> isStoreIn(store, scope))
-				.collect(Collectors.toList());
+	public synchronized void finishScope(TestDescriptor scope) {
+		List<ScopedStore<?>> storesToRemove = new ArrayList<>();
+		collectStoresIn(scope, storesToRemove);
+		for (TestDescriptor descendant : scope.getDescendants()) {
+			collectStoresIn(descendant, storesToRemove);
+		}
 
-		// forEach does not work because map underlying the stream is changed
 		for (ScopedStore<?> store : storesToRemove) {
 			store.close();
 			removeStore(store);
 		}
 	}
 
+	private void collectStoresIn(TestDescriptor scope, List<ScopedStore<?>> stores) {
+		List<ScopedStore<?>> storesInScope = storesByScope.get(scope);
+		if (storesInScope != null) {
+			stores.addAll(storesInScope);
+		}
+	}
+
 	private void removeStore(ScopedStore<?> store) {
 		IdentifiedStores identifiedStores = storesByIdentifier.get(store.getIdentifier());
-		identifiedStores.remove(store.getScope());
-		if (identifiedStores.isEmpty()) {
-			storesByIdentifier.remove(store.getIdentifier());
+		if (identifiedStores != null) {
+			synchronized (identifiedStores) {
+				identifiedStores.remove(store.getScope());
+				if (identifiedStores.isEmpty()) {
+					storesByIdentifier.remove(store.getIdentifier(), identifiedStores);
+				}
+			}
 		}
+		storesByScope.computeIfPresent(store.getScope(), (scope, storesInScope) -> {
+			storesInScope.remove(store);
+			return storesInScope.isEmpty() ? null : storesInScope;
+		});
 	}
 
-	private Stream<ScopedStore<?>> streamAllStores() {
-		Collection<IdentifiedStores> values = new ArrayList<>(storesByIdentifier.values());
-		return values
-			.stream()
-			.flatMap(identifiedStores -> new ArrayList<>(identifiedStores.values()).stream());
-
-		// TODO: Above implementation tries to get rid of ConcurrentModificationException
-		//       reported in https://github.com/jlink/jqwik/issues/210.
-		//       Evaluate if it really does.
-		// return storesByIdentifier
-		// 		   .values()
-		// 		   .stream()
-		// 		   .flatMap(identifiedStores -> identifiedStores.values().stream());
+	public void finishProperty(TestDescriptor scope) {
+		storesToReset(Lifespan.PROPERTY, scope).forEach(store -> store.finishProperty(scope));
 	}
 
-	private boolean isStoreIn(ScopedStore<?> store, TestDescriptor scope) {
-		return store.getScope().equals(scope) || scope.getDescendants().contains(store.getScope());
+	public void finishContainer(TestDescriptor container) {
+		storesToReset(Lifespan.PROPERTY, container).forEach(store -> store.finishContainer(container));
 	}
 
-	public void finishProperty(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+	public void finishTry(TestDescriptor scope) {
+		storesToReset(Lifespan.TRY, scope).forEach(Store::reset);
 	}
 
-	public void finishTry(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.TRY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+	// Only stores of the scope and its ancestors are visible for the scope
+	private List<ScopedStore<?>> storesToReset(Lifespan lifespan, TestDescriptor scope) {
+		List<ScopedStore<?>> storesToReset = new ArrayList<>();
+		TestDescriptor current = scope;
+		while (current != null) {
+			List<ScopedStore<?>> storesInScope = storesByScope.get(current);
+			if (storesInScope != null) {
+				for (ScopedStore<?> store : storesInScope) {
+					if (store.lifespan() == lifespan) {
+						storesToReset.add(store);
+					}
+				}
+			}
+			current = current.getParent().orElse(null);
+		}
+		return storesToReset;
 	}
 
 	public int size() {
-		return storesByIdentifier.values().stream().mapToInt(HashMap::size).sum();
+		return storesByScope.values().stream().mapToInt(List::size).sum();
 	}
 }
@@ -0,0 +1,131 @@
+package net.jqwik.engine.execution.pipeline;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Runs the tasks of an {@linkplain ExecutionPipeline} on a pool of worker threads.
+ *
+ * <p>
+ * A task is started as soon as all its predecessors have finished
+ * and none of its resource locks is held by a running task.
+ * Among all executable tasks the one closest to the head of the pipeline's queue is chosen,
+ * so that tasks moved to the front are still started first.
+ * </p>
+ */
+class ConcurrentTaskScheduler {
+
+	private final ExecutionPipeline pipeline;
+	private final int parallelism;
+
+	private final Map<ExecutionTask, TaskExecutionResult> results = new IdentityHashMap<>();
+	private final Set<ExecutionTask> running = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Set<String> lockedResources = new HashSet<>();
+	private Throwable fatalThrowable = null;
+
+	ConcurrentTaskScheduler(ExecutionPipeline pipeline, int parallelism) {
+		this.pipeline = pipeline;
+		this.parallelism = parallelism;
+	}
+
+	void runToTermination() {
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism, workerThreadFactory());
+		try {
+			synchronized (pipeline) {
+				while (!running.isEmpty() || (fatalThrowable == null && !pipeline.queuedTasks().isEmpty())) {
+					Optional<ExecutionTask> executableTask = fatalThrowable == null ? nextExecutableTask() : Optional.empty();
+					if (executableTask.isPresent()) {
+						start(executableTask.get(), executorService);
+					} else {
+						pipeline.wait();
+					}
+				}
+			}
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		} finally {
+			executorService.shutdownNow();
+		}
+		if (fatalThrowable != null) {
+			JqwikExceptionSupport.throwAsUncheckedException(fatalThrowable);
+		}
+	}
+
+	private Optional<ExecutionTask> nextExecutableTask() {
+		if (running.size() >= parallelism) {
+			return Optional.empty();
+		}
+		for (ExecutionTask task : pipeline.queuedTasks()) {
+			if (allPredecessorsFinished(task) && resourcesAvailable(task)) {
+				return Optional.of(task);
+			}
+		}
+		if (running.isEmpty()) {
+			String message = String.format("Tasks %s can never be executed. Is there a cycle of predecessors?", pipeline.queuedTasks());
+			throw new JqwikException(message);
+		}
+		return Optional.empty();
+	}
+
+	private boolean allPredecessorsFinished(ExecutionTask task) {
+		return Arrays.stream(pipeline.predecessorsOf(task)).allMatch(pipeline::isFinished);
+	}
+
+	private boolean resourcesAvailable(ExecutionTask task) {
+		return task.resourceLocks().stream().noneMatch(lockedResources::contains);
+	}
+
+	private void start(ExecutionTask task, ExecutorService executorService) {
+		TaskExecutionResult predecessorResult = predecessorResult(task);
+		pipeline.queuedTasks().remove(task);
+		running.add(task);
+		lockedResources.addAll(task.resourceLocks());
+		executorService.execute(() -> {
+			TaskExecutionResult result;
+			Throwable fatal = null;
+			try {
+				result = task.execute(pipeline.executionListener(), predecessorResult);
+			} catch (Throwable throwable) {
+				fatal = throwable;
+				result = TaskExecutionResult.failure(throwable);
+			}
+			finish(task, result, fatal);
+		});
+	}
+
+	private void finish(ExecutionTask task, TaskExecutionResult result, Throwable fatal) {
+		synchronized (pipeline) {
+			results.put(task, result);
+			running.remove(task);
+			lockedResources.removeAll(task.resourceLocks());
+			pipeline.markFinished(task);
+			if (fatal != null && fatalThrowable == null) {
+				fatalThrowable = fatal;
+			}
+			pipeline.notifyAll();
+		}
+	}
+
+	// A failing predecessor, e.g. a failing container preparation, is handed on to its successors
+	private TaskExecutionResult predecessorResult(ExecutionTask task) {
+		return Arrays.stream(pipeline.predecessorsOf(task))
+					 .map(results::get)
+					 .filter(result -> result != null && !result.successful())
+					 .findFirst()
+					 .orElse(TaskExecutionResult.success());
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		return runnable -> {
+			Thread thread = new Thread(runnable, "jqwik-executor-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
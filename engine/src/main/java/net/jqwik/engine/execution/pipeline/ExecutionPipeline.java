@@ -13,13 +13,22 @@ public class ExecutionPipeline implements Pipeline {
 	private final Map<ExecutionTask, Boolean> taskFinished = new IdentityHashMap<>();
 	private final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
 	private final PropertyExecutionListener executionListener;
+	private final int parallelism;
 
 	public ExecutionPipeline(PropertyExecutionListener executionListener) {
+		this(executionListener, 1);
+	}
+
+	public ExecutionPipeline(PropertyExecutionListener executionListener, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be at least 1");
+		}
 		this.executionListener = executionListener;
+		this.parallelism = parallelism;
 	}
 
 	@Override
-	public void submit(ExecutionTask task, ExecutionTask... predecessors) {
+	public synchronized void submit(ExecutionTask task, ExecutionTask... predecessors) {
 		if (taskFinished.containsKey(task))
 			throw new DuplicateExecutionTaskException(task);
 		taskFinished.putIfAbsent(task, false);
@@ -74,6 +83,10 @@ public class ExecutionPipeline implements Pipeline {
 	}
 
 	public void runToTermination() {
+		if (parallelism > 1) {
+			new ConcurrentTaskScheduler(this, parallelism).runToTermination();
+			return;
+		}
 		TaskExecutionResult predecessorResult = TaskExecutionResult.success();
 		while (!tasks.isEmpty()) {
 			ExecutionTask head = tasks.get(0);
@@ -85,6 +98,29 @@ public class ExecutionPipeline implements Pipeline {
 		}
 	}
 
+	List<ExecutionTask> queuedTasks() {
+		return tasks;
+	}
+
+	ExecutionTask[] predecessorsOf(ExecutionTask task) {
+		ExecutionTask[] predecessors = taskPredecessors.get(task);
+		ensurePredecessorsSubmitted(task, predecessors);
+		return predecessors;
+	}
+
+	boolean isFinished(ExecutionTask task) {
+		return taskFinished.get(task);
+	}
+
+	void markFinished(ExecutionTask task) {
+		taskFinished.put(task, true);
+		tasks.remove(task);
+	}
+
+	PropertyExecutionListener executionListener() {
+		return executionListener;
+	}
+
 	private boolean movedPredecessorsToTopOfQueue(ExecutionTask head) {
 		ExecutionTask[] predecessors = taskPredecessors.get(head);
 		ensurePredecessorsSubmitted(head, predecessors);
@@ -1,5 +1,6 @@
 package net.jqwik.engine.execution.pipeline;
 
+import java.util.*;
 import java.util.function.*;
 
 import org.junit.platform.engine.*;
@@ -14,10 +15,26 @@ public interface ExecutionTask {
 
 	TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult);
 
+	/**
+	 * Tasks that share a resource lock will never be executed concurrently.
+	 */
+	default Set<String> resourceLocks() {
+		return Collections.emptySet();
+	}
+
 	static ExecutionTask from(
 		BiFunction<PropertyExecutionListener, TaskExecutionResult, TaskExecutionResult> executor,
 		TestDescriptor owner,
 		String description
+	) {
+		return from(executor, owner, description, Collections.emptySet());
+	}
+
+	static ExecutionTask from(
+		BiFunction<PropertyExecutionListener, TaskExecutionResult, TaskExecutionResult> executor,
+		TestDescriptor owner,
+		String description,
+		Set<String> resourceLocks
 	) {
 		return new ExecutionTask() {
 			@Override
@@ -25,6 +42,11 @@ public interface ExecutionTask {
 				return owner.getUniqueId();
 			}
 
+			@Override
+			public Set<String> resourceLocks() {
+				return resourceLocks;
+			}
+
 			@Override
 			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
 				try {
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.reporting;
 
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -16,6 +17,8 @@ public class ExecutionResultReport {
 
 	private static final String TRIES_KEY = "tries";
 	private static final String CHECKS_KEY = "checks";
+	private static final String TIME_BUDGET_KEY = "time-budget";
+	private static final String TRIES_PER_SECOND_KEY = "tries#per-second";
 	private static final String GENERATION_KEY = "generation";
 	private static final String EDGE_CASES_MODE_KEY = "edge-cases#mode";
 	private static final String EDGE_CASES_TOTAL_KEY = "edge-cases#total";
@@ -35,6 +38,7 @@ public class ExecutionResultReport {
 		return buildJqwikReport(
 			methodDescriptor.getConfiguration().getAfterFailureMode(),
 			methodDescriptor.getConfiguration().getFixedSeedMode(),
+			methodDescriptor.getConfiguration().getTimeBudget(),
 			methodDescriptor.getTargetMethod(),
 			executionResult,
 			reportingFormats
@@ -44,6 +48,7 @@ public class ExecutionResultReport {
 	private static String buildJqwikReport(
 		AfterFailureMode afterFailureMode,
 		FixedSeedMode fixedSeedMode,
+		Optional<Duration> timeBudget,
 		Method propertyMethod,
 		ExtendedPropertyExecutionResult executionResult,
 		Collection<SampleReportingFormat> sampleReportingFormats
@@ -51,7 +56,7 @@ public class ExecutionResultReport {
 		StringBuilder reportBuilder = new StringBuilder();
 
 		appendThrowableMessage(reportBuilder, executionResult);
-		appendFixedSizedProperties(reportBuilder, executionResult, afterFailureMode, fixedSeedMode);
+		appendFixedSizedProperties(reportBuilder, executionResult, afterFailureMode, fixedSeedMode, timeBudget);
 		appendSamples(reportBuilder, propertyMethod, executionResult, sampleReportingFormats);
 
 		return reportBuilder.toString();
@@ -149,11 +154,12 @@ public class ExecutionResultReport {
 		StringBuilder reportBuilder,
 		ExtendedPropertyExecutionResult executionResult,
 		AfterFailureMode afterFailureMode,
-		FixedSeedMode fixedSeedMode
+		FixedSeedMode fixedSeedMode,
+		Optional<Duration> timeBudget
 	) {
 		List<String> propertiesLines = new ArrayList<>();
-		int countTries = 0;
-		int countChecks = 0;
+		long countTries = 0;
+		long countChecks = 0;
 		String generationMode = "<none>";
 		String edgeCasesMode = "<none>";
 		String randomSeed = "<none>";
@@ -161,8 +167,8 @@ public class ExecutionResultReport {
 		String helpEdgeCasesMode = "";
 
 		if (executionResult.isExtended()) {
-			countTries = executionResult.countTries();
-			countChecks = executionResult.countChecks();
+			countTries = executionResult.countTriesAsLong();
+			countChecks = executionResult.countChecksAsLong();
 			generationMode = executionResult.generation().name();
 			edgeCasesMode = executionResult.edgeCases().mode().name();
 			randomSeed = executionResult.seed().orElse("");
@@ -170,8 +176,16 @@ public class ExecutionResultReport {
 			helpEdgeCasesMode = helpEdgeCasesMode(executionResult.edgeCases().mode());
 		}
 
-		appendProperty(propertiesLines, TRIES_KEY, Integer.toString(countTries), "# of calls to property");
-		appendProperty(propertiesLines, CHECKS_KEY, Integer.toString(countChecks), "# of not rejected calls");
+		appendProperty(propertiesLines, TRIES_KEY, Long.toString(countTries), "# of calls to property");
+		appendProperty(propertiesLines, CHECKS_KEY, Long.toString(countChecks), "# of not rejected calls");
+		if (timeBudget.isPresent()) {
+			appendProperty(propertiesLines, TIME_BUDGET_KEY, timeBudget.get().getSeconds() + "s", "maximum time for tries");
+			long tries = countTries;
+			executionResult.triesDuration().ifPresent(duration -> {
+				long triesPerSecond = (long) (tries * 1e9 / Math.max(duration.toNanos(), 1));
+				appendProperty(propertiesLines, TRIES_PER_SECOND_KEY, Long.toString(triesPerSecond), "# of tries per second");
+			});
+		}
 		appendProperty(propertiesLines, GENERATION_KEY, generationMode, helpGenerationMode);
 		if (afterFailureMode != AfterFailureMode.NOT_SET) {
 			appendProperty(propertiesLines, AFTER_FAILURE_KEY, afterFailureMode.name(), helpAfterFailureMode(afterFailureMode));
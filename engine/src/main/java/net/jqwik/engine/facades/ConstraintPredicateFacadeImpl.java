@@ -0,0 +1,51 @@
+package net.jqwik.engine.facades;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+/**
+ * Is loaded through reflection in api module
+ */
+public class ConstraintPredicateFacadeImpl extends ConstraintPredicate.ConstraintPredicateFacade {
+
+	@Override
+	public <T extends Number> ConstraintPredicate<T> between(long min, long max) {
+		return new Constraints.Range<>(min, max);
+	}
+
+	@Override
+	public <T extends Number> ConstraintPredicate<T> modulo(long divisor, long remainder) {
+		return new Constraints.Modulo<>(divisor, remainder);
+	}
+
+	@Override
+	public <T extends CharSequence> ConstraintPredicate<T> lengthBetween(int min, int max) {
+		return new Constraints.Length<>(min, max);
+	}
+
+	@Override
+	public <T extends CharSequence> ConstraintPredicate<T> charsBetween(char min, char max) {
+		return new Constraints.CharRange<>(min, max);
+	}
+
+	@Override
+	public <T extends CharSequence> ConstraintPredicate<T> onlyChars(char[] chars) {
+		return new Constraints.CharSet<>(chars);
+	}
+
+	@Override
+	public <T> ConstraintPredicate<T> and(ConstraintPredicate<T> self, Predicate<? super T> other) {
+		List<Predicate<? super T>> parts = new ArrayList<>(self.parts());
+		if (other instanceof ConstraintPredicate) {
+			@SuppressWarnings("unchecked")
+			ConstraintPredicate<T> otherConstraint = (ConstraintPredicate<T>) other;
+			parts.addAll(otherConstraint.parts());
+		} else {
+			parts.add(other);
+		}
+		return new Constraints.All<>(parts);
+	}
+}
@@ -0,0 +1,71 @@
+package net.jqwik.engine.facades;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A thread-safe cache of generators that evicts the least recently used generator
+ * as soon as it holds more than {@code maxSize} generators.
+ * Counts hits and misses to judge the effectiveness of caching.
+ */
+public class GeneratorCache {
+
+	private final Map<Object, RandomGenerator<?>> generators;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public GeneratorCache(int maxSize) {
+		this.generators = new LruCache<>(maxSize);
+	}
+
+	public RandomGenerator<?> computeIfAbsent(Object key, Supplier<RandomGenerator<?>> generatorSupplier) {
+		RandomGenerator<?> generator;
+		synchronized (generators) {
+			generator = generators.get(key);
+		}
+		if (generator != null) {
+			hits.incrementAndGet();
+			return generator;
+		}
+		misses.incrementAndGet();
+
+		// Creating a generator must happen outside the lock
+		// because it will usually create and cache the generators of nested arbitraries
+		RandomGenerator<?> created = generatorSupplier.get();
+		synchronized (generators) {
+			RandomGenerator<?> concurrentlyCreated = generators.putIfAbsent(key, created);
+			return concurrentlyCreated != null ? concurrentlyCreated : created;
+		}
+	}
+
+	public long hits() {
+		return hits.get();
+	}
+
+	public long misses() {
+		return misses.get();
+	}
+
+	public int size() {
+		synchronized (generators) {
+			return generators.size();
+		}
+	}
+
+	public void clear() {
+		synchronized (generators) {
+			generators.clear();
+		}
+		hits.set(0);
+		misses.set(0);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("GeneratorCache(size=%d, hits=%d, misses=%d)", size(), hits(), misses());
+	}
+}
@@ -10,10 +10,19 @@ import net.jqwik.engine.support.*;
 
 public class Memoize {
 
+	private static final int MAX_SHARED_GENERATORS = 5000;
+
+	// Generators of cacheable arbitraries are shared across all properties of a test run
+	private static final GeneratorCache sharedGenerators = new GeneratorCache(MAX_SHARED_GENERATORS);
+
 	private static Store<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> generatorStore() {
 		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, () -> new LruCache<>(500));
 	}
 
+	public static GeneratorCache sharedGenerators() {
+		return sharedGenerators;
+	}
+
 	@SuppressWarnings("unchecked")
 	public static <U> RandomGenerator<U> memoizedGenerator(
 			Arbitrary<? extends U> arbitrary,
@@ -26,6 +35,10 @@ public class Memoize {
 		}
 
 		Tuple3<Arbitrary<?>, Integer, Boolean> key = Tuple.of(arbitrary, genSize, withEdgeCases);
+		if (arbitrary.isGeneratorCacheable()) {
+			return (RandomGenerator<U>) sharedGenerators.computeIfAbsent(key, generatorSupplier::get);
+		}
+
 		RandomGenerator<?> generator = computeIfAbsent(
 				generatorStore().get(),
 				key,
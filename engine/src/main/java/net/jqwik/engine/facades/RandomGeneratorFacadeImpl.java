@@ -27,6 +27,11 @@ public class RandomGeneratorFacadeImpl extends RandomGenerator.RandomGeneratorFa
 		return new FlatMappedShrinkable<>(self, mapper, genSize, nextLong, withEmbeddedEdgeCases);
 	}
 
+	@Override
+	public <T, U> RandomGenerator<U> map(RandomGenerator<T> self, Function<T, U> mapper) {
+		return new MappedGenerator<>(self, mapper);
+	}
+
 	@Override
 	public <T> RandomGenerator<T> filter(RandomGenerator<T> self, Predicate<T> filterPredicate, int maxMisses) {
 		return new FilteredGenerator<>(self, filterPredicate, maxMisses);
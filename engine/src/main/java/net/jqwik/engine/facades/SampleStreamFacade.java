@@ -34,7 +34,7 @@ class SampleStreamFacade {
 	}
 
 	@SuppressWarnings("unchecked")
-	private static <T> RandomGenerator<T> getGenerator(Arbitrary<Object> arbitrary) {
+	private static synchronized <T> RandomGenerator<T> getGenerator(Arbitrary<Object> arbitrary) {
 		RandomGenerator<Object> generator = generators.get(arbitrary);
 		if (generator == null) {
 			generator = arbitrary.generator(JqwikProperties.DEFAULT_TRIES, true);
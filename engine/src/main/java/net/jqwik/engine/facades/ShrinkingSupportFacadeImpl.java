@@ -59,7 +59,7 @@ public class ShrinkingSupportFacadeImpl extends ShrinkingSupportFacade {
 	) {
 		FalsifiedSample sample = toFalsifiedSample(falsifiedShrinkable, originalError);
 		Consumer<FalsifiedSample> parametersReporter = ignore -> {};
-		PropertyShrinker shrinker = new PropertyShrinker(sample, ShrinkingMode.FULL, 10, parametersReporter, null);
+		PropertyShrinker shrinker = new PropertyShrinker(sample, ShrinkingMode.FULL, 10, 1, parametersReporter, null);
 
 		return shrinker.shrink(toParamFalsifier(falsifier));
 	}
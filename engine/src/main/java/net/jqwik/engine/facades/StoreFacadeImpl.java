@@ -26,6 +26,12 @@ public class StoreFacadeImpl extends Store.StoreFacade {
 		return store.orElseThrow(() -> new CannotFindStoreException(identifier, retriever.getUniqueId().toString()));
 	}
 
+	@Override
+	public <T> Store<T> getOrCreate(Object identifier, Lifespan lifespan, Supplier<T> initialValueSupplier) {
+		TestDescriptor scope = CurrentTestDescriptor.get();
+		return StoreRepository.getCurrent().getOrCreate(scope, identifier, lifespan, initialValueSupplier);
+	}
+
 	@Override
 	public <T> Store<T> free(Supplier<T> initialValueSupplier) {
 		return new Store<T>() {
@@ -0,0 +1,128 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Executes tries of a single property - or shrinking candidates - on a bounded pool of worker threads.
+ * Each worker thread runs with the property's test descriptor and domain context
+ * so that stores, hooks and arbitrary resolution behave as on the property's own thread.
+ *
+ * <p>
+ * Tries are submitted through {@linkplain #submitTry(Supplier)} so that the submitter can wait
+ * for whichever try finishes first instead of waiting for tries in the order of submission.
+ * </p>
+ */
+public class ConcurrentTryExecutor implements AutoCloseable {
+
+	private static final AtomicInteger poolCounter = new AtomicInteger(0);
+
+	private final ExecutorService executorService;
+	private final CompletionService<TryExecutionResult> triesCompletionService;
+	private final TestDescriptor currentDescriptor;
+	private final DomainContext currentDomainContext;
+	private final List<Future<TryExecutionResult>> outstanding = new ArrayList<>();
+
+	public ConcurrentTryExecutor(int parallelism) {
+		this.executorService = Executors.newFixedThreadPool(parallelism, workerThreadFactory());
+		this.triesCompletionService = new ExecutorCompletionService<>(executorService);
+		this.currentDescriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		this.currentDomainContext = CurrentDomainContext.get();
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		int poolNumber = poolCounter.incrementAndGet();
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		return runnable -> {
+			String name = String.format("jqwik-tries-%s-worker-%s", poolNumber, threadCounter.incrementAndGet());
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	public Supplier<TryExecutionResult> submit(Supplier<TryExecutionResult> execution) {
+		Future<TryExecutionResult> future = executorService.submit(() -> runInPropertyContext(execution));
+		addOutstanding(future);
+		return () -> await(future);
+	}
+
+	Future<TryExecutionResult> submitTry(Supplier<TryExecutionResult> execution) {
+		Future<TryExecutionResult> future = triesCompletionService.submit(() -> runInPropertyContext(execution));
+		addOutstanding(future);
+		return future;
+	}
+
+	/**
+	 * Wait until any of the tries submitted through {@linkplain #submitTry(Supplier)} has finished.
+	 * Each finished try ends one wait.
+	 */
+	void awaitAnyTry() {
+		try {
+			triesCompletionService.take();
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	TryExecutionResult resultOf(Future<TryExecutionResult> future) {
+		return await(future);
+	}
+
+	private void addOutstanding(Future<TryExecutionResult> future) {
+		outstanding.removeIf(Future::isDone);
+		outstanding.add(future);
+	}
+
+	/**
+	 * Values in stores with lifespan TRY are kept per thread.
+	 * Since generation happens on the property's thread, those values must be reset
+	 * after each generation step just as a sequential try would do.
+	 */
+	void finishGenerationOfTry() {
+		if (currentDescriptor != null) {
+			StoreRepository.getCurrent().finishTry(currentDescriptor);
+		}
+	}
+
+	public void cancelOutstanding() {
+		outstanding.forEach(future -> future.cancel(true));
+		outstanding.clear();
+	}
+
+	private TryExecutionResult runInPropertyContext(Supplier<TryExecutionResult> execution) {
+		return CurrentDomainContext.runWithContext(currentDomainContext, () -> {
+			if (currentDescriptor == null) {
+				return execution.get();
+			}
+			return CurrentTestDescriptor.runWithDescriptor(currentDescriptor, execution);
+		});
+	}
+
+	private TryExecutionResult await(Future<TryExecutionResult> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	@Override
+	public void close() {
+		cancelOutstanding();
+		executorService.shutdownNow();
+	}
+}
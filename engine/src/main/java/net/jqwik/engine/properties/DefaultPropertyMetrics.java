@@ -0,0 +1,123 @@
+package net.jqwik.engine.properties;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Collects the metrics of a single property run.
+ * Counters can be updated concurrently from several tries.
+ *
+ * <p>
+ * Generators record filter misses through {@linkplain #recordFilterChecks(int, int)},
+ * which goes to the metrics of the property currently run in this thread, if any.
+ * </p>
+ */
+public class DefaultPropertyMetrics implements PropertyMetrics {
+
+	private static final ThreadLocal<DefaultPropertyMetrics> currentMetrics = new ThreadLocal<>();
+
+	public static void recordFilterChecks(int checks, int misses) {
+		DefaultPropertyMetrics metrics = currentMetrics.get();
+		if (metrics != null) {
+			metrics.filterChecks.add(checks);
+			metrics.filterMisses.add(misses);
+		}
+	}
+
+	private final LongAdder generationNanos = new LongAdder();
+	private final LongAdder executionNanos = new LongAdder();
+	private final LongAdder shrinkingNanos = new LongAdder();
+	private final LongAdder filterChecks = new LongAdder();
+	private final LongAdder filterMisses = new LongAdder();
+
+	public <T> T runWithMetrics(Supplier<T> runnable) {
+		return runWith(this, runnable);
+	}
+
+	/**
+	 * Run code that might regenerate the samples of earlier tries, e.g. for shrinking.
+	 * Filter checks in there must not be counted as generation.
+	 */
+	public static <T> T runWithoutMetrics(Supplier<T> runnable) {
+		return runWith(null, runnable);
+	}
+
+	private static <T> T runWith(DefaultPropertyMetrics metrics, Supplier<T> runnable) {
+		DefaultPropertyMetrics previous = currentMetrics.get();
+		currentMetrics.set(metrics);
+		try {
+			return runnable.get();
+		} finally {
+			currentMetrics.set(previous);
+		}
+	}
+
+	public <T> T measureGeneration(Supplier<T> generation) {
+		return measure(generation, generationNanos);
+	}
+
+	public <T> T measureExecution(Supplier<T> execution) {
+		return measure(execution, executionNanos);
+	}
+
+	public <T> T measureShrinking(Supplier<T> shrinking) {
+		return measure(() -> runWithoutMetrics(shrinking), shrinkingNanos);
+	}
+
+	private <T> T measure(Supplier<T> supplier, LongAdder nanos) {
+		long start = System.nanoTime();
+		try {
+			return supplier.get();
+		} finally {
+			nanos.add(System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public Duration generationTime() {
+		return Duration.ofNanos(generationNanos.sum());
+	}
+
+	@Override
+	public Duration executionTime() {
+		return Duration.ofNanos(executionNanos.sum());
+	}
+
+	@Override
+	public Duration shrinkingTime() {
+		return Duration.ofNanos(shrinkingNanos.sum());
+	}
+
+	@Override
+	public long filterChecks() {
+		return filterChecks.sum();
+	}
+
+	@Override
+	public long filterMisses() {
+		return filterMisses.sum();
+	}
+
+	public Map<String, Object> reports() {
+		Map<String, Object> reports = new LinkedHashMap<>();
+		reports.put("generation-time", formatMillis(generationTime()));
+		reports.put("execution-time", formatMillis(executionTime()));
+		reports.put("shrinking-time", formatMillis(shrinkingTime()));
+		reports.put("filter-checks", filterChecks());
+		reports.put("filter-misses", filterMisses());
+		return reports;
+	}
+
+	private String formatMillis(Duration duration) {
+		return String.format("%d ms", duration.toMillis());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PropertyMetrics%s", reports());
+	}
+}
@@ -1,13 +1,28 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
-import net.jqwik.engine.support.*;
 
 import static java.lang.Math.*;
 
+/**
+ * Generates all combinations of the parameters' edge cases one after the other.
+ *
+ * <p>
+ * Since the edge cases of a parameter come with the most important ones first,
+ * combinations are generated in shells: Shell {@code n} contains all combinations
+ * whose highest edge case index is {@code n}. Thus the first edge cases of all parameters
+ * are combined with each other before any parameter's later edge cases are used
+ * and no parameter is favoured over the others.
+ * </p>
+ *
+ * <p>
+ * Edge case shrinkables are only created when a combination is generated.
+ * </p>
+ */
 public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 
 	// Caveat: Always make sure that the number is greater than 1.
@@ -20,33 +35,89 @@ public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 		);
 	}
 
-	private final List<EdgeCases<Object>> edgeCases;
-	private final Iterator<List<Shrinkable<Object>>> iterator;
+	private final List<List<Supplier<Shrinkable<Object>>>> suppliers;
+	private final int maxShell;
 
-	EdgeCasesGenerator(List<EdgeCases<Object>> edgeCases) {
-		this.edgeCases = edgeCases;
-		this.iterator = createIterator();
-	}
+	private int shell = 0;
+	// The first position whose edge case index equals the current shell
+	private int leadingPosition = 0;
+	// The edge case indices of the next combination or null if all have been generated
+	private int[] indices;
 
-	private Iterator<List<Shrinkable<Object>>> createIterator() {
-		if (this.edgeCases.isEmpty()) {
-			return Collections.emptyIterator();
-		}
-		List<Iterable<Shrinkable<Object>>> iterables =
-			edgeCases
-				.stream()
-				.map(edge -> (Iterable<Shrinkable<Object>>) edge)
-				.collect(Collectors.toList());
-		return Combinatorics.combine(iterables);
+	EdgeCasesGenerator(List<EdgeCases<Object>> edgeCases) {
+		this.suppliers = edgeCases.stream().map(EdgeCases::suppliers).collect(Collectors.toList());
+		this.maxShell = suppliers.stream().mapToInt(List::size).max().orElse(0) - 1;
+		boolean anyParameterWithoutEdgeCases = suppliers.stream().anyMatch(List::isEmpty);
+		this.indices = suppliers.isEmpty() || anyParameterWithoutEdgeCases ? null : new int[suppliers.size()];
 	}
 
 	@Override
 	public boolean hasNext() {
-		return iterator.hasNext();
+		return indices != null;
 	}
 
 	@Override
 	public List<Shrinkable<Object>> next() {
-		return iterator.next();
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		List<Shrinkable<Object>> combination = new ArrayList<>(indices.length);
+		for (int position = 0; position < indices.length; position++) {
+			combination.add(suppliers.get(position).get(indices[position]).get());
+		}
+		advance();
+		return combination;
+	}
+
+	private void advance() {
+		if (incrementNonLeadingPositions()) {
+			return;
+		}
+		for (int position = leadingPosition + 1; position < indices.length; position++) {
+			if (canLead(position, shell)) {
+				startShellAt(shell, position);
+				return;
+			}
+		}
+		for (int nextShell = shell + 1; nextShell <= maxShell; nextShell++) {
+			for (int position = 0; position < indices.length; position++) {
+				if (canLead(position, nextShell)) {
+					startShellAt(nextShell, position);
+					return;
+				}
+			}
+		}
+		indices = null;
+	}
+
+	// Positions before the leading one must have a lower index than the shell
+	private boolean canLead(int position, int shell) {
+		return suppliers.get(position).size() > shell && (shell > 0 || position == 0);
+	}
+
+	private void startShellAt(int shell, int leadingPosition) {
+		this.shell = shell;
+		this.leadingPosition = leadingPosition;
+		Arrays.fill(indices, 0);
+		indices[leadingPosition] = shell;
+	}
+
+	private boolean incrementNonLeadingPositions() {
+		for (int position = indices.length - 1; position >= 0; position--) {
+			if (position == leadingPosition) {
+				continue;
+			}
+			if (indices[position] < maxIndex(position)) {
+				indices[position]++;
+				return true;
+			}
+			indices[position] = 0;
+		}
+		return false;
+	}
+
+	private int maxIndex(int position) {
+		int maxInShell = position < leadingPosition ? shell - 1 : shell;
+		return min(maxInShell, suppliers.get(position).size() - 1);
 	}
 }
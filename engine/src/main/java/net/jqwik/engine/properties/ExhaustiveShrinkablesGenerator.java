@@ -46,43 +46,43 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	}
 
-	private final List<List<ExhaustiveGenerator<Object>>> generators;
+	private final List<Iterable<Object>> parameterValues;
 	private final long maxCount;
-	private Iterator<List<Shrinkable<Object>>> combinatorialIterator;
+
+	// The odometer of the current combination: Each parameter's iterator, current value and its index.
+	// The last parameter changes fastest.
+	private final List<Iterator<Object>> iterators = new ArrayList<>();
+	private final Object[] values;
+	private final long[] indices;
+	// The actual number of a parameter's values is only known after it has been iterated once
+	// since filtered generators can produce fewer values than their maxCount
+	private final long[] sizes;
+	private boolean exhausted;
+	private boolean currentReturned;
 
 	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators) {
-		this.maxCount = generators
-							.stream()
-							.mapToLong(set -> set.stream().mapToLong(ExhaustiveGenerator::maxCount).sum())
-							.reduce((product, count) -> product * count)
-							.orElse(1L);
-		this.generators = generators;
+		this.maxCount = calculateMaxCount(generators);
+		this.parameterValues = generators.stream().map(this::concat).collect(Collectors.toList());
+		this.values = new Object[parameterValues.size()];
+		this.indices = new long[parameterValues.size()];
+		this.sizes = new long[parameterValues.size()];
 		this.reset();
 	}
 
-	private Iterator<List<Shrinkable<Object>>> combine(List<List<ExhaustiveGenerator<Object>>> generators) {
-		List<Iterable<Object>> iterables = generators
-											   .stream()
-											   .map(this::concat)
-											   .collect(Collectors.toList());
-
-		return new Iterator<List<Shrinkable<Object>>>() {
-			final Iterator<List<Object>> iterator = Combinatorics.combine(iterables);
-
-			@Override
-			public boolean hasNext() {
-				return iterator.hasNext();
-			}
-
-			@Override
-			public List<Shrinkable<Object>> next() {
-				List<Shrinkable<Object>> values = new ArrayList<>();
-				for (Object o : iterator.next()) {
-					values.add(Shrinkable.unshrinkable(o));
+	private static long calculateMaxCount(List<List<ExhaustiveGenerator<Object>>> generators) {
+		try {
+			long product = 1;
+			for (List<ExhaustiveGenerator<Object>> generatorsOfParameter : generators) {
+				long sum = 0;
+				for (ExhaustiveGenerator<Object> generator : generatorsOfParameter) {
+					sum = Math.addExact(sum, generator.maxCount());
 				}
-				return values;
+				product = Math.multiplyExact(product, sum);
 			}
-		};
+			return product;
+		} catch (ArithmeticException tooManyCombinations) {
+			throw new JqwikException("Number of exhaustive combinations exceeds Long.MAX_VALUE");
+		}
 	}
 
 	private Iterable<Object> concat(List<ExhaustiveGenerator<Object>> generatorList) {
@@ -95,21 +95,126 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public boolean hasNext() {
-		return combinatorialIterator.hasNext();
+		if (currentReturned) {
+			advanceBy(1);
+		}
+		return !exhausted;
 	}
 
 	@Override
 	public List<Shrinkable<Object>> next() {
-		return combinatorialIterator.next();
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>(values.length);
+		for (Object value : values) {
+			shrinkables.add(Shrinkable.unshrinkable(value));
+		}
+		currentReturned = true;
+		return shrinkables;
+	}
+
+	/**
+	 * Skipping does not iterate through all skipped combinations but only moves
+	 * each parameter to its new position, which costs at most the number of the parameter's values.
+	 */
+	@Override
+	public boolean skip(long numberOfSamples) {
+		if (numberOfSamples <= 0) {
+			return true;
+		}
+		if (!hasNext()) {
+			return false;
+		}
+		long overflow = advanceBy(numberOfSamples);
+		// Landing exactly behind the last combination means that all remaining samples were skipped
+		return overflow == 0 || (overflow == 1 && Arrays.stream(indices).skip(1).allMatch(index -> index == 0));
 	}
 
 	@Override
 	public void reset() {
-		this.combinatorialIterator = combine(generators);
+		iterators.clear();
+		exhausted = false;
+		currentReturned = false;
+		for (int position = 0; position < parameterValues.size(); position++) {
+			Iterator<Object> iterator = parameterValues.get(position).iterator();
+			iterators.add(iterator);
+			sizes[position] = -1;
+			indices[position] = 0;
+			if (!iterator.hasNext()) {
+				exhausted = true;
+				return;
+			}
+			values[position] = iterator.next();
+		}
 	}
 
 	public long maxCount() {
 		return maxCount;
 	}
 
+	// Returns the overflow, which is greater than 0 if the last combination has been passed
+	private long advanceBy(long steps) {
+		currentReturned = false;
+		long carry = steps;
+		for (int position = values.length - 1; position > 0 && carry > 0; position--) {
+			carry = advance(position, carry);
+		}
+		long overflow = values.length == 0 ? carry : advanceFirst(carry);
+		if (overflow > 0) {
+			exhausted = true;
+		}
+		return overflow;
+	}
+
+	// The first parameter's values are never iterated twice since passing its last value ends all combinations
+	private long advanceFirst(long steps) {
+		Iterator<Object> iterator = iterators.get(0);
+		for (long step = 0; step < steps; step++) {
+			if (!iterator.hasNext()) {
+				return steps - step;
+			}
+			values[0] = iterator.next();
+			indices[0]++;
+		}
+		return 0;
+	}
+
+	// Returns the carry to the position before
+	private long advance(int position, long steps) {
+		long carry = 0;
+		while (steps > 0 && sizes[position] < 0) {
+			steps--;
+			Iterator<Object> iterator = iterators.get(position);
+			if (iterator.hasNext()) {
+				values[position] = iterator.next();
+				indices[position]++;
+			} else {
+				sizes[position] = indices[position] + 1;
+				moveTo(position, 0);
+				carry++;
+			}
+		}
+		if (steps == 0) {
+			return carry;
+		}
+		long target = indices[position] + steps;
+		moveTo(position, target % sizes[position]);
+		return carry + target / sizes[position];
+	}
+
+	private void moveTo(int position, long index) {
+		if (index < indices[position]) {
+			Iterator<Object> iterator = parameterValues.get(position).iterator();
+			iterators.set(position, iterator);
+			values[position] = iterator.next();
+			indices[position] = 0;
+		}
+		Iterator<Object> iterator = iterators.get(position);
+		while (indices[position] < index) {
+			values[position] = iterator.next();
+			indices[position]++;
+		}
+	}
+
 }
@@ -14,5 +14,22 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 		return 0;
 	}
 
-    void reset();
+	/**
+	 * Skip the next {@code numberOfSamples} samples.
+	 * Implementations can override this method to skip samples
+	 * without actually generating them.
+	 *
+	 * @return false if there are fewer samples left than should be skipped
+	 */
+	default boolean skip(long numberOfSamples) {
+		for (long i = 0; i < numberOfSamples; i++) {
+			if (!hasNext()) {
+				return false;
+			}
+			next();
+		}
+		return true;
+	}
+
+	void reset();
 }
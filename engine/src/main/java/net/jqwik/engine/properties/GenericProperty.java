@@ -1,13 +1,17 @@
 package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
+import java.util.logging.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.ProvideGenerationSourceHook.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
@@ -17,11 +21,22 @@ import net.jqwik.engine.support.*;
 
 public class GenericProperty {
 
+	private static final Logger LOG = Logger.getLogger(GenericProperty.class.getName());
+
+	private static final long PROGRESS_REPORTING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+	// Tries submitted but not yet executed. More than one per thread so that workers do not wait for generation.
+	private static final int TRIES_IN_FLIGHT_PER_THREAD = 2;
+
+	// Executed tries that wait for the evaluation of a slower, earlier try
+	private static final int PENDING_TRIES_PER_THREAD = 32;
+
 	private final String name;
 	private final PropertyConfiguration configuration;
 	private final ParametersGenerator parametersGenerator;
 	private final TryLifecycleExecutor tryLifecycleExecutor;
 	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final GenerationSource generationSource;
 
 	public GenericProperty(
 		String name,
@@ -29,61 +44,139 @@ public class GenericProperty {
 		ParametersGenerator parametersGenerator,
 		TryLifecycleExecutor tryLifecycleExecutor,
 		Supplier<TryLifecycleContext> tryLifecycleContextSupplier
+	) {
+		this(name, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier, GenerationSource.DEFAULT);
+	}
+
+	public GenericProperty(
+		String name,
+		PropertyConfiguration configuration,
+		ParametersGenerator parametersGenerator,
+		TryLifecycleExecutor tryLifecycleExecutor,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		GenerationSource generationSource
 	) {
 		this.name = name;
 		this.configuration = configuration;
 		this.parametersGenerator = parametersGenerator;
 		this.tryLifecycleExecutor = tryLifecycleExecutor;
 		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.generationSource = generationSource;
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
-		int maxTries = configuration.getTries();
-		int countChecks = 0;
-		int countTries = 0;
-		boolean finishEarly = false;
-		while (countTries < maxTries) {
-			if (finishEarly) {
-				break;
+		FlightRecorderEvents.Event propertyEvent = FlightRecorderEvents.PROPERTY.begin();
+		DefaultPropertyMetrics metrics = new DefaultPropertyMetrics();
+		PropertyCheckResult checkResult = metrics.runWithMetrics(() -> check(reporter, reporting, metrics));
+		if (propertyEvent.shouldCommit()) {
+			propertyEvent.commit(name, checkResult.checkStatus(), checkResult.countTriesAsLong(), checkResult.countChecksAsLong());
+		}
+		if (Reporting.METRICS.containedIn(reporting)) {
+			reporter.publishReports("metrics", metrics.reports());
+		}
+		return checkResult.withMetrics(metrics);
+	}
+
+	private PropertyCheckResult check(Reporter reporter, Reporting[] reporting, DefaultPropertyMetrics metrics) {
+		int parallelism = configuration.getParallelism();
+		if (parallelism > 1 && configuration.getMaxTries() > 1) {
+			try (ConcurrentTryExecutor concurrentTryExecutor = new ConcurrentTryExecutor(parallelism)) {
+				return check(reporter, reporting, metrics, parallelism, concurrentTryExecutor);
+			}
+		}
+		return check(reporter, reporting, metrics, 1, null);
+	}
+
+	private PropertyCheckResult check(
+		Reporter reporter,
+		Reporting[] reporting,
+		DefaultPropertyMetrics metrics,
+		int parallelism,
+		ConcurrentTryExecutor concurrentTryExecutor
+	) {
+		long maxTries = configuration.getMaxTries();
+		long countChecks = 0;
+		long countTries = 0;
+		ProgressReport progressReport = new ProgressReport(maxTries);
+		long startTime = System.nanoTime();
+		long timeBudget = configuration.getTimeBudget().map(Duration::toNanos).orElse(Long.MAX_VALUE);
+		int maxTriesInFlight = parallelism * TRIES_IN_FLIGHT_PER_THREAD;
+		int maxPendingTries = concurrentTryExecutor == null ? 1 : parallelism * PENDING_TRIES_PER_THREAD;
+
+		// Tries are always generated sequentially and in the same order and their results are evaluated in that order,
+		// only their execution is distributed when running concurrently
+		Deque<GeneratedTry> pendingTries = new ArrayDeque<>();
+		Throwable generationError = null;
+		while (true) {
+			while (generationError == null
+					   && pendingTries.size() < maxPendingTries
+					   && countInFlight(pendingTries) < maxTriesInFlight
+					   && countTries + pendingTries.size() < maxTries
+					   && !timeBudgetExceeded(countTries + pendingTries.size(), startTime, timeBudget)
+					   && parametersGenerator.hasNext()) {
+				List<Shrinkable<Object>> shrinkableParams;
+				TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+				try {
+					shrinkableParams = metrics.measureGeneration(() -> parametersGenerator.next(tryLifecycleContext));
+				} catch (Throwable throwable) {
+					// Mostly TooManyFilterMissesException gets here
+					JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+					generationError = throwable;
+					break;
+				}
+
+				GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed());
+				GeneratedTry generatedTry = new GeneratedTry(tryLifecycleContext, shrinkableParams, generationInfo);
+				scheduleExecution(generatedTry, reporter, reporting, metrics, concurrentTryExecutor);
+				pendingTries.addLast(generatedTry);
 			}
-			if (!parametersGenerator.hasNext()) {
+
+			GeneratedTry generatedTry = pendingTries.peekFirst();
+			if (generatedTry == null) {
 				break;
 			}
-			countTries++;
+			// A slow try only holds back the evaluation of later tries but not their execution
+			if (!generatedTry.isExecuted()) {
+				concurrentTryExecutor.awaitAnyTry();
+				continue;
+			}
+			pendingTries.removeFirst();
 
-			List<Shrinkable<Object>> shrinkableParams;
-			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+			countTries++;
+			countChecks++;
+			TryExecutionResult tryExecutionResult;
 			try {
-				shrinkableParams = parametersGenerator.next(tryLifecycleContext);
+				tryExecutionResult = generatedTry.result(concurrentTryExecutor);
 			} catch (Throwable throwable) {
-				// Mostly TooManyFilterMissesException gets here
-				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
-
-				return exhaustedCheckResult(countTries, countChecks, throwable);
+				return failedCheckResult(generatedTry, throwable, countTries, countChecks, startTime, concurrentTryExecutor);
 			}
+			// Outside of the try's failure handling since errors of the hook are no property failures
+			guideGeneration(generatedTry, tryExecutionResult, concurrentTryExecutor);
 
-			List<Object> sample = extractParams(shrinkableParams);
+			boolean finishEarly = false;
 			try {
-				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
 				switch (tryExecutionResult.status()) {
 					case SATISFIED:
 						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
-						continue;
+						break;
 					case FALSIFIED:
+						cancelOutstanding(concurrentTryExecutor);
 						FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-							sample,
-							shrinkableParams,
+							generatedTry.sample,
+							generatedTry.shrinkableParams,
 							tryExecutionResult.throwable(),
 							tryExecutionResult.footnotes()
 						);
 						return shrinkAndCreateCheckResult(
 							reporter,
 							reporting,
+							metrics,
 							countChecks,
 							countTries,
 							falsifiedSample,
-							tryLifecycleContext.targetMethod()
+							generatedTry.generationInfo,
+							generatedTry.tryLifecycleContext.targetMethod(),
+							durationSince(startTime)
 						);
 					case INVALID:
 						countChecks--;
@@ -105,25 +198,24 @@ public class GenericProperty {
 						throw new RuntimeException(message);
 				}
 			} catch (Throwable throwable) {
-				// Only not AssertionErrors and non Exceptions get here
-				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
-				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-					sample,
-					shrinkableParams,
-					Optional.of(throwable),
-					Collections.emptyList()
-				);
-				GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed());
-				return PropertyCheckResult.failed(
-					configuration.getStereotype(), name, countTries, countChecks, generationInfo,
-					configuration.getGenerationMode(),
-					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
-					falsifiedSample, null, throwable
-				);
+				return failedCheckResult(generatedTry, throwable, countTries, countChecks, startTime, concurrentTryExecutor);
 			}
+			progressReport.maybeReport(countTries);
+			if (finishEarly) {
+				// Tries generated after this one would not have been generated when running sequentially
+				cancelOutstanding(concurrentTryExecutor);
+				generationError = null;
+				break;
+			}
+		}
+
+		if (generationError != null) {
+			return exhaustedCheckResult(countTries + 1, countChecks, generationError).withTriesDuration(durationSince(startTime));
 		}
+		Duration triesDuration = durationSince(startTime);
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
-			return exhaustedCheckResult(maxTries, countChecks, null);
+			long reportedTries = configuration.getTimeBudget().isPresent() ? countTries : maxTries;
+			return exhaustedCheckResult(reportedTries, countChecks, null).withTriesDuration(triesDuration);
 		}
 		return PropertyCheckResult.successful(
 			configuration.getStereotype(),
@@ -135,10 +227,106 @@ public class GenericProperty {
 			configuration.getEdgeCasesMode(),
 			parametersGenerator.edgeCasesTotal(),
 			parametersGenerator.edgeCasesTried()
+		).withTriesDuration(triesDuration);
+	}
+
+	private PropertyCheckResult failedCheckResult(
+		GeneratedTry generatedTry,
+		Throwable throwable,
+		long countTries,
+		long countChecks,
+		long startTime,
+		ConcurrentTryExecutor concurrentTryExecutor
+	) {
+		// Only not AssertionErrors and non Exceptions get here
+		JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+		cancelOutstanding(concurrentTryExecutor);
+		FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+			generatedTry.sample,
+			generatedTry.shrinkableParams,
+			Optional.of(throwable),
+			Collections.emptyList()
 		);
+		return PropertyCheckResult.failed(
+			configuration.getStereotype(), name, countTries, countChecks, generatedTry.generationInfo,
+			configuration.getGenerationMode(),
+			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+			falsifiedSample, null, throwable
+		).withTriesDuration(durationSince(startTime));
+	}
+
+	private void guideGeneration(
+		GeneratedTry generatedTry,
+		TryExecutionResult tryExecutionResult,
+		ConcurrentTryExecutor concurrentTryExecutor
+	) {
+		try {
+			generationSource.guide(generatedTry.sample, tryExecutionResult);
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			cancelOutstanding(concurrentTryExecutor);
+			String message = String.format(
+				"GenerationSource of property [%s] failed to process the result of try [%s]",
+				name,
+				generatedTry.sample
+			);
+			throw new JqwikException(message, throwable);
+		}
+	}
+
+	private Duration durationSince(long startTime) {
+		return Duration.ofNanos(System.nanoTime() - startTime);
+	}
+
+	private void scheduleExecution(
+		GeneratedTry generatedTry,
+		Reporter reporter,
+		Reporting[] reporting,
+		DefaultPropertyMetrics metrics,
+		ConcurrentTryExecutor concurrentTryExecutor
+	) {
+		Supplier<TryExecutionResult> execution = () -> metrics.measureExecution(() -> {
+			FlightRecorderEvents.Event tryEvent = FlightRecorderEvents.TRY.begin();
+			TryExecutionResult result = tryLifecycleExecutor.execute(generatedTry.tryLifecycleContext, generatedTry.sample);
+			if (tryEvent.shouldCommit()) {
+				tryEvent.commit(name, result.status());
+			}
+			return result;
+		});
+		if (concurrentTryExecutor == null) {
+			generatedTry.execution = () -> {
+				reportGenerated(generatedTry.tryLifecycleContext, generatedTry.sample, reporter, reporting);
+				return execution.get();
+			};
+			return;
+		}
+		reportGenerated(generatedTry.tryLifecycleContext, generatedTry.sample, reporter, reporting);
+		concurrentTryExecutor.finishGenerationOfTry();
+		generatedTry.submittedExecution = concurrentTryExecutor.submitTry(execution);
 	}
 
-	private PropertyCheckResult exhaustedCheckResult(int countTries, int countChecks, Throwable throwable) {
+	private boolean timeBudgetExceeded(long countGeneratedTries, long startTime, long timeBudget) {
+		// At least one try is run regardless of the time budget
+		return countGeneratedTries > 0 && System.nanoTime() - startTime >= timeBudget;
+	}
+
+	private int countInFlight(Collection<GeneratedTry> pendingTries) {
+		int inFlight = 0;
+		for (GeneratedTry pendingTry : pendingTries) {
+			if (!pendingTry.isExecuted()) {
+				inFlight++;
+			}
+		}
+		return inFlight;
+	}
+
+	private void cancelOutstanding(ConcurrentTryExecutor concurrentTryExecutor) {
+		if (concurrentTryExecutor != null) {
+			concurrentTryExecutor.cancelOutstanding();
+		}
+	}
+
+	private PropertyCheckResult exhaustedCheckResult(long countTries, long countChecks, Throwable throwable) {
 		return PropertyCheckResult.exhausted(
 			configuration.getStereotype(),
 			name,
@@ -153,7 +341,7 @@ public class GenericProperty {
 		);
 	}
 
-	private TryExecutionResult testPredicate(
+	private void reportGenerated(
 		TryLifecycleContext tryLifecycleContext,
 		List<Object> sample,
 		Reporter reporter,
@@ -163,11 +351,10 @@ public class GenericProperty {
 			Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
 			reporter.publishReports("generated", reports);
 		}
-		return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
 	}
 
-	private boolean maxDiscardRatioExceeded(int countChecks, int countTries, int maxDiscardRatio) {
-		int actualDiscardRatio = (countTries - countChecks) / countChecks;
+	private boolean maxDiscardRatioExceeded(long countChecks, long countTries, int maxDiscardRatio) {
+		long actualDiscardRatio = (countTries - countChecks) / countChecks;
 		return actualDiscardRatio > maxDiscardRatio;
 	}
 
@@ -176,19 +363,21 @@ public class GenericProperty {
 	}
 
 	private PropertyCheckResult shrinkAndCreateCheckResult(
-		Reporter reporter, Reporting[] reporting, int countChecks,
-		int countTries, FalsifiedSample originalSample,
-		Method targetMethod
+		Reporter reporter, Reporting[] reporting, DefaultPropertyMetrics metrics,
+		long countChecks, long countTries, FalsifiedSample originalSample,
+		GenerationInfo originalGenerationInfo,
+		Method targetMethod,
+		Duration triesDuration
 	) {
-		Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> tuple = shrink(reporter, reporting, originalSample, targetMethod);
+		Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> tuple =
+			metrics.measureShrinking(() -> shrink(reporter, reporting, originalSample, targetMethod));
 		ShrunkFalsifiedSample shrunkSample = tuple.get1();
-		GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed())
-														   .appendShrinkingSequence(tuple.get2());
+		GenerationInfo generationInfo = originalGenerationInfo.appendShrinkingSequence(tuple.get2());
 		return PropertyCheckResult.failed(
 			configuration.getStereotype(), name, countTries, countChecks, generationInfo, configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
 			originalSample, shrunkSample, shrunkSample.falsifyingError().orElse(null)
-		);
+		).withTriesDuration(triesDuration);
 	}
 
 	private Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> shrink(
@@ -206,6 +395,7 @@ public class GenericProperty {
 			originalSample,
 			configuration.getShrinkingMode(),
 			configuration.boundedShrinkingSeconds(),
+			configuration.getParallelism(),
 			falsifiedSampleReporter,
 			targetMethod
 		);
@@ -229,4 +419,62 @@ public class GenericProperty {
 		return params -> tryExecutor.execute(tryLifecycleContext.get(), params);
 	}
 
+	// Exhaustive generation can take hours so the user should know how far it got
+	private class ProgressReport {
+		private final long maxTries;
+		private final boolean enabled;
+		private long lastReport = System.nanoTime();
+
+		private ProgressReport(long maxTries) {
+			this.maxTries = maxTries;
+			this.enabled = configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE;
+		}
+
+		private void maybeReport(long countTries) {
+			if (!enabled || System.nanoTime() - lastReport < PROGRESS_REPORTING_INTERVAL_NANOS) {
+				return;
+			}
+			lastReport = System.nanoTime();
+			String message = String.format(
+				"Property [%s] has tried %d of %d exhaustively generated samples (%.1f%%)",
+				name,
+				countTries,
+				maxTries,
+				100.0 * countTries / maxTries
+			);
+			LOG.info(message);
+		}
+	}
+
+	private class GeneratedTry {
+		private final TryLifecycleContext tryLifecycleContext;
+		private final List<Shrinkable<Object>> shrinkableParams;
+		private final List<Object> sample;
+		private final GenerationInfo generationInfo;
+		private Supplier<TryExecutionResult> execution;
+		private Future<TryExecutionResult> submittedExecution;
+
+		private GeneratedTry(
+			TryLifecycleContext tryLifecycleContext,
+			List<Shrinkable<Object>> shrinkableParams,
+			GenerationInfo generationInfo
+		) {
+			this.tryLifecycleContext = tryLifecycleContext;
+			this.shrinkableParams = shrinkableParams;
+			this.sample = extractParams(shrinkableParams);
+			this.generationInfo = generationInfo;
+		}
+
+		// Tries that are not submitted for concurrent execution are executed when their result is requested
+		private boolean isExecuted() {
+			return submittedExecution == null || submittedExecution.isDone();
+		}
+
+		private TryExecutionResult result(ConcurrentTryExecutor concurrentTryExecutor) {
+			if (submittedExecution == null) {
+				return execution.get();
+			}
+			return concurrentTryExecutor.resultOf(submittedExecution);
+		}
+	}
 }
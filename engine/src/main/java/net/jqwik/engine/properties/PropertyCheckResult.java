@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
 
 import org.opentest4j.*;
@@ -22,8 +23,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	public static PropertyCheckResult successful(
 		String stereotype,
 		String propertyName,
-		int tries,
-		int checks,
+		long tries,
+		long checks,
 		String randomSeed,
 		GenerationMode generation,
 		EdgeCasesMode edgeCasesMode,
@@ -49,8 +50,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	public static PropertyCheckResult failed(
 		String stereotype,
 		String propertyName,
-		int tries,
-		int checks,
+		long tries,
+		long checks,
 		GenerationInfo generationInfo,
 		GenerationMode generation,
 		EdgeCasesMode edgeCasesMode,
@@ -115,8 +116,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	public static PropertyCheckResult exhausted(
 		String stereotype,
 		String propertyName,
-		int tries,
-		int checks,
+		long tries,
+		long checks,
 		String randomSeed,
 		GenerationMode generation,
 		EdgeCasesMode edgeCasesMode,
@@ -144,8 +145,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final String stereotype;
 	private final CheckStatus status;
 	private final String propertyName;
-	private final int tries;
-	private final int checks;
+	private final long tries;
+	private final long checks;
 	private final GenerationInfo generationInfo;
 	private final GenerationMode generation;
 	private final EdgeCasesMode edgeCasesMode;
@@ -154,12 +155,14 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final FalsifiedSample originalSample;
 	private final ShrunkFalsifiedSample shrunkSample;
 	private final Throwable throwable;
+	private final Duration triesDuration;
+	private final PropertyMetrics metrics;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
 		String propertyName,
-		int tries,
-		int checks,
+		long tries,
+		long checks,
 		GenerationInfo generationInfo,
 		GenerationMode generation,
 		EdgeCasesMode edgeCasesMode,
@@ -168,6 +171,28 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
 		Throwable throwable
+	) {
+		this(
+			status, stereotype, propertyName, tries, checks, generationInfo, generation,
+			edgeCasesMode, edgeCasesTotal, edgeCasesTried, originalSample, shrunkSample, throwable, null, null
+		);
+	}
+
+	private PropertyCheckResult(
+		CheckStatus status, String stereotype,
+		String propertyName,
+		long tries,
+		long checks,
+		GenerationInfo generationInfo,
+		GenerationMode generation,
+		EdgeCasesMode edgeCasesMode,
+		int edgeCasesTotal,
+		int edgeCasesTried,
+		FalsifiedSample originalSample,
+		ShrunkFalsifiedSample shrunkSample,
+		Throwable throwable,
+		Duration triesDuration,
+		PropertyMetrics metrics
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -182,6 +207,25 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.triesDuration = triesDuration;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * @param triesDuration the time spent on generating and executing tries without shrinking
+	 */
+	public PropertyCheckResult withTriesDuration(Duration triesDuration) {
+		return new PropertyCheckResult(
+			status, stereotype, propertyName, tries, checks, generationInfo, generation,
+			edgeCasesMode, edgeCasesTotal, edgeCasesTried, originalSample, shrunkSample, throwable, triesDuration, metrics
+		);
+	}
+
+	public PropertyCheckResult withMetrics(PropertyMetrics metrics) {
+		return new PropertyCheckResult(
+			status, stereotype, propertyName, tries, checks, generationInfo, generation,
+			edgeCasesMode, edgeCasesTotal, edgeCasesTried, originalSample, shrunkSample, throwable, triesDuration, metrics
+		);
 	}
 
 	private Throwable determineThrowable(CheckStatus status, Throwable throwable) {
@@ -236,7 +280,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					originalSample,
 					shrunkSample,
-					throwable
+					throwable,
+					triesDuration,
+					metrics
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -252,7 +298,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					null,
 					null,
-					throwable
+					throwable,
+					triesDuration,
+					metrics
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
@@ -272,14 +320,30 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return status;
 	}
 
+	@Override
 	public int countChecks() {
-		return checks;
+		return saturatedInt(checks);
 	}
 
+	@Override
 	public int countTries() {
+		return saturatedInt(tries);
+	}
+
+	@Override
+	public long countChecksAsLong() {
+		return checks;
+	}
+
+	@Override
+	public long countTriesAsLong() {
 		return tries;
 	}
 
+	private static int saturatedInt(long count) {
+		return (int) Math.min(count, Integer.MAX_VALUE);
+	}
+
 	public GenerationInfo generationInfo() {
 		return generationInfo;
 	}
@@ -296,6 +360,16 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return generation;
 	}
 
+	@Override
+	public Optional<Duration> triesDuration() {
+		return Optional.ofNullable(triesDuration);
+	}
+
+	@Override
+	public Optional<PropertyMetrics> metrics() {
+		return Optional.ofNullable(metrics);
+	}
+
 	@Override
 	public EdgeCasesExecutionResult edgeCases() {
 		return new EdgeCasesExecutionResult(edgeCasesMode, edgeCasesTotal, edgeCasesTried);
@@ -319,7 +393,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 				}).orElse("");
 				return String.format("%s failed%s", header, failedMessage);
 			case EXHAUSTED:
-				int rejections = tries - checks;
+				long rejections = tries - checks;
 				return String.format("%s exhausted after [%d] tries and [%d] rejections", header, tries, rejections);
 			default:
 				return header;
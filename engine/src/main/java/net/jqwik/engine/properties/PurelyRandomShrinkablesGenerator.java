@@ -5,6 +5,8 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.providers.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
 class PurelyRandomShrinkablesGenerator {
 
@@ -14,6 +16,9 @@ class PurelyRandomShrinkablesGenerator {
 		this.parameterGenerators = parameterGenerators;
 	}
 
+	/**
+	 * Generate all parameters from a single random source
+	 */
 	List<Shrinkable<Object>> generateNext(Random random) {
 		Map<TypeUsage, Arbitrary<Object>> generatorsCache = new LinkedHashMap<>();
 		return parameterGenerators
@@ -22,4 +27,43 @@ class PurelyRandomShrinkablesGenerator {
 				   .collect(Collectors.toList());
 	}
 
+	/**
+	 * Generate each parameter from its own random source derived from {@code seed}.
+	 * This makes the value of a parameter independent of the generation of all other parameters.
+	 */
+	List<Shrinkable<Object>> generateNext(long seed) {
+		Map<TypeUsage, Arbitrary<Object>> generatorsCache = new LinkedHashMap<>();
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>(parameterGenerators.size());
+		for (int index = 0; index < parameterGenerators.size(); index++) {
+			Random random = SourceOfRandomness.deriveRandom(seed, index);
+			shrinkables.add(parameterGenerators.get(index).next(random, generatorsCache));
+		}
+		return shrinkables;
+	}
+
+	/**
+	 * Generate the same values as {@linkplain #generateNext(long)} without creating their shrinkables.
+	 *
+	 * @return empty if not all parameters can be generated without shrinkables
+	 */
+	Optional<List<Object>> generateNextValues(long seed) {
+		Map<TypeUsage, Arbitrary<Object>> generatorsCache = new LinkedHashMap<>();
+		List<Random> randoms = new ArrayList<>(parameterGenerators.size());
+		List<RandomGenerator<Object>> generators = new ArrayList<>(parameterGenerators.size());
+		for (int index = 0; index < parameterGenerators.size(); index++) {
+			Random random = SourceOfRandomness.deriveRandom(seed, index);
+			RandomGenerator<Object> generator = parameterGenerators.get(index).selectGenerator(random, generatorsCache);
+			if (!ValueOnlyGenerator.canGenerateValuesOnly(generator)) {
+				return Optional.empty();
+			}
+			randoms.add(random);
+			generators.add(generator);
+		}
+		List<Object> values = new ArrayList<>(generators.size());
+		for (int index = 0; index < generators.size(); index++) {
+			values.add(ValueOnlyGenerator.nextValue(generators.get(index), randoms.get(index)));
+		}
+		return Optional.of(values);
+	}
+
 }
@@ -25,7 +25,7 @@ class RandomizedParameterGenerator {
 		return selectedGenerator.next(random);
 	}
 
-	private RandomGenerator<Object> selectGenerator(Random random, Map<TypeUsage, Arbitrary<Object>> arbitrariesCache) {
+	RandomGenerator<Object> selectGenerator(Random random, Map<TypeUsage, Arbitrary<Object>> arbitrariesCache) {
 		if (arbitrariesCache.containsKey(typeUsage)) {
 			Arbitrary<Object> arbitrary = arbitrariesCache.get(typeUsage);
 			return getGenerator(arbitrary);
@@ -1,10 +1,12 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.logging.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.ProvideGenerationSourceHook.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.properties.arbitraries.*;
@@ -22,7 +24,8 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		ArbitraryResolver arbitraryResolver,
 		Random random,
 		int genSize,
-		EdgeCasesMode edgeCasesMode
+		EdgeCasesMode edgeCasesMode,
+		GenerationSource generationSource
 	) {
 
 		List<EdgeCases<Object>> listOfEdgeCases = listOfEdgeCases(parameters, arbitraryResolver, edgeCasesMode, genSize);
@@ -32,11 +35,12 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 		return new RandomizedShrinkablesGenerator(
 			randomShrinkablesGenerator(parameters, arbitraryResolver, genSize, edgeCasesMode.activated()),
-			new EdgeCasesGenerator(listOfEdgeCases),
+			listOfEdgeCases,
 			edgeCasesMode,
 			edgeCasesTotal,
 			calculateBaseToEdgeCaseRatio(listOfEdgeCases, genSize),
-			random.nextLong()
+			random.nextLong(),
+			generationSource
 		);
 	}
 
@@ -55,7 +59,9 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		if (listOfEdgeCases.isEmpty()) {
 			return 0;
 		}
-		return listOfEdgeCases.stream().mapToInt(EdgeCases::size).reduce(1, (a, b) -> a * b);
+		// Saturate instead of overflowing for many parameters with many edge cases
+		long total = listOfEdgeCases.stream().mapToLong(EdgeCases::size).reduce(1, (a, b) -> min(a * b, Integer.MAX_VALUE));
+		return (int) total;
 	}
 
 	private static PurelyRandomShrinkablesGenerator randomShrinkablesGenerator(
@@ -155,31 +161,35 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	}
 
 	private final PurelyRandomShrinkablesGenerator randomGenerator;
-	private final EdgeCasesGenerator edgeCasesGenerator;
+	private final List<EdgeCases<Object>> listOfEdgeCases;
 	private final EdgeCasesMode edgeCasesMode;
 	private final int edgeCasesTotal;
 	private final int baseToEdgeCaseRatio;
 	private final long baseRandomSeed;
-	private Random random;
+	private final GenerationSource generationSource;
 
-	private boolean allEdgeCasesGenerated = false;
-	private int edgeCasesTried = 0;
+	private EdgeCasesGenerator edgeCasesGenerator;
+	private boolean allEdgeCasesGenerated;
+	private int edgeCasesTried;
+	private long generationIndex;
 
 	private RandomizedShrinkablesGenerator(
 		PurelyRandomShrinkablesGenerator randomGenerator,
-		EdgeCasesGenerator edgeCasesGenerator,
+		List<EdgeCases<Object>> listOfEdgeCases,
 		EdgeCasesMode edgeCasesMode,
 		int edgeCasesTotal,
 		int baseToEdgeCaseRatio,
-		long baseRandomSeed
+		long baseRandomSeed,
+		GenerationSource generationSource
 	) {
 		this.randomGenerator = randomGenerator;
-		this.edgeCasesGenerator = edgeCasesGenerator;
+		this.listOfEdgeCases = listOfEdgeCases;
 		this.edgeCasesMode = edgeCasesMode;
 		this.edgeCasesTotal = edgeCasesTotal;
 		this.baseToEdgeCaseRatio = baseToEdgeCaseRatio;
 		this.baseRandomSeed = baseRandomSeed;
-		this.random = SourceOfRandomness.newRandom(baseRandomSeed);
+		this.generationSource = generationSource;
+		this.reset();
 	}
 
 	@Override
@@ -190,11 +200,62 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public List<Shrinkable<Object>> next() {
+		long seed = seedForNextGeneration();
+		Random random = generationSource.nextRandom(SourceOfRandomness.newRandom(seed));
+		Optional<List<Shrinkable<Object>>> edgeCase = nextEdgeCase(random);
+		if (edgeCase.isPresent()) {
+			return edgeCase.get();
+		}
+		// A guided generation source provides a single random for all parameters
+		// whose values cannot be generated again
+		if (generationSource != GenerationSource.DEFAULT) {
+			return randomGenerator.generateNext(random);
+		}
+		Optional<List<Object>> values = randomGenerator.generateNextValues(seed);
+		Supplier<List<Shrinkable<Object>>> generateShrinkables = () -> randomGenerator.generateNext(seed);
+		return values.map(v -> new ValueOnlyTry(v, generateShrinkables).shrinkables())
+					 .orElseGet(generateShrinkables);
+	}
+
+	/**
+	 * Since every generation step uses its own random seed, only edge cases
+	 * must be stepped through. As soon as all edge cases have been generated
+	 * the remaining samples are skipped in one go.
+	 *
+	 * <p>
+	 * Samples of a guided generation source depend on the feedback from previous tries.
+	 * They cannot be skipped but only be reproduced by running all tries again.
+	 * </p>
+	 */
+	@Override
+	public boolean skip(long numberOfSamples) {
+		if (generationSource != GenerationSource.DEFAULT) {
+			return false;
+		}
+		for (long i = 0; i < numberOfSamples; i++) {
+			if (allEdgeCasesGenerated || !edgeCasesMode.activated()) {
+				generationIndex += numberOfSamples - i;
+				break;
+			}
+			nextEdgeCase(randomForNextGeneration());
+		}
+		return true;
+	}
+
+	private Random randomForNextGeneration() {
+		return SourceOfRandomness.newRandom(seedForNextGeneration());
+	}
+
+	private long seedForNextGeneration() {
+		return SourceOfRandomness.deriveSeed(baseRandomSeed, generationIndex++);
+	}
+
+	private Optional<List<Shrinkable<Object>>> nextEdgeCase(Random random) {
 		if (!allEdgeCasesGenerated) {
 			if (edgeCasesMode.generateFirst()) {
 				if (edgeCasesGenerator.hasNext()) {
 					edgeCasesTried++;
-					return edgeCasesGenerator.next();
+					return Optional.of(edgeCasesGenerator.next());
 				} else {
 					allEdgeCasesGenerated = true;
 				}
@@ -203,14 +264,14 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 				if (shouldGenerateEdgeCase(random)) {
 					if (edgeCasesGenerator.hasNext()) {
 						edgeCasesTried++;
-						return edgeCasesGenerator.next();
+						return Optional.of(edgeCasesGenerator.next());
 					} else {
 						allEdgeCasesGenerated = true;
 					}
 				}
 			}
 		}
-		return randomGenerator.generateNext(random);
+		return Optional.empty();
 	}
 
 	@Override
@@ -225,7 +286,10 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public void reset() {
-		random = SourceOfRandomness.newRandom(baseRandomSeed);
+		edgeCasesGenerator = new EdgeCasesGenerator(listOfEdgeCases);
+		allEdgeCasesGenerated = false;
+		edgeCasesTried = 0;
+		generationIndex = 0;
 	}
 
 	private boolean shouldGenerateEdgeCase(Random localRandom) {
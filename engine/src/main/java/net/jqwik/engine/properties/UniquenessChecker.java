@@ -34,8 +34,12 @@ public class UniquenessChecker {
 	}
 
 	public static <T> boolean checkUniquenessOfValues(Collection<FeatureExtractor<T>> extractors, Collection<T> elements) {
-		for (FeatureExtractor<T> extractor : extractors) {
-			if (!extractor.areUnique(elements)) {
+		if (extractors.isEmpty()) {
+			return true;
+		}
+		UniquenessIndex<T> index = new UniquenessIndex<>(extractors);
+		for (T element : elements) {
+			if (!index.addIfUnique(element)) {
 				return false;
 			}
 		}
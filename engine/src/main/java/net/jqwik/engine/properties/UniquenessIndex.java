@@ -0,0 +1,106 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Keeps the features of all added values in hash maps - one for each feature extractor -
+ * so that checking a value against uniqueness constraints does not depend on the number of values.
+ *
+ * <p>
+ * Features are compared by {@linkplain Object#equals(Object)} and {@linkplain Object#hashCode()}.
+ * </p>
+ */
+public class UniquenessIndex<T> {
+
+	private final List<FeatureExtractor<T>> extractors;
+	private final List<Map<Object, Integer>> featureCounts;
+
+	public UniquenessIndex(Collection<FeatureExtractor<T>> extractors) {
+		this.extractors = new ArrayList<>(extractors);
+		this.featureCounts = new ArrayList<>(extractors.size());
+		for (int i = 0; i < extractors.size(); i++) {
+			featureCounts.add(new HashMap<>());
+		}
+	}
+
+	public static <T> UniquenessIndex<T> of(Collection<FeatureExtractor<T>> extractors, Collection<T> values) {
+		UniquenessIndex<T> index = new UniquenessIndex<>(extractors);
+		for (T value : values) {
+			index.add(value);
+		}
+		return index;
+	}
+
+	public boolean isEmpty() {
+		return extractors.isEmpty();
+	}
+
+	/**
+	 * @return true if no added value shares a feature with {@code value}
+	 */
+	public boolean isUnique(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			if (featureCounts.get(i).containsKey(feature)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if the added values would still be unique
+	 * when the added value {@code existing} was replaced by {@code replacement}
+	 */
+	public boolean isUniqueReplacing(T existing, T replacement) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Object feature = extractor.applySafe(replacement);
+			Integer count = featureCounts.get(i).get(feature);
+			if (count == null) {
+				continue;
+			}
+			if (count > 1 || !Objects.equals(feature, extractor.applySafe(existing))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Add {@code value} to the index if it is unique.
+	 *
+	 * @return false if another value with the same feature has been added before
+	 */
+	public boolean addIfUnique(T value) {
+		if (!isUnique(value)) {
+			return false;
+		}
+		add(value);
+		return true;
+	}
+
+	/**
+	 * Add {@code value} to the index regardless of its uniqueness.
+	 *
+	 * @return true if all added values are still unique
+	 */
+	public boolean add(T value) {
+		boolean unique = true;
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			Integer count = featureCounts.get(i).merge(feature, 1, Integer::sum);
+			if (count > 1) {
+				unique = false;
+			}
+		}
+		return unique;
+	}
+
+	public void remove(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			featureCounts.get(i).computeIfPresent(feature, (f, count) -> count > 1 ? count - 1 : null);
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * The parameters of a try that have been generated as plain values.
+ * Their shrinkables are only created - by generating the try again from the same seed -
+ * when one of them is needed, which usually only happens after the try has falsified the property.
+ */
+class ValueOnlyTry {
+
+	private final List<Object> values;
+	private final Supplier<List<Shrinkable<Object>>> regenerate;
+
+	private List<Shrinkable<Object>> regeneratedShrinkables = null;
+
+	ValueOnlyTry(List<Object> values, Supplier<List<Shrinkable<Object>>> regenerate) {
+		this.values = values;
+		this.regenerate = regenerate;
+	}
+
+	List<Shrinkable<Object>> shrinkables() {
+		return IntStream.range(0, values.size())
+						.mapToObj(ParameterShrinkable::new)
+						.collect(Collectors.toList());
+	}
+
+	private synchronized Shrinkable<Object> regenerated(int index) {
+		if (regeneratedShrinkables == null) {
+			regeneratedShrinkables = DefaultPropertyMetrics.runWithoutMetrics(regenerate);
+		}
+		return regeneratedShrinkables.get(index);
+	}
+
+	private class ParameterShrinkable implements Shrinkable<Object> {
+
+		private final int index;
+		private boolean generatedValueUsed = false;
+
+		private ParameterShrinkable(int index) {
+			this.index = index;
+		}
+
+		// The generated value can be used only once because it might be changed by the property
+		@Override
+		public Object value() {
+			synchronized (this) {
+				if (!generatedValueUsed) {
+					generatedValueUsed = true;
+					return values.get(index);
+				}
+			}
+			return regenerated(index).value();
+		}
+
+		@Override
+		public Stream<Shrinkable<Object>> shrink() {
+			return regenerated(index).shrink();
+		}
+
+		@Override
+		public Optional<Shrinkable<Object>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+			return regenerated(index).grow(before, after);
+		}
+
+		@Override
+		public Stream<Shrinkable<Object>> grow() {
+			return regenerated(index).grow();
+		}
+
+		@Override
+		public ShrinkingDistance distance() {
+			return regenerated(index).distance();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("ValueOnly<%s>", values.get(index));
+		}
+	}
+}
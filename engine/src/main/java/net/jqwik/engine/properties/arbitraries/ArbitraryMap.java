@@ -41,6 +41,11 @@ public class ArbitraryMap<T, U> implements Arbitrary<U> {
 		return self.isGeneratorMemoizable();
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return self.isGeneratorCacheable();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -20,6 +20,14 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 		this.max = max;
 	}
 
+	char min() {
+		return min;
+	}
+
+	char max() {
+		return max;
+	}
+
 	@Override
 	public RandomGenerator<Character> generator(int genSize) {
 		return RandomGenerators.chars(min, max);
@@ -53,6 +61,11 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 		return EdgeCasesSupport.fromShrinkables(listOfEdgeCases(maxEdgeCases));
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
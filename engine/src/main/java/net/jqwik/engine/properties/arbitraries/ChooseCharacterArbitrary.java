@@ -24,6 +24,11 @@ public class ChooseCharacterArbitrary extends FromGeneratorsArbitrary<Character>
 		this.chars = chars;
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
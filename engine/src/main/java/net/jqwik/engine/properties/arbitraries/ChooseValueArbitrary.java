@@ -18,6 +18,11 @@ public class ChooseValueArbitrary<T> extends FromGeneratorsArbitrary<T> {
 		this.values = values;
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -44,6 +44,11 @@ public class CombineArbitrary<R> implements Arbitrary<R> {
 		return isCombinedGeneratorMemoizable(arbitraries);
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return arbitraries.stream().allMatch(Arbitrary::isGeneratorCacheable);
+	}
+
 	@Override
 	public EdgeCases<R> edgeCases(int maxEdgeCases) {
 		return combineEdgeCases(
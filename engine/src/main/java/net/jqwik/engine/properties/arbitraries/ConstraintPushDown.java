@@ -0,0 +1,55 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+
+/**
+ * Splits a {@linkplain ConstraintPredicate} into the parts an arbitrary pushes down into generation
+ * and the remaining parts which are still used for filtering.
+ */
+class ConstraintPushDown<T> {
+
+	private final List<Predicate<? super T>> remainingParts;
+	private final int maxMisses;
+
+	ConstraintPushDown(ConstraintPredicate<T> constraint, int maxMisses) {
+		this.remainingParts = new ArrayList<>(constraint.parts());
+		this.maxMisses = maxMisses;
+	}
+
+	@SuppressWarnings("unchecked")
+	<C extends ConstraintPredicate<?>> List<C> takeAll(Class<? super C> constraintType) {
+		List<C> taken = new ArrayList<>();
+		Iterator<Predicate<? super T>> iterator = remainingParts.iterator();
+		while (iterator.hasNext()) {
+			Predicate<? super T> part = iterator.next();
+			if (constraintType.isInstance(part)) {
+				taken.add((C) part);
+				iterator.remove();
+			}
+		}
+		return taken;
+	}
+
+	@SuppressWarnings("unchecked")
+	<C extends ConstraintPredicate<?>> Optional<C> takeFirst(Class<? super C> constraintType) {
+		for (Predicate<? super T> part : remainingParts) {
+			if (constraintType.isInstance(part)) {
+				remainingParts.remove(part);
+				return Optional.of((C) part);
+			}
+		}
+		return Optional.empty();
+	}
+
+	Arbitrary<T> filterRemaining(Arbitrary<T> arbitrary) {
+		if (remainingParts.isEmpty()) {
+			return arbitrary;
+		}
+		List<Predicate<? super T>> parts = new ArrayList<>(remainingParts);
+		return arbitrary.filter(maxMisses, value -> parts.stream().allMatch(part -> part.test(value)));
+	}
+}
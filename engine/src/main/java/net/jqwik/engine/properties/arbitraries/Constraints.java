@@ -0,0 +1,296 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.arbitraries.*;
+
+/**
+ * The kinds of {@linkplain ConstraintPredicate} that arbitraries can push down into generation.
+ */
+public class Constraints {
+
+	private Constraints() {
+	}
+
+	public static final class Range<T extends Number> implements ConstraintPredicate<T> {
+		private final long min;
+		private final long max;
+
+		public Range(long min, long max) {
+			if (min > max) {
+				String message = String.format("min <%s> must not be larger than max <%s>", min, max);
+				throw new IllegalArgumentException(message);
+			}
+			this.min = min;
+			this.max = max;
+		}
+
+		public long min() {
+			return min;
+		}
+
+		public long max() {
+			return max;
+		}
+
+		@Override
+		public boolean test(T value) {
+			long longValue = value.longValue();
+			return longValue >= min && longValue <= max;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Range<?> range = (Range<?>) o;
+			return min == range.min && max == range.max;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(min, max);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("between(%s, %s)", min, max);
+		}
+	}
+
+	public static final class Modulo<T extends Number> implements ConstraintPredicate<T> {
+		private final long divisor;
+		private final long remainder;
+
+		public Modulo(long divisor, long remainder) {
+			if (divisor <= 0) {
+				String message = String.format("divisor <%s> must be positive", divisor);
+				throw new IllegalArgumentException(message);
+			}
+			if (remainder < 0 || remainder >= divisor) {
+				String message = String.format("remainder <%s> must be between 0 and %s", remainder, divisor - 1);
+				throw new IllegalArgumentException(message);
+			}
+			this.divisor = divisor;
+			this.remainder = remainder;
+		}
+
+		public long divisor() {
+			return divisor;
+		}
+
+		public long remainder() {
+			return remainder;
+		}
+
+		@Override
+		public boolean test(T value) {
+			return Math.floorMod(value.longValue(), divisor) == remainder;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Modulo<?> modulo = (Modulo<?>) o;
+			return divisor == modulo.divisor && remainder == modulo.remainder;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(divisor, remainder);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("modulo(%s, %s)", divisor, remainder);
+		}
+	}
+
+	public static final class Length<T extends CharSequence> implements ConstraintPredicate<T> {
+		private final int min;
+		private final int max;
+
+		public Length(int min, int max) {
+			if (min < 0 || min > max) {
+				String message = String.format("min <%s> must be between 0 and max <%s>", min, max);
+				throw new IllegalArgumentException(message);
+			}
+			this.min = min;
+			this.max = max;
+		}
+
+		public int min() {
+			return min;
+		}
+
+		public int max() {
+			return max;
+		}
+
+		@Override
+		public boolean test(T value) {
+			return value.length() >= min && value.length() <= max;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Length<?> length = (Length<?>) o;
+			return min == length.min && max == length.max;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(min, max);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("lengthBetween(%s, %s)", min, max);
+		}
+	}
+
+	/**
+	 * Common super class of constraints on the chars of char sequences.
+	 */
+	public static abstract class Chars<T extends CharSequence> implements ConstraintPredicate<T> {
+
+		public abstract boolean allows(char c);
+
+		@Override
+		public boolean test(T value) {
+			for (int i = 0; i < value.length(); i++) {
+				if (!allows(value.charAt(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	public static final class CharRange<T extends CharSequence> extends Chars<T> {
+		private final char min;
+		private final char max;
+
+		public CharRange(char min, char max) {
+			if (min > max) {
+				String message = String.format("min <%s> must not be larger than max <%s>", (int) min, (int) max);
+				throw new IllegalArgumentException(message);
+			}
+			this.min = min;
+			this.max = max;
+		}
+
+		public char min() {
+			return min;
+		}
+
+		public char max() {
+			return max;
+		}
+
+		@Override
+		public boolean allows(char c) {
+			return c >= min && c <= max;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			CharRange<?> charRange = (CharRange<?>) o;
+			return min == charRange.min && max == charRange.max;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(min, max);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("charsBetween(%s, %s)", min, max);
+		}
+	}
+
+	public static final class CharSet<T extends CharSequence> extends Chars<T> {
+		private final Set<Character> chars = new LinkedHashSet<>();
+
+		public CharSet(char[] chars) {
+			for (char c : chars) {
+				this.chars.add(c);
+			}
+		}
+
+		public Set<Character> chars() {
+			return Collections.unmodifiableSet(chars);
+		}
+
+		@Override
+		public boolean allows(char c) {
+			return chars.contains(c);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			CharSet<?> charSet = (CharSet<?>) o;
+			return chars.equals(charSet.chars);
+		}
+
+		@Override
+		public int hashCode() {
+			return chars.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("onlyChars(%s)", chars);
+		}
+	}
+
+	public static final class All<T> implements ConstraintPredicate<T> {
+		private final List<Predicate<? super T>> parts;
+
+		public All(List<Predicate<? super T>> parts) {
+			this.parts = parts;
+		}
+
+		@Override
+		public List<Predicate<? super T>> parts() {
+			return Collections.unmodifiableList(parts);
+		}
+
+		@Override
+		public boolean test(T value) {
+			for (Predicate<? super T> part : parts) {
+				if (!part.test(value)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			All<?> all = (All<?>) o;
+			return parts.equals(all.parts);
+		}
+
+		@Override
+		public int hashCode() {
+			return parts.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("all(%s)", parts);
+		}
+	}
+}
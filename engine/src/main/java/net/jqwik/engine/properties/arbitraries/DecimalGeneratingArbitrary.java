@@ -76,6 +76,11 @@ class DecimalGeneratingArbitrary extends TypedCloneable implements Arbitrary<Big
 		return clone;
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -6,6 +6,7 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.shrinking.*;
@@ -48,12 +49,25 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 
 	@Override
 	public RandomGenerator<A> generator(int genSize) {
-		return createListGenerator(genSize, false).map(this::toArray);
+		return integralArrayGenerator(genSize, false)
+				   .orElseGet(() -> createListGenerator(genSize, false).map(this::toArray));
 	}
 
 	@Override
 	public RandomGenerator<A> generatorWithEmbeddedEdgeCases(int genSize) {
-		return createListGenerator(genSize, true).map(this::toArray);
+		return integralArrayGenerator(genSize, true)
+				   .orElseGet(() -> createListGenerator(genSize, true).map(this::toArray));
+	}
+
+	// Arrays of primitive integral values can be generated and shrunk without a shrinkable per element
+	private Optional<RandomGenerator<A>> integralArrayGenerator(int genSize, boolean withEmbeddedEdgeCases) {
+		if (!uniquenessExtractors.isEmpty() || !(elementArbitrary instanceof PrimitiveIntegralArbitrary)) {
+			return Optional.empty();
+		}
+		IntegralGeneratingArbitrary generatingArbitrary = ((PrimitiveIntegralArbitrary) elementArbitrary).generatingArbitrary();
+		return IntegralArrayType.forComponentType(componentClass).map(
+			type -> generatingArbitrary.arrayGenerator(type, minSize, maxSize, genSize, sizeDistribution, withEmbeddedEdgeCases)
+		);
 	}
 
 	@Override
@@ -99,4 +113,16 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 		FeatureExtractor<T> featureExtractor = by::apply;
 		return (ArrayArbitrary<T, A>) super.uniqueElements(featureExtractor);
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!super.equals(o)) return false;
+		DefaultArrayArbitrary<?, ?> that = (DefaultArrayArbitrary<?, ?>) o;
+		return componentClass.equals(that.componentClass);
+	}
+
+	@Override
+	public int hashCode() {
+		return HashCodeSupport.hash(super.hashCode(), componentClass);
+	}
 }
@@ -92,6 +92,11 @@ public class DefaultBigDecimalArbitrary extends TypedCloneable implements BigDec
 		return clone;
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -68,6 +68,11 @@ public class DefaultBigIntegerArbitrary extends TypedCloneable implements BigInt
 		return clone;
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
@@ -61,8 +62,29 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 
 	private Arbitrary<Character> defaultArbitrary() {
 		return rangeArbitrary(Character.MIN_VALUE, Character.MAX_VALUE)
-				   .filter(c -> !DefaultCharacterArbitrary.isNoncharacter(c)
-									&& !DefaultCharacterArbitrary.isPrivateUseCharacter(c));
+				   .filter(c -> isDefaultCharacter(c));
+	}
+
+	static boolean isDefaultCharacter(int codepoint) {
+		return !isNoncharacter(codepoint) && !isPrivateUseCharacter(codepoint);
+	}
+
+	/**
+	 * The single range of characters and a filter within that range - if this arbitrary can be described like that.
+	 * Used to generate strings without a shrinkable for each character.
+	 */
+	Optional<Tuple.Tuple2<CharacterRangeArbitrary, IntPredicate>> asFilteredRange() {
+		if (partsWithSize.isEmpty()) {
+			return Optional.of(Tuple.of(
+				new CharacterRangeArbitrary(Character.MIN_VALUE, Character.MAX_VALUE),
+				DefaultCharacterArbitrary::isDefaultCharacter
+			));
+		}
+		if (partsWithSize.size() == 1 && partsWithSize.get(0).get2() instanceof CharacterRangeArbitrary) {
+			IntPredicate allChars = c -> true;
+			return Optional.of(Tuple.of((CharacterRangeArbitrary) partsWithSize.get(0).get2(), allChars));
+		}
+		return Optional.empty();
 	}
 
 	@Override
@@ -120,6 +142,11 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 		return this.range('A', 'Z').range('a', 'z');
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -114,6 +114,11 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 		return clone;
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -114,6 +114,11 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 		return clone;
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
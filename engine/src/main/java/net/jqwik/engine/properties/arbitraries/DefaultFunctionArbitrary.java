@@ -14,6 +14,7 @@ public class DefaultFunctionArbitrary<F, R> extends TypedCloneable implements Fu
 	private final Class<F> functionalType;
 	private final Arbitrary<R> resultArbitrary;
 	private final List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions = new ArrayList<>();
+	private boolean memoizeResults = false;
 
 	public DefaultFunctionArbitrary(Class<F> functionalType, Arbitrary<R> resultArbitrary) {
 		this.functionalType = functionalType;
@@ -47,6 +48,7 @@ public class DefaultFunctionArbitrary<F, R> extends TypedCloneable implements Fu
 		DefaultFunctionArbitrary<F, R> that = (DefaultFunctionArbitrary<F, R>) o;
 		if (!functionalType.equals(that.functionalType)) return false;
 		if (!resultArbitrary.equals(that.resultArbitrary)) return false;
+		if (memoizeResults != that.memoizeResults) return false;
 		return conditionsAreEqual(conditions, that.conditions);
 	}
 
@@ -78,7 +80,7 @@ public class DefaultFunctionArbitrary<F, R> extends TypedCloneable implements Fu
 	private List<RandomGenerator<F>> createGenerators(int genSize, boolean withEmbeddedEdgeCases) {
 		ConstantFunctionGenerator<F, R> constantFunctionGenerator = createConstantFunctionGenerator(genSize, withEmbeddedEdgeCases);
 		FunctionGenerator<F, R> functionGenerator =
-			new FunctionGenerator<>(functionalType, resultArbitrary.generator(genSize, withEmbeddedEdgeCases), conditions);
+			new FunctionGenerator<>(functionalType, resultArbitrary.generator(genSize, withEmbeddedEdgeCases), conditions, memoizeResults);
 		return Arrays.asList(
 			constantFunctionGenerator,
 			functionGenerator,
@@ -100,6 +102,13 @@ public class DefaultFunctionArbitrary<F, R> extends TypedCloneable implements Fu
 		return clone;
 	}
 
+	@Override
+	public <F_ extends F> FunctionArbitrary<F_, R> memoizeResults() {
+		DefaultFunctionArbitrary<F_, R> clone = typedClone();
+		clone.memoizeResults = true;
+		return clone;
+	}
+
 	private void addCondition(Tuple2<Predicate<List<Object>>, Function<List<Object>, R>> condition) {
 		conditions.add(condition);
 	}
@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary {
+public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary, PrimitiveIntegralArbitrary {
 
 	private static final int DEFAULT_MIN = Integer.MIN_VALUE;
 	private static final int DEFAULT_MAX = Integer.MAX_VALUE;
@@ -18,19 +18,24 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 		this.generatingArbitrary = new IntegralGeneratingArbitrary(BigInteger.valueOf(DEFAULT_MIN), BigInteger.valueOf(DEFAULT_MAX));
 	}
 
+	@Override
+	public IntegralGeneratingArbitrary generatingArbitrary() {
+		return generatingArbitrary;
+	}
+
 	@Override
 	public RandomGenerator<Integer> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
+		return generatingArbitrary.longGenerator(genSize).map(Long::intValue);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Integer>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::intValueExact));
+		return generatingArbitrary.longExhaustive(maxNumberOfSamples).map(generator -> generator.map(Long::intValue));
 	}
 
 	@Override
 	public EdgeCases<Integer> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::intValueExact);
+		return EdgeCasesSupport.map(generatingArbitrary.longEdgeCases(maxEdgeCases), Long::intValue);
 	}
 
 	@Override
@@ -73,6 +78,32 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 		return clone;
 	}
 
+	@Override
+	public Arbitrary<Integer> filter(int maxMisses, Predicate<Integer> filterPredicate) {
+		if (!(filterPredicate instanceof ConstraintPredicate)) {
+			return IntegerArbitrary.super.filter(maxMisses, filterPredicate);
+		}
+		ConstraintPushDown<Integer> pushDown = new ConstraintPushDown<>((ConstraintPredicate<Integer>) filterPredicate, maxMisses);
+		Optional<Constraints.Modulo<?>> modulo = pushDown.takeFirst(Constraints.Modulo.class);
+		Optional<IntegralGeneratingArbitrary> constrained =
+			generatingArbitrary.constrainedTo(pushDown.takeAll(Constraints.Range.class), modulo);
+		if (!constrained.isPresent()) {
+			// Filtering will report that no value can be found
+			return IntegerArbitrary.super.filter(maxMisses, filterPredicate);
+		}
+		DefaultIntegerArbitrary clone = typedClone();
+		clone.generatingArbitrary = constrained.get();
+		Arbitrary<Integer> arbitrary = modulo.<Arbitrary<Integer>>map(
+			m -> clone.map(quotient -> (int) (quotient * m.divisor() + m.remainder()))
+		).orElse(clone);
+		return pushDown.filterRemaining(arbitrary);
+	}
+
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary {
+public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary, PrimitiveIntegralArbitrary {
 
 	private static final long DEFAULT_MIN = Long.MIN_VALUE;
 	private static final long DEFAULT_MAX = Long.MAX_VALUE;
@@ -18,19 +18,24 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 		this.generatingArbitrary = new IntegralGeneratingArbitrary(BigInteger.valueOf(DEFAULT_MIN), BigInteger.valueOf(DEFAULT_MAX));
 	}
 
+	@Override
+	public IntegralGeneratingArbitrary generatingArbitrary() {
+		return generatingArbitrary;
+	}
+
 	@Override
 	public RandomGenerator<Long> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
+		return generatingArbitrary.longGenerator(genSize);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Long>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::longValueExact));
+		return generatingArbitrary.longExhaustive(maxNumberOfSamples);
 	}
 
 	@Override
 	public EdgeCases<Long> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::longValueExact);
+		return generatingArbitrary.longEdgeCases(maxEdgeCases);
 	}
 
 	@Override
@@ -73,6 +78,32 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 		return clone;
 	}
 
+	@Override
+	public Arbitrary<Long> filter(int maxMisses, Predicate<Long> filterPredicate) {
+		if (!(filterPredicate instanceof ConstraintPredicate)) {
+			return LongArbitrary.super.filter(maxMisses, filterPredicate);
+		}
+		ConstraintPushDown<Long> pushDown = new ConstraintPushDown<>((ConstraintPredicate<Long>) filterPredicate, maxMisses);
+		Optional<Constraints.Modulo<?>> modulo = pushDown.takeFirst(Constraints.Modulo.class);
+		Optional<IntegralGeneratingArbitrary> constrained =
+			generatingArbitrary.constrainedTo(pushDown.takeAll(Constraints.Range.class), modulo);
+		if (!constrained.isPresent()) {
+			// Filtering will report that no value can be found
+			return LongArbitrary.super.filter(maxMisses, filterPredicate);
+		}
+		DefaultLongArbitrary clone = typedClone();
+		clone.generatingArbitrary = constrained.get();
+		Arbitrary<Long> arbitrary = modulo.<Arbitrary<Long>>map(
+			m -> clone.map(quotient -> (quotient * m.divisor() + m.remainder()))
+		).orElse(clone);
+		return pushDown.filterRemaining(arbitrary);
+	}
+
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
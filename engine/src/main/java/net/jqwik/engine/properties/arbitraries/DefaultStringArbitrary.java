@@ -1,6 +1,8 @@
 package net.jqwik.engine.properties.arbitraries;
 
 import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -20,11 +22,35 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 	private Set<Character> excludedChars = new LinkedHashSet<>();
 	private RandomDistribution lengthDistribution = null;
 	private double repeatChars = 0.0;
+	private List<Constraints.Chars<?>> charConstraints = new ArrayList<>();
 
 	@Override
 	public RandomGenerator<String> generator(int genSize) {
 		long maxUniqueChars = characterArbitrary.exhaustive(maxLength).map(ExhaustiveGenerator::maxCount).orElse((long) maxLength);
-		return RandomGenerators.strings(randomCharacterGenerator(), minLength, maxLength, maxUniqueChars, genSize, lengthDistribution);
+		Optional<RandomGenerator<String>> charArrayGenerator = charArrayGenerator(maxUniqueChars, genSize);
+		return charArrayGenerator.orElseGet(
+			() -> RandomGenerators.strings(randomCharacterGenerator(), minLength, maxLength, maxUniqueChars, genSize, lengthDistribution)
+		);
+	}
+
+	// Strings from a single character range can be generated and shrunk without a shrinkable per character
+	private Optional<RandomGenerator<String>> charArrayGenerator(long maxUniqueChars, int genSize) {
+		if (repeatChars > 0 || !(characterArbitrary instanceof DefaultCharacterArbitrary)) {
+			return Optional.empty();
+		}
+		return ((DefaultCharacterArbitrary) characterArbitrary).asFilteredRange().map(rangeAndFilter -> {
+			CharacterRangeArbitrary range = rangeAndFilter.get1();
+			IntPredicate isAllowed = rangeAndFilter.get2();
+			IntPredicate isAllowedAndNotExcluded =
+				excludedChars.isEmpty() && charConstraints.isEmpty()
+					? isAllowed
+					: c -> isAllowed.test(c) && !excludedChars.contains((char) c) && satisfiesCharConstraints((char) c);
+			return RandomGenerators.strings(
+				range.min(), range.max(), isAllowedAndNotExcluded,
+				minLength, maxLength, maxUniqueChars,
+				genSize, lengthDistribution
+			);
+		});
 	}
 
 	@Override
@@ -194,6 +220,83 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 		return clone;
 	}
 
+	// Generators with repeated chars depend on a store that only lives as long as the current property
+	@Override
+	public boolean isGeneratorCacheable() {
+		return repeatChars <= 0 && characterArbitrary.isGeneratorCacheable();
+	}
+
+	@Override
+	public Arbitrary<String> filter(int maxMisses, Predicate<String> filterPredicate) {
+		if (!(filterPredicate instanceof ConstraintPredicate)) {
+			return StringArbitrary.super.filter(maxMisses, filterPredicate);
+		}
+		ConstraintPushDown<String> pushDown = new ConstraintPushDown<>((ConstraintPredicate<String>) filterPredicate, maxMisses);
+		DefaultStringArbitrary clone = typedClone();
+		for (Constraints.Length<?> length : pushDown.<Constraints.Length<?>>takeAll(Constraints.Length.class)) {
+			clone.minLength = Math.max(clone.minLength, length.min());
+			clone.maxLength = Math.min(clone.maxLength, length.max());
+		}
+		List<Constraints.Chars<?>> chars = pushDown.takeAll(Constraints.Chars.class);
+		clone.charConstraints = new ArrayList<>(charConstraints);
+		clone.charConstraints.addAll(chars);
+		Optional<CharacterArbitrary> narrowedCharacters = clone.narrowDefaultCharacters(chars);
+		if (clone.minLength > clone.maxLength || !narrowedCharacters.isPresent()) {
+			// Filtering will report that no value can be found
+			return StringArbitrary.super.filter(maxMisses, filterPredicate);
+		}
+		clone.characterArbitrary = narrowedCharacters.get();
+		return pushDown.filterRemaining(clone);
+	}
+
+	// Char constraints are checked for each char. For the default characters they can also
+	// narrow down the characters to choose from so that not every char must be checked many times.
+	private Optional<CharacterArbitrary> narrowDefaultCharacters(List<Constraints.Chars<?>> chars) {
+		if (chars.isEmpty() || !characterArbitrary.equals(new DefaultCharacterArbitrary())) {
+			return Optional.of(characterArbitrary);
+		}
+		Optional<Constraints.CharSet<?>> charSet =
+			chars.stream()
+				 .filter(c -> c instanceof Constraints.CharSet)
+				 .<Constraints.CharSet<?>>map(c -> (Constraints.CharSet<?>) c)
+				 .findFirst();
+		if (charSet.isPresent()) {
+			List<Character> allowedChars =
+				charSet.get().chars().stream()
+					   .filter(c -> DefaultCharacterArbitrary.isDefaultCharacter(c) && satisfiesCharConstraints(c))
+					   .collect(Collectors.toList());
+			if (allowedChars.isEmpty()) {
+				return Optional.empty();
+			}
+			char[] allowed = new char[allowedChars.size()];
+			for (int i = 0; i < allowed.length; i++) {
+				allowed[i] = allowedChars.get(i);
+			}
+			return Optional.of(new DefaultCharacterArbitrary().with(allowed));
+		}
+		char min = Character.MIN_VALUE;
+		char max = Character.MAX_VALUE;
+		for (Constraints.Chars<?> constraint : chars) {
+			Constraints.CharRange<?> range = (Constraints.CharRange<?>) constraint;
+			min = (char) Math.max(min, range.min());
+			max = (char) Math.min(max, range.max());
+		}
+		if (min > max) {
+			return Optional.empty();
+		}
+		boolean onlyDefaultCharacters = IntStream.rangeClosed(min, max).allMatch(DefaultCharacterArbitrary::isDefaultCharacter);
+		return Optional.of(onlyDefaultCharacters ? new DefaultCharacterArbitrary().range(min, max) : characterArbitrary);
+	}
+
+	private boolean satisfiesCharConstraints(char c) {
+		for (Constraints.Chars<?> constraint : charConstraints) {
+			if (!constraint.allows(c)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -205,12 +308,13 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 		if (Double.compare(that.repeatChars, repeatChars) != 0) return false;
 		if (!characterArbitrary.equals(that.characterArbitrary)) return false;
 		if (!excludedChars.equals(that.excludedChars)) return false;
+		if (!charConstraints.equals(that.charConstraints)) return false;
 		return Objects.equals(lengthDistribution, that.lengthDistribution);
 	}
 
 	@Override
 	public int hashCode() {
-		return HashCodeSupport.hash(characterArbitrary, minLength, maxLength, repeatChars, excludedChars, lengthDistribution);
+		return HashCodeSupport.hash(characterArbitrary, minLength, maxLength, repeatChars, excludedChars, charConstraints, lengthDistribution);
 	}
 
 	private RandomGenerator<Character> randomCharacterGenerator() {
@@ -227,6 +331,9 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 		if (!excludedChars.isEmpty()) {
 			characterArbitrary = characterArbitrary.filter(c -> !excludedChars.contains(c));
 		}
+		if (!charConstraints.isEmpty()) {
+			characterArbitrary = characterArbitrary.filter(this::satisfiesCharConstraints);
+		}
 		return characterArbitrary;
 	}
 
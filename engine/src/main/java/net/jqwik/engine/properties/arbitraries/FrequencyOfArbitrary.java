@@ -15,10 +15,12 @@ public class FrequencyOfArbitrary<T> implements Arbitrary<T>, SelfConfiguringArb
 
 	private final List<Tuple2<Integer, Arbitrary<T>>> frequencies;
 	private final boolean isGeneratorMemoizable;
+	private final boolean isGeneratorCacheable;
 
 	public FrequencyOfArbitrary(List<Tuple2<Integer, Arbitrary<T>>> frequencies) {
 		this.frequencies = frequencies;
 		this.isGeneratorMemoizable = frequencies.stream().allMatch(t -> t.get2().isGeneratorMemoizable());
+		this.isGeneratorCacheable = frequencies.stream().allMatch(t -> t.get2().isGeneratorCacheable());
 		if (this.frequencies.isEmpty()) {
 			throw new JqwikException("At least one frequency must be above 0");
 		}
@@ -39,6 +41,11 @@ public class FrequencyOfArbitrary<T> implements Arbitrary<T>, SelfConfiguringArb
 		return isGeneratorMemoizable;
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return isGeneratorCacheable;
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<T>> exhaustive(long maxNumberOfSamples) {
 		return ExhaustiveGenerators
@@ -6,6 +6,7 @@ import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
@@ -34,6 +35,40 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return RandomGenerators.bigIntegers(min, max, shrinkingTarget(), distribution);
 	}
 
+	/**
+	 * Generation for all integral types up to long. No BigInteger arithmetic is involved.
+	 */
+	RandomGenerator<Long> longGenerator(int genSize) {
+		return RandomIntegralGenerators.longs(
+			genSize,
+			min.longValueExact(),
+			max.longValueExact(),
+			shrinkingTarget().longValueExact(),
+			distribution
+		);
+	}
+
+	/**
+	 * Generation of primitive arrays without a shrinkable for each element.
+	 */
+	<A> RandomGenerator<A> arrayGenerator(
+		IntegralArrayType type,
+		int minSize, int maxSize,
+		int genSize, RandomDistribution sizeDistribution,
+		boolean withEmbeddedEdgeCases
+	) {
+		long[] edgeCases = withEmbeddedEdgeCases
+							   ? longEdgeCases(Math.max(genSize, 10)).suppliers().stream().mapToLong(s -> s.get().value()).toArray()
+							   : new long[0];
+		return RandomGenerators.integralArray(
+			type,
+			min.longValueExact(), max.longValueExact(), shrinkingTarget().longValueExact(), distribution,
+			edgeCases,
+			minSize, maxSize,
+			genSize, sizeDistribution
+		);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
@@ -46,6 +81,17 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		}
 	}
 
+	Optional<ExhaustiveGenerator<Long>> longExhaustive(long maxNumberOfSamples) {
+		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
+
+		// Necessary because maxCount could be larger than Long.MAX_VALUE
+		if (maxCount.compareTo(valueOf(maxNumberOfSamples)) > 0) {
+			return Optional.empty();
+		} else {
+			return ExhaustiveGenerators.fromIterable(LongRangeIterator::new, maxCount.longValueExact(), maxNumberOfSamples);
+		}
+	}
+
 	@Override
 	public EdgeCases<BigInteger> edgeCases(int maxEdgeCases) {
 		Range<BigInteger> range = Range.of(min, max);
@@ -66,6 +112,19 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return configuration.configure(edgeCasesConfigurator, edgeCasesCreator, maxEdgeCases);
 	}
 
+	/**
+	 * Edge cases are created and configured as BigIntegers but shrink as longs.
+	 */
+	EdgeCases<Long> longEdgeCases(int maxEdgeCases) {
+		long minLong = min.longValueExact();
+		long maxLong = max.longValueExact();
+		long shrinkingTargetLong = shrinkingTarget().longValueExact();
+		return EdgeCasesSupport.mapShrinkable(
+			edgeCases(maxEdgeCases),
+			shrinkable -> new ShrinkableLong(shrinkable.value().longValueExact(), minLong, maxLong, shrinkingTargetLong)
+		);
+	}
+
 	@Override
 	public Arbitrary<BigInteger> edgeCases(Consumer<EdgeCases.Config<BigInteger>> configurator) {
 		IntegralGeneratingArbitrary clone = typedClone();
@@ -73,6 +132,62 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return clone;
 	}
 
+	/**
+	 * A clone that only generates values within all {@code ranges}.
+	 * With a {@code modulo} constraint the clone generates the quotients {@code k}
+	 * of all values {@code k * divisor + remainder} within the ranges instead.
+	 *
+	 * @return empty if no value satisfies all constraints
+	 */
+	Optional<IntegralGeneratingArbitrary> constrainedTo(
+		List<Constraints.Range<?>> ranges,
+		Optional<Constraints.Modulo<?>> modulo
+	) {
+		BigInteger constrainedMin = min;
+		BigInteger constrainedMax = max;
+		for (Constraints.Range<?> range : ranges) {
+			constrainedMin = constrainedMin.max(valueOf(range.min()));
+			constrainedMax = constrainedMax.min(valueOf(range.max()));
+		}
+		BigInteger constrainedTarget = shrinkingTarget;
+		if (modulo.isPresent()) {
+			BigInteger divisor = valueOf(modulo.get().divisor());
+			BigInteger remainder = valueOf(modulo.get().remainder());
+			constrainedMin = ceilDiv(constrainedMin.subtract(remainder), divisor);
+			constrainedMax = floorDiv(constrainedMax.subtract(remainder), divisor);
+			if (constrainedTarget != null) {
+				constrainedTarget = floorDiv(constrainedTarget.subtract(remainder), divisor);
+			}
+		}
+		if (constrainedMin.compareTo(constrainedMax) > 0) {
+			return Optional.empty();
+		}
+		IntegralGeneratingArbitrary clone = typedClone();
+		clone.min = constrainedMin;
+		clone.max = constrainedMax;
+		clone.shrinkingTarget = constrainedTarget == null ? null : constrainedTarget.max(constrainedMin).min(constrainedMax);
+		if (modulo.isPresent()) {
+			// Configured edge cases refer to values and not to quotients
+			clone.edgeCasesConfigurator = EdgeCases.Config.noConfig();
+		}
+		return Optional.of(clone);
+	}
+
+	private static BigInteger floorDiv(BigInteger dividend, BigInteger positiveDivisor) {
+		BigInteger[] quotientAndRemainder = dividend.divideAndRemainder(positiveDivisor);
+		return quotientAndRemainder[1].signum() < 0 ? quotientAndRemainder[0].subtract(ONE) : quotientAndRemainder[0];
+	}
+
+	private static BigInteger ceilDiv(BigInteger dividend, BigInteger positiveDivisor) {
+		BigInteger[] quotientAndRemainder = dividend.divideAndRemainder(positiveDivisor);
+		return quotientAndRemainder[1].signum() > 0 ? quotientAndRemainder[0].add(ONE) : quotientAndRemainder[0];
+	}
+
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -136,4 +251,31 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		}
 	}
 
+	class LongRangeIterator implements Iterator<Long> {
+
+		// Cannot overflow since iteration stops when reaching max
+		long current = min.longValueExact();
+		final long last = max.longValueExact();
+		boolean hasNext = true;
+
+		@Override
+		public boolean hasNext() {
+			return hasNext;
+		}
+
+		@Override
+		public Long next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			long next = current;
+			if (current == last) {
+				hasNext = false;
+			} else {
+				current++;
+			}
+			return next;
+		}
+	}
+
 }
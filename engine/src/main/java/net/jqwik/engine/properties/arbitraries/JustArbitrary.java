@@ -43,6 +43,11 @@ public class JustArbitrary<T> implements Arbitrary<T> {
 				   : EdgeCases.fromSupplier(() -> Shrinkable.unshrinkable(value));
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return true;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
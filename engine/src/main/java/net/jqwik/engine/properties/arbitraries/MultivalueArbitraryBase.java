@@ -32,6 +32,11 @@ abstract class MultivalueArbitraryBase<T, U> extends TypedCloneable implements S
 		return elementArbitrary.isGeneratorMemoizable();
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return elementArbitrary.isGeneratorCacheable();
+	}
+
 	@Override
 	public StreamableArbitrary<T, U> ofMinSize(int minSize) {
 		if (minSize < 0) {
@@ -14,6 +14,7 @@ import net.jqwik.engine.properties.arbitraries.randomized.*;
 public class OneOfArbitrary<T> implements Arbitrary<T>, SelfConfiguringArbitrary<T> {
 	private final List<Arbitrary<T>> all = new ArrayList<>();
 	private final boolean isGeneratorMemoizable;
+	private final boolean isGeneratorCacheable;
 
 	@SuppressWarnings("unchecked")
 	public OneOfArbitrary(Collection<Arbitrary<? extends T>> choices) {
@@ -21,6 +22,7 @@ public class OneOfArbitrary<T> implements Arbitrary<T>, SelfConfiguringArbitrary
 			all.add((Arbitrary<T>) choice);
 		}
 		isGeneratorMemoizable = all.stream().allMatch(Arbitrary::isGeneratorMemoizable);
+		isGeneratorCacheable = all.stream().allMatch(Arbitrary::isGeneratorCacheable);
 	}
 
 	@Override
@@ -38,6 +40,11 @@ public class OneOfArbitrary<T> implements Arbitrary<T>, SelfConfiguringArbitrary
 		return isGeneratorMemoizable;
 	}
 
+	@Override
+	public boolean isGeneratorCacheable() {
+		return isGeneratorCacheable;
+	}
+
 	private RandomGenerator<T> rawGeneration(int genSize, boolean withEmbeddedEdgeCases) {
 		List<Tuple2<Integer, Arbitrary<T>>> frequencies =
 			all.stream()
@@ -0,0 +1,11 @@
+package net.jqwik.engine.properties.arbitraries;
+
+/**
+ * Implemented by arbitraries of byte, short, int and long values.
+ * Arrays of those values can then be generated without a shrinkable for each element.
+ */
+interface PrimitiveIntegralArbitrary {
+
+	IntegralGeneratingArbitrary generatingArbitrary();
+
+}
@@ -24,60 +24,55 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 		this.conditions = conditions;
 	}
 
-	@SuppressWarnings("unchecked")
-	F createFunctionProxy(InvocationHandler handler) {
-		return (F) Proxy.newProxyInstance(functionalType.getClassLoader(), new Class[]{functionalType}, handler);
-	}
-
-
-	public Shrinkable<F> createConstantFunction(Shrinkable<R> shrinkableConstant) {
-		return shrinkableConstant.map(this::constantFunction);
+	F createFunction(CompiledFunction.Body body) {
+		return CompiledFunctions.create(functionalType, body).orElseGet(() -> createFunctionProxy(body));
 	}
 
-	private F constantFunction(R constant) {
+	@SuppressWarnings("unchecked")
+	private F createFunctionProxy(CompiledFunction.Body body) {
 		InvocationHandler handler = (proxy, method, args) -> {
 			if (JqwikReflectionSupport.isEqualsMethod(method)) {
 				return handleEqualsMethod(proxy, args);
 			}
 			if (JqwikReflectionSupport.isToStringMethod(method)) {
-				return handleToStringOfConstantMethod(constant);
+				return body.toString();
 			}
 			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
-				return constant.hashCode() + constant.hashCode();
+				return body.hashCode();
 			}
 			if (method.isDefault()) {
 				return handleDefaultMethod(proxy, method, args);
 			}
-
-			return conditionalResult(args).orElse(new Object[]{constant})[0];
+			return body.apply(args == null ? new Object[0] : args);
 		};
-		return createFunctionProxy(handler);
+		return (F) Proxy.newProxyInstance(functionalType.getClassLoader(), new Class[]{functionalType}, handler);
 	}
 
-	protected Object handleEqualsMethod(final Object proxy, Object[] args) {
-		return proxy == args[0];
+	public Shrinkable<F> createConstantFunction(Shrinkable<R> shrinkableConstant) {
+		return shrinkableConstant.map(this::constantFunction);
 	}
 
-	private Object handleToStringOfConstantMethod(final R constant) {
-		return String.format(
-			"Constant Function<%s>(%s)",
-			functionalType.getSimpleName(),
-			JqwikStringSupport.displayString(constant)
-		);
+	private F constantFunction(R constant) {
+		return createFunction(new ConstantFunctionBody(constant));
+	}
+
+	protected Object handleEqualsMethod(final Object proxy, Object[] args) {
+		return proxy == args[0];
 	}
 
 	// Returns result wrapped in array to allow null as result
 	protected Optional<Object[]> conditionalResult(Object[] args) {
-		Optional<Object[]> conditionalResult = Optional.empty();
+		if (conditions.isEmpty()) {
+			return Optional.empty();
+		}
+		List<Object> params = Arrays.asList(args);
 		for (Tuple2<Predicate<List<Object>>, Function<List<Object>, R>> condition : conditions) {
-			List<Object> params = Arrays.asList(args);
 			if (condition.get1().test(params)) {
 				Object[] result = new Object[]{condition.get2().apply(params)};
-				conditionalResult = Optional.of(result);
-				break;
+				return Optional.of(result);
 			}
 		}
-		return conditionalResult;
+		return Optional.empty();
 	}
 
 	protected Object handleDefaultMethod(Object proxy, Method method, Object[] args) throws Throwable {
@@ -89,4 +84,30 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 		return new DefaultMethodHandleFactory().create(method);
 	}
 
+	private class ConstantFunctionBody implements CompiledFunction.Body {
+		private final R constant;
+
+		private ConstantFunctionBody(R constant) {
+			this.constant = constant;
+		}
+
+		@Override
+		public Object apply(Object[] args) {
+			return conditionalResult(args).orElse(new Object[]{constant})[0];
+		}
+
+		@Override
+		public int hashCode() {
+			return constant.hashCode() + constant.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+				"Constant Function<%s>(%s)",
+				functionalType.getSimpleName(),
+				JqwikStringSupport.displayString(constant)
+			);
+		}
+	}
 }
@@ -4,12 +4,17 @@ import java.math.*;
 
 import net.jqwik.api.*;
 
-public class BiasedRandomDistribution implements RandomDistribution {
+public class BiasedRandomDistribution implements RandomDistribution, LongRangeDistribution {
 	@Override
 	public RandomNumericGenerator createGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
 		return new BiasedNumericGenerator(genSize, min, max, center);
 	}
 
+	@Override
+	public LongNumericGenerator createLongGenerator(int genSize, long min, long max, long center) {
+		return new LongBiasedNumericGenerator(genSize, min, max, center);
+	}
+
 	@Override
 	public String toString() {
 		return "BiasedDistribution";
@@ -0,0 +1,84 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates strings from a range of characters directly into a char array.
+ * Sizes and the occasional string without duplicate characters are chosen as in {@linkplain ContainerGenerator}.
+ */
+class CharStringGenerator implements ValueOnlyGenerator<String> {
+	private static final int MAX_MISSES = 10000;
+
+	private final char minChar;
+	private final char maxChar;
+	private final IntPredicate isAllowed;
+	private final int minLength;
+	private final int maxLength;
+	private final long maxUniqueChars;
+	private final Function<Random, Integer> lengthGenerator;
+
+	CharStringGenerator(
+		char minChar, char maxChar, IntPredicate isAllowed,
+		int minLength, int maxLength, long maxUniqueChars,
+		int genSize, RandomDistribution lengthDistribution
+	) {
+		this.minChar = minChar;
+		this.maxChar = maxChar;
+		this.isAllowed = isAllowed;
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+		this.maxUniqueChars = maxUniqueChars;
+		this.lengthGenerator = SizeGenerator.create(minLength, maxLength, genSize, lengthDistribution);
+	}
+
+	@Override
+	public Shrinkable<String> next(Random random) {
+		char[] chars = nextChars(random);
+		return new ShrinkableCharString(chars, minLength, maxLength, minChar, maxChar, isAllowed);
+	}
+
+	@Override
+	public String nextValue(Random random) {
+		return new String(nextChars(random));
+	}
+
+	private char[] nextChars(Random random) {
+		int length = lengthGenerator.apply(random);
+		char[] chars = new char[length];
+
+		// Raise probability for no duplicates even in large strings to approx 2 percent
+		boolean noDuplicates = length >= 2
+								   && length <= maxUniqueChars
+								   && random.nextInt(100) <= 2;
+		BitSet usedChars = noDuplicates ? new BitSet() : null;
+
+		for (int i = 0; i < length; i++) {
+			char next = nextChar(random);
+			if (usedChars != null) {
+				int misses = 0;
+				while (usedChars.get(next) && misses++ < MAX_MISSES) {
+					next = nextChar(random);
+				}
+				usedChars.set(next);
+			}
+			chars[i] = next;
+		}
+		return chars;
+	}
+
+	private char nextChar(Random random) {
+		int range = maxChar - minChar + 1;
+		for (int i = 0; i < MAX_MISSES; i++) {
+			char candidate = (char) (minChar + random.nextInt(range));
+			if (isAllowed.test(candidate)) {
+				return candidate;
+			}
+		}
+		String message = String.format("Filter missed more than %s times.", MAX_MISSES);
+		throw new TooManyFilterMissesException(message);
+	}
+}
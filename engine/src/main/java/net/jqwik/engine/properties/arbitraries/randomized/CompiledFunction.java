@@ -0,0 +1,40 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+/**
+ * Common super class of generated functions that are compiled by {@linkplain CompiledFunctions}.
+ * Subclasses implement a functional type's method by delegating to {@linkplain #invokeBody(Object[])}.
+ *
+ * <p>
+ * Must be public since compiled subclasses are defined in their own class loader.
+ * </p>
+ */
+public abstract class CompiledFunction {
+
+	/**
+	 * The behaviour of a generated function.
+	 * {@code toString()} and {@code hashCode()} of the body are also used for the function.
+	 */
+	public interface Body {
+		Object apply(Object[] args);
+	}
+
+	private final Body body;
+
+	protected CompiledFunction(Body body) {
+		this.body = body;
+	}
+
+	protected final Object invokeBody(Object[] args) {
+		return body.apply(args);
+	}
+
+	@Override
+	public int hashCode() {
+		return body.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return body.toString();
+	}
+}
@@ -0,0 +1,404 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.io.*;
+import java.lang.ref.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.logging.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * Creates generated functions as instances of a class that is compiled once per functional type
+ * at first use so that calling a generated function does not go through a dynamic proxy.
+ *
+ * <p>
+ * The compiled class extends {@linkplain CompiledFunction} and implements the functional type's method
+ * by boxing all parameters into an array and unboxing or casting the result.
+ * Since jqwik is compiled for Java 8, which does not have hidden classes, each class is defined
+ * in its own class loader whose parent is the class loader of the functional type.
+ * Only public functional types can be compiled.
+ * </p>
+ */
+class CompiledFunctions {
+
+	private static final Logger LOG = Logger.getLogger(CompiledFunctions.class.getName());
+
+	private static final AtomicInteger classCounter = new AtomicInteger();
+
+	// A compiled class references the functional type through its class loader and jqwik through its super class.
+	// Functional types are therefore held weakly and compiled classes only softly,
+	// so that neither the user's class loader nor jqwik's is kept from being unloaded.
+	private static final Map<Class<?>, Reference<Constructor<?>>> constructors = new WeakHashMap<>();
+	private static final Set<Class<?>> notCompilable = Collections.newSetFromMap(new WeakHashMap<>());
+
+	static <F> Optional<F> create(Class<F> functionalType, CompiledFunction.Body body) {
+		return constructor(functionalType).map(constructor -> instantiate(functionalType, constructor, body));
+	}
+
+	private static synchronized Optional<Constructor<?>> constructor(Class<?> functionalType) {
+		if (notCompilable.contains(functionalType)) {
+			return Optional.empty();
+		}
+		Reference<Constructor<?>> reference = constructors.get(functionalType);
+		Constructor<?> constructor = reference == null ? null : reference.get();
+		if (constructor != null) {
+			return Optional.of(constructor);
+		}
+		Optional<Constructor<?>> compiled = compile(functionalType);
+		if (compiled.isPresent()) {
+			constructors.put(functionalType, new SoftReference<>(compiled.get()));
+		} else {
+			notCompilable.add(functionalType);
+		}
+		return compiled;
+	}
+
+	private static <F> F instantiate(Class<F> functionalType, Constructor<?> constructor, CompiledFunction.Body body) {
+		try {
+			return functionalType.cast(constructor.newInstance(body));
+		} catch (Throwable throwable) {
+			return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+		}
+	}
+
+	private static Optional<Constructor<?>> compile(Class<?> functionalType) {
+		Optional<Method> functionMethod = JqwikReflectionSupport.getFunctionMethod(functionalType);
+		if (!functionMethod.isPresent() || !isPublic(functionalType)) {
+			return Optional.empty();
+		}
+		try {
+			String className = String.format(
+				"net.jqwik.engine.generated.%s$%s",
+				functionalType.getSimpleName(),
+				classCounter.incrementAndGet()
+			);
+			byte[] classFile = new FunctionClassFile(className, functionalType, functionMethod.get()).toBytes();
+			Class<?> functionClass = new FunctionClassLoader(functionalType.getClassLoader()).define(className, classFile);
+			return Optional.of(functionClass.getConstructor(CompiledFunction.Body.class));
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			String message = String.format("Cannot compile functions of type [%s]. Using dynamic proxy instead: %s", functionalType, throwable);
+			LOG.fine(message);
+			return Optional.empty();
+		}
+	}
+
+	private static boolean isPublic(Class<?> functionalType) {
+		for (Class<?> type = functionalType; type != null; type = type.getEnclosingClass()) {
+			if (!Modifier.isPublic(type.getModifiers())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static class FunctionClassLoader extends ClassLoader {
+
+		private FunctionClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		private Class<?> define(String className, byte[] classFile) {
+			return defineClass(className, classFile, 0, classFile.length);
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			// The functional type's class loader does not necessarily see jqwik's classes
+			if (name.equals(CompiledFunction.class.getName())) {
+				return CompiledFunction.class;
+			}
+			if (name.equals(CompiledFunction.Body.class.getName())) {
+				return CompiledFunction.Body.class;
+			}
+			return super.loadClass(name, resolve);
+		}
+	}
+
+	/**
+	 * Writes the class file of a final subclass of {@linkplain CompiledFunction} with a constructor
+	 * taking a {@linkplain CompiledFunction.Body} and an implementation of the function method.
+	 * The generated code has no branches and can therefore do without stack map frames.
+	 */
+	private static class FunctionClassFile {
+
+		private static final int JAVA_8_VERSION = 52;
+		private static final int ACC_PUBLIC = 0x0001;
+		private static final int ACC_FINAL = 0x0010;
+		private static final int ACC_SUPER = 0x0020;
+
+		private static final String BASE_CLASS = internalName(CompiledFunction.class);
+		private static final String BODY_DESCRIPTOR = descriptor(CompiledFunction.Body.class);
+
+		private final String className;
+		private final Class<?> functionalType;
+		private final Method functionMethod;
+
+		private final Map<String, Integer> constantIndices = new HashMap<>();
+		private final ByteArrayOutputStream constantPool = new ByteArrayOutputStream();
+		private int constantCount = 1;
+
+		private FunctionClassFile(String className, Class<?> functionalType, Method functionMethod) {
+			this.className = className;
+			this.functionalType = functionalType;
+			this.functionMethod = functionMethod;
+		}
+
+		private byte[] toBytes() throws IOException {
+			int thisClass = classConstant(className.replace('.', '/'));
+			int superClass = classConstant(BASE_CLASS);
+			int functionalInterface = classConstant(internalName(functionalType));
+			byte[] constructor = constructor();
+			byte[] method = functionMethod();
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0);
+			out.writeShort(JAVA_8_VERSION);
+			out.writeShort(constantCount);
+			constantPool.writeTo(out);
+			out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+			out.writeShort(thisClass);
+			out.writeShort(superClass);
+			out.writeShort(1);
+			out.writeShort(functionalInterface);
+			out.writeShort(0); // fields
+			out.writeShort(2); // methods
+			out.write(constructor);
+			out.write(method);
+			out.writeShort(0); // attributes
+			out.flush();
+			return bytes.toByteArray();
+		}
+
+		private byte[] constructor() throws IOException {
+			String descriptor = "(" + BODY_DESCRIPTOR + ")V";
+			Code code = new Code();
+			code.op(0x2a); // aload_0
+			code.op(0x2b); // aload_1
+			code.op(0xb7).u2(methodConstant(BASE_CLASS, "<init>", descriptor)); // invokespecial
+			code.op(0xb1); // return
+			return method(ACC_PUBLIC, "<init>", descriptor, code, 2, 2);
+		}
+
+		private byte[] functionMethod() throws IOException {
+			Class<?>[] parameterTypes = functionMethod.getParameterTypes();
+			Code code = new Code();
+			code.op(0x2a); // aload_0
+			code.pushInt(parameterTypes.length);
+			code.op(0xbd).u2(classConstant("java/lang/Object")); // anewarray
+			int local = 1;
+			for (int i = 0; i < parameterTypes.length; i++) {
+				Class<?> parameterType = parameterTypes[i];
+				code.op(0x59); // dup
+				code.pushInt(i);
+				code.op(loadOpcode(parameterType)).u1(local);
+				if (parameterType.isPrimitive()) {
+					Class<?> wrapper = wrapperOf(parameterType);
+					String valueOfDescriptor = "(" + descriptor(parameterType) + ")" + descriptor(wrapper);
+					code.op(0xb8).u2(methodConstant(internalName(wrapper), "valueOf", valueOfDescriptor)); // invokestatic
+				}
+				code.op(0x53); // aastore
+				local += slots(parameterType);
+			}
+			code.op(0xb6).u2(methodConstant(BASE_CLASS, "invokeBody", "([Ljava/lang/Object;)Ljava/lang/Object;")); // invokevirtual
+
+			Class<?> returnType = functionMethod.getReturnType();
+			if (returnType == void.class) {
+				code.op(0x57); // pop
+				code.op(0xb1); // return
+			} else if (returnType.isPrimitive()) {
+				Class<?> wrapper = wrapperOf(returnType);
+				code.op(0xc0).u2(classConstant(internalName(wrapper))); // checkcast
+				String unboxMethod = returnType.getName() + "Value";
+				code.op(0xb6).u2(methodConstant(internalName(wrapper), unboxMethod, "()" + descriptor(returnType))); // invokevirtual
+				code.op(returnOpcode(returnType));
+			} else {
+				if (returnType != Object.class) {
+					code.op(0xc0).u2(classConstant(internalName(returnType))); // checkcast
+				}
+				code.op(0xb0); // areturn
+			}
+			// this, array, array, index, value of up to 2 slots
+			int maxStack = 6;
+			return method(ACC_PUBLIC, functionMethod.getName(), methodDescriptor(functionMethod), code, maxStack, local);
+		}
+
+		private byte[] method(int access, String name, String descriptor, Code code, int maxStack, int maxLocals) throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeShort(access);
+			out.writeShort(utf8Constant(name));
+			out.writeShort(utf8Constant(descriptor));
+			out.writeShort(1);
+			out.writeShort(utf8Constant("Code"));
+			byte[] instructions = code.toBytes();
+			out.writeInt(2 + 2 + 4 + instructions.length + 2 + 2);
+			out.writeShort(maxStack);
+			out.writeShort(maxLocals);
+			out.writeInt(instructions.length);
+			out.write(instructions);
+			out.writeShort(0); // exception table
+			out.writeShort(0); // attributes
+			out.flush();
+			return bytes.toByteArray();
+		}
+
+		private int utf8Constant(String value) throws IOException {
+			String key = "Utf8:" + value;
+			Integer index = constantIndices.get(key);
+			if (index != null) {
+				return index;
+			}
+			DataOutputStream out = new DataOutputStream(constantPool);
+			out.writeByte(1);
+			out.writeUTF(value);
+			return addConstant(key);
+		}
+
+		private int classConstant(String internalName) throws IOException {
+			String key = "Class:" + internalName;
+			Integer index = constantIndices.get(key);
+			if (index != null) {
+				return index;
+			}
+			int nameIndex = utf8Constant(internalName);
+			DataOutputStream out = new DataOutputStream(constantPool);
+			out.writeByte(7);
+			out.writeShort(nameIndex);
+			return addConstant(key);
+		}
+
+		private int methodConstant(String owner, String name, String descriptor) throws IOException {
+			String key = "Method:" + owner + "." + name + descriptor;
+			Integer index = constantIndices.get(key);
+			if (index != null) {
+				return index;
+			}
+			int classIndex = classConstant(owner);
+			int nameAndTypeIndex = nameAndTypeConstant(name, descriptor);
+			DataOutputStream out = new DataOutputStream(constantPool);
+			out.writeByte(10);
+			out.writeShort(classIndex);
+			out.writeShort(nameAndTypeIndex);
+			return addConstant(key);
+		}
+
+		private int nameAndTypeConstant(String name, String descriptor) throws IOException {
+			String key = "NameAndType:" + name + descriptor;
+			Integer index = constantIndices.get(key);
+			if (index != null) {
+				return index;
+			}
+			int nameIndex = utf8Constant(name);
+			int descriptorIndex = utf8Constant(descriptor);
+			DataOutputStream out = new DataOutputStream(constantPool);
+			out.writeByte(12);
+			out.writeShort(nameIndex);
+			out.writeShort(descriptorIndex);
+			return addConstant(key);
+		}
+
+		private int addConstant(String key) {
+			int index = constantCount++;
+			constantIndices.put(key, index);
+			return index;
+		}
+
+		private static String internalName(Class<?> type) {
+			return type.getName().replace('.', '/');
+		}
+
+		private static String methodDescriptor(Method method) {
+			StringBuilder descriptor = new StringBuilder("(");
+			for (Class<?> parameterType : method.getParameterTypes()) {
+				descriptor.append(descriptor(parameterType));
+			}
+			return descriptor.append(")").append(descriptor(method.getReturnType())).toString();
+		}
+
+		private static String descriptor(Class<?> type) {
+			if (type == void.class) return "V";
+			if (type == boolean.class) return "Z";
+			if (type == byte.class) return "B";
+			if (type == char.class) return "C";
+			if (type == short.class) return "S";
+			if (type == int.class) return "I";
+			if (type == long.class) return "J";
+			if (type == float.class) return "F";
+			if (type == double.class) return "D";
+			if (type.isArray()) return internalName(type);
+			return "L" + internalName(type) + ";";
+		}
+
+		private static Class<?> wrapperOf(Class<?> primitiveType) {
+			if (primitiveType == boolean.class) return Boolean.class;
+			if (primitiveType == byte.class) return Byte.class;
+			if (primitiveType == char.class) return Character.class;
+			if (primitiveType == short.class) return Short.class;
+			if (primitiveType == int.class) return Integer.class;
+			if (primitiveType == long.class) return Long.class;
+			if (primitiveType == float.class) return Float.class;
+			return Double.class;
+		}
+
+		private static int slots(Class<?> type) {
+			return type == long.class || type == double.class ? 2 : 1;
+		}
+
+		private static int loadOpcode(Class<?> type) {
+			if (!type.isPrimitive()) return 0x19; // aload
+			if (type == long.class) return 0x16; // lload
+			if (type == float.class) return 0x17; // fload
+			if (type == double.class) return 0x18; // dload
+			return 0x15; // iload
+		}
+
+		private static int returnOpcode(Class<?> primitiveType) {
+			if (primitiveType == long.class) return 0xad; // lreturn
+			if (primitiveType == float.class) return 0xae; // freturn
+			if (primitiveType == double.class) return 0xaf; // dreturn
+			return 0xac; // ireturn
+		}
+	}
+
+	private static class Code {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		private Code op(int opcode) {
+			bytes.write(opcode);
+			return this;
+		}
+
+		private Code u1(int value) {
+			if (value > 0xff) {
+				throw new IllegalArgumentException("Too many parameter slots: " + value);
+			}
+			bytes.write(value);
+			return this;
+		}
+
+		private Code u2(int value) {
+			bytes.write(value >>> 8);
+			bytes.write(value);
+			return this;
+		}
+
+		private void pushInt(int value) {
+			if (value <= 5) {
+				op(0x03 + value); // iconst_<value>
+			} else if (value <= Byte.MAX_VALUE) {
+				op(0x10).u1(value); // bipush
+			} else {
+				throw new IllegalArgumentException("Too many parameters: " + value);
+			}
+		}
+
+		private byte[] toBytes() {
+			return bytes.toByteArray();
+		}
+	}
+}
@@ -6,11 +6,10 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
-class ContainerGenerator<T, C> implements RandomGenerator<C> {
+class ContainerGenerator<T, C> implements ValueOnlyGenerator<C> {
 	private final RandomGenerator<T> elementGenerator;
 	private final Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable;
+	private final Function<List<T>, C> createValue;
 	private final int minSize;
 	private final long maxUniqueElements;
 	private final Collection<FeatureExtractor<T>> uniquenessExtractors;
@@ -29,6 +28,7 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	ContainerGenerator(
 		RandomGenerator<T> elementGenerator,
 		Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable,
+		Function<List<T>, C> createValue,
 		int minSize,
 		int maxSize,
 		long maxUniqueElements,
@@ -38,6 +38,7 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	) {
 		this.elementGenerator = elementGenerator;
 		this.createShrinkable = createShrinkable;
+		this.createValue = createValue;
 		this.minSize = minSize;
 		this.maxUniqueElements = maxUniqueElements;
 		this.uniquenessExtractors = uniquenessExtractors;
@@ -52,8 +53,25 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 
 	@Override
 	public Shrinkable<C> next(Random random) {
+		List<Shrinkable<T>> listOfShrinkables = nextElements(random, elementGenerator::next, Shrinkable::value);
+		return createShrinkable.apply(listOfShrinkables);
+	}
+
+	@Override
+	public C nextValue(Random random) {
+		List<T> listOfValues = nextElements(random, r -> ValueOnlyGenerator.nextValue(elementGenerator, r), Function.identity());
+		return createValue.apply(listOfValues);
+	}
+
+	@Override
+	public boolean canGenerateValuesOnly() {
+		return createValue != null && ValueOnlyGenerator.canGenerateValuesOnly(elementGenerator);
+	}
+
+	// Elements are either shrinkables or plain values. Both must use random in the same way.
+	private <E> List<E> nextElements(Random random, Function<Random, E> fetchElement, Function<E, T> toValue) {
 		int listSize = sizeGenerator.apply(random);
-		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>();
+		List<E> listOfElements = new ArrayList<>();
 
 		// Raise probability for no duplicates even in large containers to approx 2 percent
 		boolean noDuplicates = listSize >= 2
@@ -62,24 +80,24 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 								   && random.nextInt(100) <= 2;
 		int sizeToShuffleIfExceeded = Integer.MAX_VALUE;
 
-		boolean canUseSetForValues = uniquenessExtractors.isEmpty() || uniquenessExtractors.contains(FeatureExtractor.identity());
-		Collection<T> existingValues = canUseSetForValues ? new HashSet<>() : new ArrayList<>();
+		Set<T> existingValues = new HashSet<>();
+		UniquenessIndex<T> uniquenessIndex = new UniquenessIndex<>(uniquenessExtractors);
 
-		while (listOfShrinkables.size() < listSize) {
+		while (listOfElements.size() < listSize) {
 			try {
-				Shrinkable<T> next = nextUntilAccepted(random, existingValues, elementGenerator::next, noDuplicates);
-				listOfShrinkables.add(next);
+				E next = nextUntilAccepted(random, existingValues, uniquenessIndex, fetchElement, toValue, noDuplicates);
+				listOfElements.add(next);
 			} catch (TooManyFilterMissesException tooManyFailedGenerationAttempts) {
 				// Switch off noDuplicates to enable generation of elements to proceed
 				if (noDuplicates) {
 					// This should occur only rarely because usually the check against maxUniqueElements prevents it from happening.
 					noDuplicates = false;
-					sizeToShuffleIfExceeded = listOfShrinkables.size();
+					sizeToShuffleIfExceeded = listOfElements.size();
 
 					// Resume generation
 					continue;
 				}
-				if (listOfShrinkables.size() < minSize) {
+				if (listOfElements.size() < minSize) {
 					// Fail if minimum container size could not be reached
 					throw tooManyFailedGenerationAttempts;
 				}
@@ -89,39 +107,39 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 				break;
 			}
 		}
-		if (listOfShrinkables.size() > sizeToShuffleIfExceeded) {
+		if (listOfElements.size() > sizeToShuffleIfExceeded) {
 			// If we started generating with no duplicates, and then realized we can't generate enough unique elements,
 			// then the list becomes skewed: unique elements go first
 			// We shuffle the list to allow other constellations (e.g. list unique-most elements starting with non-unique ones)
-			Collections.shuffle(listOfShrinkables, random);
+			Collections.shuffle(listOfElements, random);
 		}
-		return createShrinkable.apply(listOfShrinkables);
+		return listOfElements;
 	}
 
-	private Shrinkable<T> nextUntilAccepted(
+	private <E> E nextUntilAccepted(
 		Random random,
-		Collection<T> existingValues,
-		Function<Random, Shrinkable<T>> fetchShrinkable,
+		Set<T> existingValues,
+		UniquenessIndex<T> uniquenessIndex,
+		Function<Random, E> fetchElement,
+		Function<E, T> toValue,
 		boolean noDuplicates
 	) {
 		for (int i = 0; i < maxAttempts; i++) {
-			Shrinkable<T> next = fetchShrinkable.apply(random);
-			T value = next.value();
+			E next = fetchElement.apply(random);
+			T value = toValue.apply(next);
 			if (noDuplicates && existingValues.contains(value)) {
 				continue;
 			}
-			if (!checkSpecifiedUniqueness(existingValues, value)) {
+			if (!uniquenessIndex.addIfUnique(value)) {
 				continue;
 			}
-			existingValues.add(value);
+			if (noDuplicates) {
+				existingValues.add(value);
+			}
 			return next;
 		}
 		String message = String.format("Trying to fulfill uniqueness constraint missed more than %s times.", maxAttempts);
 		throw new TooManyFilterMissesException(message);
 	}
 
-	private boolean checkSpecifiedUniqueness(Collection<T> elements, T value) {
-		return checkValueUniqueIn(uniquenessExtractors, value, elements);
-	}
-
 }
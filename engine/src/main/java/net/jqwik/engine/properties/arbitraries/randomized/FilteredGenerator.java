@@ -4,9 +4,11 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.engine.support.*;
 
-public class FilteredGenerator<T> implements RandomGenerator<T> {
+public class FilteredGenerator<T> implements ValueOnlyGenerator<T> {
 	private final RandomGenerator<T> toFilter;
 	private final Predicate<T> filterPredicate;
 	private int maxMisses;
@@ -22,20 +24,54 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 		return nextUntilAccepted(random, toFilter::next);
 	}
 
+	@Override
+	public T nextValue(Random random) {
+		FlightRecorderEvents.Event filterEvent = FlightRecorderEvents.FILTER_MISSES.begin();
+		for (int i = 0; i < maxMisses; i++) {
+			T value = ValueOnlyGenerator.nextValue(toFilter, random);
+			if (filterPredicate.test(value)) {
+				recordMisses(filterEvent, i);
+				return value;
+			}
+		}
+		recordMisses(filterEvent, maxMisses);
+		throw tooManyMisses();
+	}
+
+	@Override
+	public boolean canGenerateValuesOnly() {
+		return ValueOnlyGenerator.canGenerateValuesOnly(toFilter);
+	}
+
 	@Override
 	public String toString() {
 		return String.format("Filtering [%s]", toFilter);
 	}
 
 	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
+		FlightRecorderEvents.Event filterEvent = FlightRecorderEvents.FILTER_MISSES.begin();
 		for (int i = 0; i < maxMisses; i++) {
 			Shrinkable<T> value = fetchShrinkable.apply(random);
 			if (filterPredicate.test(value.value())) {
+				recordMisses(filterEvent, i);
 				return new FilteredShrinkable<>(value, filterPredicate);
 			}
 		}
+		recordMisses(filterEvent, maxMisses);
+		throw tooManyMisses();
+	}
+
+	private void recordMisses(FlightRecorderEvents.Event filterEvent, int misses) {
+		int checks = misses < maxMisses ? misses + 1 : maxMisses;
+		DefaultPropertyMetrics.recordFilterChecks(checks, misses);
+		if (misses > 0 && filterEvent.shouldCommit()) {
+			filterEvent.commit(toFilter, misses);
+		}
+	}
+
+	private TooManyFilterMissesException tooManyMisses() {
 		String message = String.format("%s missed more than %s times.", toString(), maxMisses);
-		throw new TooManyFilterMissesException(message);
+		return new TooManyFilterMissesException(message);
 	}
 
 }
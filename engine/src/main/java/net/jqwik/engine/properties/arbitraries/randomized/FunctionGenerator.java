@@ -1,7 +1,7 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
-import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
@@ -9,18 +9,20 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.*;
-import net.jqwik.engine.support.*;
 
 public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
+	private final boolean memoizeResults;
 	private final AtomicReference<Shrinkable<R>> lastResult = new AtomicReference<>();
 
 	public FunctionGenerator(
 		Class<F> functionalType,
 		RandomGenerator<R> resultGenerator,
-		List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions
+		List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions,
+		boolean memoizeResults
 	) {
 		super(functionalType, resultGenerator, conditions);
+		this.memoizeResults = memoizeResults;
 	}
 
 	@Override
@@ -30,39 +32,8 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
 	private F createFunction(Random random) {
 		long baseSeed = random.nextLong();
-		InvocationHandler handler = (proxy, method, args) -> {
-			if (JqwikReflectionSupport.isEqualsMethod(method)) {
-				return handleEqualsMethod(proxy, args);
-			}
-			if (JqwikReflectionSupport.isToStringMethod(method)) {
-				return handleToString(baseSeed);
-			}
-			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
-				return handleHashCode((int) baseSeed);
-			}
-			if (method.isDefault()) {
-				return handleDefaultMethod(proxy, method, args);
-			}
-			return conditionalResult(args).orElseGet(() -> {
-				Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
-				Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
-				storeLastResult(shrinkableResult);
-				return new Object[]{shrinkableResult.value()};
-			})[0];
-		};
-		return createFunctionProxy(handler);
-	}
-
-	private int handleHashCode(final int baseSeed) {
-		return baseSeed;
-	}
-
-	private Object handleToString(final long baseSeed) {
-		return String.format(
-			"Function<%s>(baseSeed: %s)",
-			functionalType.getSimpleName(),
-			baseSeed
-		);
+		Map<List<Object>, Tuple2<Shrinkable<R>, R>> memoizedResults = memoizeResults ? new ConcurrentHashMap<>() : null;
+		return createFunction(new RandomFunctionBody(baseSeed, memoizedResults));
 	}
 
 	private void storeLastResult(Shrinkable<R> result) {
@@ -71,17 +42,72 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
 	private long seedForArgs(long baseSeed, Object[] args) {
 		long seed = baseSeed;
-		if (args != null) {
-			for (Object arg : args) {
-				seed = Long.rotateRight(seed, 16);
-				if (arg != null) {
-					seed ^= arg.hashCode();
-				}
-			}
+		for (Object arg : args) {
+			seed = SourceOfRandomness.deriveSeed(seed, arg == null ? 0 : arg.hashCode());
 		}
 		return seed;
 	}
 
+	private class RandomFunctionBody implements CompiledFunction.Body {
+		private final long baseSeed;
+		private final Map<List<Object>, Tuple2<Shrinkable<R>, R>> memoizedResults;
+
+		private RandomFunctionBody(long baseSeed, Map<List<Object>, Tuple2<Shrinkable<R>, R>> memoizedResults) {
+			this.baseSeed = baseSeed;
+			this.memoizedResults = memoizedResults;
+		}
+
+		@Override
+		public Object apply(Object[] args) {
+			Optional<Object[]> conditionalResult = conditionalResult(args);
+			if (conditionalResult.isPresent()) {
+				return conditionalResult.get()[0];
+			}
+			if (memoizedResults != null) {
+				return memoizedResult(args);
+			}
+			Shrinkable<R> shrinkableResult = generateResult(args);
+			storeLastResult(shrinkableResult);
+			return shrinkableResult.value();
+		}
+
+		// Values of shrinkables are not necessarily the same instance each time
+		private R memoizedResult(Object[] args) {
+			List<Object> key = Arrays.asList(args);
+			Tuple2<Shrinkable<R>, R> result = memoizedResults.get(key);
+			if (result == null) {
+				Shrinkable<R> shrinkableResult = generateResult(args);
+				memoizedResults.putIfAbsent(key, Tuple.of(shrinkableResult, shrinkableResult.value()));
+				result = memoizedResults.get(key);
+			}
+			storeLastResult(result.get1());
+			return result.get2();
+		}
+
+		// Results can be of any type and only the result generator knows how to create them from a random.
+		// The random cannot be shared between calls and reseeded since generators and their shrinkables
+		// may keep it for later, e.g. to lazily generate the actions of a sequence.
+		// Calls with equal parameters that must not regenerate their result can use memoizeResults().
+		private Shrinkable<R> generateResult(Object[] args) {
+			Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
+			return resultGenerator.next(randomForArgs);
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) baseSeed;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+				"Function<%s>(baseSeed: %s)",
+				functionalType.getSimpleName(),
+				baseSeed
+			);
+		}
+	}
+
 	private class ShrinkableFunction implements Shrinkable<F> {
 
 		private final F value;
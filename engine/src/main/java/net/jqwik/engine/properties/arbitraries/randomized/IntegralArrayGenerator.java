@@ -0,0 +1,118 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates primitive arrays of integral values directly into the array.
+ * Elements are generated by the same numeric generators as single integral values
+ * but without creating a shrinkable for each element.
+ */
+class IntegralArrayGenerator<A> implements ValueOnlyGenerator<A> {
+
+	private final IntegralArrayType type;
+	private final long min;
+	private final long max;
+	private final long shrinkingTarget;
+	private final int minSize;
+	private final int maxSize;
+	private final LongRangeDistribution.LongNumericGenerator elementGenerator;
+	private final long[] edgeCases;
+	private final int baseToEdgeCaseRatio;
+	private final boolean bulkFill;
+	private final Function<Random, Integer> sizeGenerator;
+
+	IntegralArrayGenerator(
+		IntegralArrayType type,
+		long min, long max, long shrinkingTarget, RandomDistribution distribution,
+		long[] edgeCases,
+		int minSize, int maxSize,
+		int genSize, RandomDistribution sizeDistribution
+	) {
+		this.type = type;
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.elementGenerator = RandomIntegralGenerators.longGenerator(genSize, min, max, shrinkingTarget, distribution);
+		this.edgeCases = edgeCases;
+		this.baseToEdgeCaseRatio = edgeCases.length == 0 ? 0 : EdgeCasesGenerator.calculateBaseToEdgeCaseRatio(genSize, edgeCases.length);
+		this.bulkFill = edgeCases.length == 0 && distribution instanceof UniformRandomDistribution && type.coversFullRange(min, max);
+		this.sizeGenerator = SizeGenerator.create(minSize, maxSize, genSize, sizeDistribution);
+	}
+
+	@Override
+	public Shrinkable<A> next(Random random) {
+		return new ShrinkableIntegralArray<>(nextArray(random), type, minSize, maxSize, min, max, shrinkingTarget);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public A nextValue(Random random) {
+		return (A) nextArray(random);
+	}
+
+	private Object nextArray(Random random) {
+		int size = sizeGenerator.apply(random);
+		return bulkFill ? bulkFill(size, random) : fillElementByElement(size, random);
+	}
+
+	private Object fillElementByElement(int size, Random random) {
+		Object array = type.newArray(size);
+		for (int i = 0; i < size; i++) {
+			type.set(array, i, nextElement(random));
+		}
+		return array;
+	}
+
+	private long nextElement(Random random) {
+		if (baseToEdgeCaseRatio > 0 && random.nextInt(baseToEdgeCaseRatio) == 0) {
+			return edgeCases[random.nextInt(edgeCases.length)];
+		}
+		return elementGenerator.next(random);
+	}
+
+	// Uniformly distributed values over the full range of a type can be taken directly from random bits
+	private Object bulkFill(int size, Random random) {
+		switch (type) {
+			case BYTE:
+				return nextBytes(size, random);
+			case SHORT:
+				short[] shorts = new short[size];
+				for (int i = 0; i < size; i++) {
+					shorts[i] = (short) random.nextInt();
+				}
+				return shorts;
+			case INT:
+				int[] ints = new int[size];
+				for (int i = 0; i < size; i++) {
+					ints[i] = random.nextInt();
+				}
+				return ints;
+			default:
+				long[] longs = new long[size];
+				for (int i = 0; i < size; i++) {
+					longs[i] = random.nextLong();
+				}
+				return longs;
+		}
+	}
+
+	// Uses all 8 bytes of each generated long whereas Random.nextBytes() only uses 4 bytes of each generated int
+	private static byte[] nextBytes(int size, Random random) {
+		byte[] bytes = new byte[size];
+		int i = 0;
+		while (i < size) {
+			long randomLong = random.nextLong();
+			for (int n = Math.min(size - i, Long.BYTES); n-- > 0; randomLong >>>= Byte.SIZE) {
+				bytes[i++] = (byte) randomLong;
+			}
+		}
+		return bytes;
+	}
+}
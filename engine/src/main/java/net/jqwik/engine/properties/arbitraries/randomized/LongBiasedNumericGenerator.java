@@ -0,0 +1,56 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * Same partitioning as {@linkplain BiasedNumericGenerator}. Only calculating
+ * the partition points - which happens once per generator - requires BigInteger.
+ */
+class LongBiasedNumericGenerator implements LongRangeDistribution.LongNumericGenerator {
+
+	private final LongRangeDistribution.LongNumericGenerator[] partitions;
+	private final boolean partitioned;
+
+	LongBiasedNumericGenerator(int genSize, long min, long max, long center) {
+		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(center)
+		);
+		this.partitioned = !partitionPoints.isEmpty();
+		this.partitions = createPartitions(min, max, partitionPoints);
+	}
+
+	@Override
+	public long next(Random random) {
+		if (!partitioned) {
+			return partitions[0].next(random);
+		}
+		return partitions[random.nextInt(partitions.length)].next(random);
+	}
+
+	private static LongRangeDistribution.LongNumericGenerator[] createPartitions(long min, long max, List<BigInteger> partitionPoints) {
+		if (partitionPoints.isEmpty()) {
+			return new LongRangeDistribution.LongNumericGenerator[]{new LongUniformNumericGenerator(min, max)};
+		}
+		List<LongRangeDistribution.LongNumericGenerator> partitions = new ArrayList<>();
+		Collections.sort(partitionPoints);
+		long lower = min;
+		for (BigInteger partitionPoint : partitionPoints) {
+			long upper = partitionPoint.longValueExact();
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= max) {
+				break;
+			}
+			partitions.add(new LongUniformNumericGenerator(lower, upper - 1));
+			lower = upper;
+		}
+		partitions.add(new LongUniformNumericGenerator(lower, max));
+		return partitions.toArray(new LongRangeDistribution.LongNumericGenerator[0]);
+	}
+
+}
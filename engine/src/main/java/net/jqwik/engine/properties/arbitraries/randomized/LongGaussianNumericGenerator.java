@@ -0,0 +1,50 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Same distribution as {@linkplain GaussianNumericGenerator} but calculated with doubles.
+ */
+class LongGaussianNumericGenerator implements LongRangeDistribution.LongNumericGenerator {
+	private final double borderSigma;
+	private final long min;
+	private final long max;
+	private final long center;
+	private final double leftRange;
+	private final double rightRange;
+
+	LongGaussianNumericGenerator(double borderSigma, long min, long max, long center) {
+		this.borderSigma = borderSigma;
+		this.min = min;
+		this.max = max;
+		this.center = center;
+		this.leftRange = Math.abs((double) center - (double) min);
+		this.rightRange = Math.abs((double) max - (double) center);
+	}
+
+	@Override
+	public long next(Random random) {
+		while (true) {
+			double gaussianFactor = random.nextGaussian() / borderSigma;
+			long value = center;
+			if (gaussianFactor < 0.0 && leftRange > 0.0) {
+				long offset = (long) (leftRange * Math.abs(gaussianFactor));
+				value = center - offset;
+				// Overflow when value would be smaller than Long.MIN_VALUE
+				if (value > center) {
+					continue;
+				}
+			}
+			if (gaussianFactor > 0.0 && rightRange > 0.0) {
+				long offset = (long) (rightRange * Math.abs(gaussianFactor));
+				value = center + offset;
+				if (value < center) {
+					continue;
+				}
+			}
+			if (value >= min && value <= max) {
+				return value;
+			}
+		}
+	}
+}
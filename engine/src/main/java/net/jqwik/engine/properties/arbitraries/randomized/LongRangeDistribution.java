@@ -0,0 +1,17 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * Implemented by jqwik's own distributions to generate values within a long range
+ * without any {@linkplain BigInteger} arithmetic.
+ */
+interface LongRangeDistribution {
+
+	LongNumericGenerator createLongGenerator(int genSize, long min, long max, long center);
+
+	interface LongNumericGenerator {
+		long next(Random random);
+	}
+}
@@ -0,0 +1,43 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+class LongUniformNumericGenerator implements LongRangeDistribution.LongNumericGenerator {
+
+	private final long min;
+	private final long max;
+
+	// Interpreted as unsigned value since it can exceed Long.MAX_VALUE
+	private final long span;
+	private final int shift;
+
+	LongUniformNumericGenerator(long min, long max) {
+		this.min = min;
+		this.max = max;
+		this.span = max - min;
+		this.shift = Long.numberOfLeadingZeros(span);
+	}
+
+	@Override
+	public long next(Random random) {
+		if (isWithinIntegerRange()) {
+			// Same generation as SmallUniformNumericGenerator
+			int intMin = (int) min;
+			int bound = Math.abs((int) max - intMin) + 1;
+			return random.nextInt(bound >= 0 ? bound : Integer.MAX_VALUE) + intMin;
+		}
+		if (span == 0) {
+			return min;
+		}
+		while (true) {
+			long offset = random.nextLong() >>> shift;
+			if (Long.compareUnsigned(offset, span) <= 0) {
+				return min + offset;
+			}
+		}
+	}
+
+	private boolean isWithinIntegerRange() {
+		return min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE;
+	}
+}
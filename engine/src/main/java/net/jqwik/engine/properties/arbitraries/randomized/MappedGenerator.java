@@ -0,0 +1,31 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+public class MappedGenerator<T, U> implements ValueOnlyGenerator<U> {
+	private final RandomGenerator<T> toMap;
+	private final Function<T, U> mapper;
+
+	public MappedGenerator(RandomGenerator<T> toMap, Function<T, U> mapper) {
+		this.toMap = toMap;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public Shrinkable<U> next(Random random) {
+		return toMap.next(random).map(mapper);
+	}
+
+	@Override
+	public U nextValue(Random random) {
+		return mapper.apply(ValueOnlyGenerator.nextValue(toMap, random));
+	}
+
+	@Override
+	public boolean canGenerateValuesOnly() {
+		return ValueOnlyGenerator.canGenerateValuesOnly(toMap);
+	}
+}
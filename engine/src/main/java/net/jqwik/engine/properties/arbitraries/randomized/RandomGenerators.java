@@ -18,10 +18,10 @@ public class RandomGenerators {
 		if (values.size() == 0) {
 			return fail("empty set of values");
 		}
-		return random -> {
-			U value = chooseValue(values, random);
-			return new ChooseValueShrinkable<>(value, values);
-		};
+		return ValueOnlyGenerator.of(
+			random -> chooseValue(values, random),
+			value -> new ChooseValueShrinkable<>(value, values)
+		);
 	}
 
 	public static <U> U chooseValue(List<U> values, Random random) {
@@ -46,14 +46,21 @@ public class RandomGenerators {
 	}
 
 	public static RandomGenerator<Integer> integers(int min, int max) {
-		BigInteger minBig = BigInteger.valueOf(min);
-		BigInteger maxBig = BigInteger.valueOf(max);
-		return bigIntegers(
-				minBig,
-				maxBig,
-				RandomIntegralGenerators.defaultShrinkingTarget(Range.of(minBig, maxBig)),
+		return longs(
+				min,
+				max,
+				RandomIntegralGenerators.defaultShrinkingTarget(min, max),
 				RandomDistribution.uniform()
-		).map(BigInteger::intValueExact);
+		).map(Long::intValue);
+	}
+
+	public static RandomGenerator<Long> longs(
+			long min,
+			long max,
+			long shrinkingTarget,
+			RandomDistribution distribution
+	) {
+		return RandomIntegralGenerators.longs(1000, min, max, shrinkingTarget, distribution);
 	}
 
 	public static RandomGenerator<BigInteger> bigIntegers(
@@ -92,12 +99,50 @@ public class RandomGenerators {
 		int genSize, RandomDistribution lengthDistribution
 	) {
 		Function<List<Shrinkable<Character>>, Shrinkable<String>> createShrinkable = elements -> new ShrinkableString(elements, minLength, maxLength);
-		return container(elementGenerator, createShrinkable, minLength, maxLength, maxUniqueChars, genSize, lengthDistribution, Collections.emptySet());
+		return container(
+			elementGenerator, createShrinkable, RandomGenerators::charsToString,
+			minLength, maxLength, maxUniqueChars, genSize, lengthDistribution, Collections.emptySet()
+		);
+	}
+
+	private static String charsToString(List<Character> characters) {
+		char[] chars = new char[characters.size()];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = characters.get(i);
+		}
+		return new String(chars);
+	}
+
+	public static RandomGenerator<String> strings(
+		char minChar, char maxChar, IntPredicate isAllowed,
+		int minLength, int maxLength, long maxUniqueChars,
+		int genSize, RandomDistribution lengthDistribution
+	) {
+		if (minLength > maxLength) {
+			String message = String.format("minSize <%s> must not be larger than maxSize <%s>.", minLength, maxLength);
+			throw new JqwikException(message);
+		}
+		return new CharStringGenerator(minChar, maxChar, isAllowed, minLength, maxLength, maxUniqueChars, genSize, lengthDistribution);
+	}
+
+	public static <A> RandomGenerator<A> integralArray(
+		IntegralArrayType type,
+		long min, long max, long shrinkingTarget, RandomDistribution distribution,
+		long[] edgeCases,
+		int minSize, int maxSize,
+		int genSize, RandomDistribution sizeDistribution
+	) {
+		if (minSize > maxSize) {
+			String message = String.format("minSize <%s> must not be larger than maxSize <%s>.", minSize, maxSize);
+			throw new JqwikException(message);
+		}
+		return new IntegralArrayGenerator<>(type, min, max, shrinkingTarget, distribution, edgeCases, minSize, maxSize, genSize, sizeDistribution);
 	}
 
 	private static <T, C> RandomGenerator<C> container(
 		RandomGenerator<T> elementGenerator,
 		Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable,
+		Function<List<T>, C> createValue,
 		int minSize, int maxSize, long maxUniqueElements,
 		int genSize, RandomDistribution sizeDistribution,
 		Set<FeatureExtractor<T>> uniquenessExtractors
@@ -107,7 +152,7 @@ public class RandomGenerators {
 			throw new JqwikException(message);
 		}
 		return new ContainerGenerator<>(
-			elementGenerator, createShrinkable,
+			elementGenerator, createShrinkable, createValue,
 			minSize, maxSize, maxUniqueElements,
 			genSize, sizeDistribution,
 			uniquenessExtractors
@@ -122,7 +167,10 @@ public class RandomGenerators {
 	) {
 		Function<List<Shrinkable<T>>, Shrinkable<List<T>>> createShrinkable =
 			elements -> new ShrinkableList<>(elements, minSize, maxSize, uniquenessExtractors);
-		return container(elementGenerator, createShrinkable, minSize, maxSize, maxUniqueElements, genSize, sizeDistribution, uniquenessExtractors);
+		return container(
+			elementGenerator, createShrinkable, Function.identity(),
+			minSize, maxSize, maxUniqueElements, genSize, sizeDistribution, uniquenessExtractors
+		);
 	}
 
 	public static <T> RandomGenerator<Set<T>> set(RandomGenerator<T> elementGenerator, int minSize, int maxSize, int genSize) {
@@ -138,7 +186,10 @@ public class RandomGenerators {
 		extractors.add(FeatureExtractor.identity());
 		Function<List<Shrinkable<T>>, Shrinkable<Set<T>>> createShrinkable =
 			elements -> new ShrinkableSet<T>(elements, minSize, maxSize, uniquenessExtractors);
-		return container(elementGenerator, createShrinkable, minSize, maxSize, maxSize, genSize, sizeDistribution, extractors);
+		return container(
+			elementGenerator, createShrinkable, LinkedHashSet::new,
+			minSize, maxSize, maxSize, genSize, sizeDistribution, extractors
+		);
 	}
 
 	public static <T> RandomGenerator<T> samplesFromShrinkables(List<Shrinkable<T>> samples) {
@@ -21,20 +21,67 @@ public class RandomIntegralGenerators {
 		checkTargetInRange(range, shrinkingTarget);
 
 		if (range.isSingular()) {
-			return ignored -> Shrinkable.unshrinkable(range.min);
+			return ValueOnlyGenerator.of(ignored -> range.min, Shrinkable::unshrinkable);
 		}
 
 		RandomNumericGenerator numericGenerator =
 			distribution.createGenerator(genSize, range.min, range.max, shrinkingTarget);
 
-		return random -> {
-			BigInteger value = numericGenerator.next(random);
-			return new ShrinkableBigInteger(
+		return ValueOnlyGenerator.of(
+			numericGenerator::next,
+			value -> new ShrinkableBigInteger(
 				value,
 				range,
 				shrinkingTarget
-			);
-		};
+			)
+		);
+	}
+
+	public static RandomGenerator<Long> longs(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		if (min > max) {
+			throw new IllegalArgumentException(String.format("Min value [%s] must not be greater than max value [%s].", min, max));
+		}
+		if (shrinkingTarget < min || shrinkingTarget > max) {
+			String message = String.format("Shrinking target <%s> is outside allowed range [%s..%s]", shrinkingTarget, min, max);
+			throw new JqwikException(message);
+		}
+
+		if (min == max) {
+			return ValueOnlyGenerator.of(ignored -> min, Shrinkable::unshrinkable);
+		}
+
+		LongRangeDistribution.LongNumericGenerator numericGenerator = longGenerator(genSize, min, max, shrinkingTarget, distribution);
+
+		return ValueOnlyGenerator.of(
+			numericGenerator::next,
+			value -> new ShrinkableLong(value, min, max, shrinkingTarget)
+		);
+	}
+
+	static LongRangeDistribution.LongNumericGenerator longGenerator(
+		int genSize,
+		long min,
+		long max,
+		long center,
+		RandomDistribution distribution
+	) {
+		if (distribution instanceof LongRangeDistribution) {
+			return ((LongRangeDistribution) distribution).createLongGenerator(genSize, min, max, center);
+		}
+		// Distributions from outside jqwik only know about BigInteger
+		RandomNumericGenerator bigIntegerGenerator = distribution.createGenerator(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(center)
+		);
+		return random -> bigIntegerGenerator.next(random).longValueExact();
 	}
 
 	private static void checkTargetInRange(Range<BigInteger> range, BigInteger value) {
@@ -52,4 +99,12 @@ public class RandomIntegralGenerators {
 		if (range.min.compareTo(BigInteger.ZERO) > 0) return range.min;
 		throw new RuntimeException("This should not be possible");
 	}
+
+	public static long defaultShrinkingTarget(long min, long max) {
+		if (min <= 0 && max >= 0) {
+			return 0L;
+		}
+		if (max < 0) return max;
+		return min;
+	}
 }
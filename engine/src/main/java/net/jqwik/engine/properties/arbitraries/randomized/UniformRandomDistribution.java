@@ -4,7 +4,7 @@ import java.math.*;
 
 import net.jqwik.api.*;
 
-public class UniformRandomDistribution implements RandomDistribution {
+public class UniformRandomDistribution implements RandomDistribution, LongRangeDistribution {
 
 	@Override
 	public RandomNumericGenerator createGenerator(
@@ -22,6 +22,11 @@ public class UniformRandomDistribution implements RandomDistribution {
 
 	}
 
+	@Override
+	public LongNumericGenerator createLongGenerator(int genSize, long min, long max, long center) {
+		return new LongUniformNumericGenerator(min, max);
+	}
+
 	private static boolean isWithinIntegerRange(BigInteger min, BigInteger max) {
 		return min.compareTo(BigInteger.valueOf(Integer.MIN_VALUE)) >= 0
 			&& max.compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) <= 0;
@@ -0,0 +1,56 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A generator that can generate plain values without creating their shrinkables.
+ *
+ * <p>
+ * {@linkplain #nextValue(Random)} must use {@code random} in exactly the same way as {@linkplain #next(Random)}
+ * and must return a value equal to the value of the shrinkable that {@code next(random)} would return.
+ * This allows to recreate the shrinkable of a value from the same random seed when it is needed.
+ * </p>
+ */
+public interface ValueOnlyGenerator<T> extends RandomGenerator<T> {
+
+	static <T> ValueOnlyGenerator<T> of(Function<Random, T> nextValue, Function<T, Shrinkable<T>> toShrinkable) {
+		return new ValueOnlyGenerator<T>() {
+			@Override
+			public T nextValue(Random random) {
+				return nextValue.apply(random);
+			}
+
+			@Override
+			public Shrinkable<T> next(Random random) {
+				return toShrinkable.apply(nextValue.apply(random));
+			}
+		};
+	}
+
+	static boolean canGenerateValuesOnly(RandomGenerator<?> generator) {
+		return generator instanceof ValueOnlyGenerator && ((ValueOnlyGenerator<?>) generator).canGenerateValuesOnly();
+	}
+
+	/**
+	 * Use {@linkplain #nextValue(Random)} if {@code generator} can generate values only,
+	 * otherwise take the value of the next shrinkable.
+	 */
+	static <T> T nextValue(RandomGenerator<T> generator, Random random) {
+		if (canGenerateValuesOnly(generator)) {
+			return ((ValueOnlyGenerator<T>) generator).nextValue(random);
+		}
+		return generator.next(random).value();
+	}
+
+	T nextValue(Random random);
+
+	/**
+	 * Generators that wrap other generators can only generate values only if all wrapped generators can.
+	 */
+	default boolean canGenerateValuesOnly() {
+		return true;
+	}
+}
@@ -6,7 +6,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
-class WithEdgeCasesGenerator<T> implements RandomGenerator<T> {
+class WithEdgeCasesGenerator<T> implements ValueOnlyGenerator<T> {
 
 	private final RandomGenerator<T> base;
 	private final int baseToEdgeCaseRatio;
@@ -27,6 +27,21 @@ class WithEdgeCasesGenerator<T> implements RandomGenerator<T> {
 		}
 	}
 
+	// Edge cases are rare enough to take their value from the shrinkable
+	@Override
+	public T nextValue(Random random) {
+		if (random.nextInt(baseToEdgeCaseRatio) == 0) {
+			return edgeCasesGenerator.next(random).value();
+		} else {
+			return ValueOnlyGenerator.nextValue(base, random);
+		}
+	}
+
+	@Override
+	public boolean canGenerateValuesOnly() {
+		return ValueOnlyGenerator.canGenerateValuesOnly(base);
+	}
+
 	private static <T> RandomGenerator<T> chooseEdgeCase(EdgeCases<T> edgeCases) {
 		final List<Supplier<Shrinkable<T>>> suppliers = edgeCases.suppliers();
 		return random -> RandomGenerators.chooseValue(suppliers, random).get();
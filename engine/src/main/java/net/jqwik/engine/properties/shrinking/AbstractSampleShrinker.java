@@ -8,6 +8,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
 
 abstract class AbstractSampleShrinker {
 
@@ -15,10 +16,10 @@ abstract class AbstractSampleShrinker {
 		return ShrinkingDistance.forCollection(shrinkables);
 	}
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final CandidateEvaluation candidateEvaluation;
 
-	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		this.falsificationCache = falsificationCache;
+	public AbstractSampleShrinker(CandidateEvaluation candidateEvaluation) {
+		this.candidateEvaluation = candidateEvaluation;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -40,27 +41,20 @@ abstract class AbstractSampleShrinker {
 		FilteredResults filteredResults = new FilteredResults();
 
 		while (true) {
+			FlightRecorderEvents.Event shrinkingStepEvent = FlightRecorderEvents.SHRINKING_STEP.begin();
 			ShrinkingDistance currentDistance = calculateDistance(currentShrinkBase);
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
-			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+			Stream<List<Shrinkable<Object>>> candidates =
 				supplyShrinkCandidates.apply(currentShrinkBase)
-								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
-									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
-									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
-								 })
-								 .peek(t -> {
-									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
-										 filteredResults.push(t);
-									 }
-								 })
-								 .filter(t -> t.get3().isFalsified())
-								 .findAny();
+									  .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
+									  .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0);
+
+			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+				candidateEvaluation.windowSize() > 1
+					? findFalsifiedInWindows(falsifier, candidates, currentDistance, filteredResults)
+					: findFalsified(falsifier, candidates, currentDistance, filteredResults);
 
 			if (newShrinkingResult.isPresent()) {
 				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
@@ -75,6 +69,9 @@ abstract class AbstractSampleShrinker {
 				bestResult = Optional.of(falsifiedSample);
 				currentShrinkBase = falsifiedTry.get2();
 				filteredResults.clear();
+				if (shrinkingStepEvent.shouldCommit()) {
+					shrinkingStepEvent.commit(calculateDistance(currentShrinkBase));
+				}
 			} else if (!filteredResults.isEmpty()) {
 				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> aFilteredResult = filteredResults.pop();
 				currentShrinkBase = aFilteredResult.get2();
@@ -86,9 +83,71 @@ abstract class AbstractSampleShrinker {
 		return bestResult.orElse(sample);
 	}
 
-	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
-		// I wonder in which cases this is really an optimization
-		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> findFalsified(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> candidates,
+		ShrinkingDistance currentDistance,
+		FilteredResults filteredResults
+	) {
+		return candidates.map(shrinkables -> {
+							 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
+							 TryExecutionResult result = candidateEvaluation.evaluate(falsifier, params);
+							 return Tuple.of(params, shrinkables, result);
+						 })
+						 .peek(t -> rememberInvalid(t, currentDistance, filteredResults))
+						 .filter(t -> t.get3().isFalsified())
+						 .findAny();
+	}
+
+	/**
+	 * Evaluate candidates concurrently in windows of {@linkplain CandidateEvaluation#windowSize()}.
+	 * Within a window the falsified candidate with the smallest index is chosen.
+	 * Results are awaited in candidate order, so a falsified candidate that finishes
+	 * earlier never wins over a preceding one that is still being evaluated.
+	 * That's why the shrinking result is the same as with sequential evaluation
+	 * and does not depend on the number of threads.
+	 */
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> findFalsifiedInWindows(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> candidates,
+		ShrinkingDistance currentDistance,
+		FilteredResults filteredResults
+	) {
+		Iterator<List<Shrinkable<Object>>> iterator = candidates.iterator();
+		while (iterator.hasNext()) {
+			List<List<Shrinkable<Object>>> window = new ArrayList<>();
+			while (window.size() < candidateEvaluation.windowSize() && iterator.hasNext()) {
+				window.add(iterator.next());
+			}
+			List<List<Object>> windowParams = window.stream()
+													.map(shrinkables -> createValues(shrinkables).collect(Collectors.toList()))
+													.collect(Collectors.toList());
+			List<Supplier<TryExecutionResult>> results = candidateEvaluation.evaluateWindow(falsifier, windowParams);
+			try {
+				for (int i = 0; i < window.size(); i++) {
+					Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> t =
+						Tuple.of(windowParams.get(i), window.get(i), results.get(i).get());
+					rememberInvalid(t, currentDistance, filteredResults);
+					if (t.get3().isFalsified()) {
+						return Optional.of(t);
+					}
+				}
+			} finally {
+				candidateEvaluation.discardWindow();
+			}
+		}
+		return Optional.empty();
+	}
+
+	private void rememberInvalid(
+		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> t,
+		ShrinkingDistance currentDistance,
+		FilteredResults filteredResults
+	) {
+		// Remember best 10 invalid results in case no  falsified shrink is found
+		if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
+			filteredResults.push(t);
+		}
 	}
 
 	private Stream<Object> createValues(List<Shrinkable<Object>> shrinkables) {
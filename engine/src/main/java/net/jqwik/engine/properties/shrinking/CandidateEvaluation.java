@@ -0,0 +1,107 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Evaluates shrinking candidates with a falsifier unless the result
+ * for equal parameters is already known.
+ *
+ * <p>
+ * With a concurrent executor a window of candidates can be evaluated at the same time.
+ * Results of a window must then be taken in the order of candidates,
+ * which is also the order in which actual evaluations are reported to the evaluation listener.
+ * Results that are not taken are discarded and never reported.
+ * That's why the reported sequence of evaluations is the same as in sequential shrinking
+ * and can be used to recreate a shrunk sample.
+ * </p>
+ */
+class CandidateEvaluation {
+
+	private final FalsificationCache falsificationCache;
+	private final Consumer<TryExecutionResult.Status> evaluationListener;
+	private final ConcurrentTryExecutor concurrentExecutor;
+	private final int windowSize;
+
+	CandidateEvaluation(Consumer<TryExecutionResult.Status> evaluationListener) {
+		this(evaluationListener, null, 1, new FalsificationCache());
+	}
+
+	CandidateEvaluation(
+		Consumer<TryExecutionResult.Status> evaluationListener,
+		ConcurrentTryExecutor concurrentExecutor,
+		int windowSize,
+		FalsificationCache falsificationCache
+	) {
+		this.falsificationCache = falsificationCache;
+		this.evaluationListener = evaluationListener;
+		this.concurrentExecutor = concurrentExecutor;
+		this.windowSize = concurrentExecutor == null ? 1 : windowSize;
+	}
+
+	int windowSize() {
+		return windowSize;
+	}
+
+	FalsificationCache falsificationCache() {
+		return falsificationCache;
+	}
+
+	TryExecutionResult evaluate(Falsifier<List<Object>> falsifier, List<Object> params) {
+		return falsificationCache.get(params).orElseGet(() -> remember(params, falsifier.execute(params)));
+	}
+
+	/**
+	 * Start evaluation of all candidates concurrently.
+	 *
+	 * @return a supplier for each candidate's result. Suppliers must be called in order.
+	 */
+	List<Supplier<TryExecutionResult>> evaluateWindow(Falsifier<List<Object>> falsifier, List<List<Object>> candidates) {
+		if (concurrentExecutor == null || candidates.size() <= 1) {
+			List<Supplier<TryExecutionResult>> results = new ArrayList<>();
+			for (List<Object> params : candidates) {
+				results.add(() -> evaluate(falsifier, params));
+			}
+			return results;
+		}
+		Map<List<Object>, Supplier<TryExecutionResult>> pending = new HashMap<>();
+		for (List<Object> params : candidates) {
+			if (!falsificationCache.contains(params) && !pending.containsKey(params)) {
+				pending.put(params, concurrentExecutor.submit(() -> falsifier.execute(params)));
+			}
+		}
+		List<Supplier<TryExecutionResult>> results = new ArrayList<>();
+		for (List<Object> params : candidates) {
+			results.add(() -> {
+				Optional<TryExecutionResult> cachedResult = falsificationCache.get(params);
+				if (cachedResult.isPresent()) {
+					return cachedResult.get();
+				}
+				// An entry that was cached when the window started can have been evicted since
+				Supplier<TryExecutionResult> pendingResult = pending.get(params);
+				TryExecutionResult result = pendingResult != null ? pendingResult.get() : falsifier.execute(params);
+				return remember(params, result);
+			});
+		}
+		return results;
+	}
+
+	/**
+	 * Cancel evaluations of a window whose results are no longer needed.
+	 */
+	void discardWindow() {
+		if (concurrentExecutor != null) {
+			concurrentExecutor.cancelOutstanding();
+		}
+	}
+
+	private TryExecutionResult remember(List<Object> params, TryExecutionResult result) {
+		falsificationCache.put(params, result);
+		evaluationListener.accept(result.status());
+		return result;
+	}
+}
@@ -0,0 +1,165 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * A bounded cache of falsification results during shrinking.
+ *
+ * <p>
+ * The cache evicts the least recently used entries as soon as it holds more than
+ * a maximum number of entries or the approximate weight of all cached parameters
+ * exceeds a maximum weight. The weight of a parameter list is the sum of its parameters' sizes:
+ * Collections, maps, arrays and char sequences count with their number of elements,
+ * all other objects count as one.
+ * </p>
+ *
+ * <p>
+ * Parameters that are heavier than {@code maxKeyWeight} are not retained at all
+ * and their results are not cached. Looking them up always counts as a miss.
+ * Caching them by a fingerprint instead could make two different samples collide
+ * and thereby skip a failing candidate.
+ * </p>
+ *
+ * <p>
+ * Eviction is deterministic, i.e. the same sequence of lookups leads to the same hits and misses.
+ * This is required for recreating a shrunk sample from its shrinking sequence.
+ * </p>
+ */
+class FalsificationCache {
+
+	static final int DEFAULT_MAX_ENTRIES = 10_000;
+	static final long DEFAULT_MAX_WEIGHT = 1_000_000;
+	static final long DEFAULT_MAX_KEY_WEIGHT = 1_000;
+
+	private final int maxEntries;
+	private final long maxWeight;
+	private final long maxKeyWeight;
+
+	// Access ordered to evict least recently used entries first
+	private final LinkedHashMap<List<Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long currentWeight = 0;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	FalsificationCache() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT, DEFAULT_MAX_KEY_WEIGHT);
+	}
+
+	FalsificationCache(int maxEntries, long maxWeight, long maxKeyWeight) {
+		this.maxEntries = maxEntries;
+		this.maxWeight = maxWeight;
+		this.maxKeyWeight = maxKeyWeight;
+	}
+
+	synchronized Optional<TryExecutionResult> get(List<Object> parameters) {
+		Entry entry = isRetainable(parameters) ? entries.get(parameters) : null;
+		if (entry == null) {
+			misses++;
+			return Optional.empty();
+		}
+		hits++;
+		return Optional.of(entry.result);
+	}
+
+	/**
+	 * Check for a cached result without counting a hit or miss or changing eviction order.
+	 */
+	synchronized boolean contains(List<Object> parameters) {
+		return isRetainable(parameters) && entries.containsKey(parameters);
+	}
+
+	synchronized void put(List<Object> parameters, TryExecutionResult result) {
+		long weight = weightOf(parameters);
+		if (weight > maxKeyWeight) {
+			return;
+		}
+		Entry previous = entries.put(parameters, new Entry(result, weight));
+		if (previous != null) {
+			currentWeight -= previous.weight;
+		}
+		currentWeight += weight;
+		evictIfNecessary();
+	}
+
+	private void evictIfNecessary() {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while ((entries.size() > maxEntries || currentWeight > maxWeight) && iterator.hasNext()) {
+			Entry eldest = iterator.next();
+			iterator.remove();
+			currentWeight -= eldest.weight;
+			evictions++;
+		}
+	}
+
+	private boolean isRetainable(List<Object> parameters) {
+		return weightOf(parameters) <= maxKeyWeight;
+	}
+
+	synchronized int size() {
+		return entries.size();
+	}
+
+	synchronized long hits() {
+		return hits;
+	}
+
+	synchronized long misses() {
+		return misses;
+	}
+
+	synchronized long evictions() {
+		return evictions;
+	}
+
+	synchronized double hitRate() {
+		long lookups = hits + misses;
+		return lookups == 0 ? 0.0 : (double) hits / lookups;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format(
+			"FalsificationCache[size=%s, weight=%s, hits=%s, misses=%s, hitRate=%.2f, evictions=%s]",
+			entries.size(), currentWeight, hits, misses, hitRate(), evictions
+		);
+	}
+
+	static long weightOf(List<Object> parameters) {
+		long weight = 0;
+		for (Object parameter : parameters) {
+			weight += weightOf(parameter);
+		}
+		return weight;
+	}
+
+	private static long weightOf(Object value) {
+		if (value instanceof Collection) {
+			return 1 + ((Collection<?>) value).size();
+		}
+		if (value instanceof Map) {
+			return 1 + ((Map<?, ?>) value).size();
+		}
+		if (value instanceof CharSequence) {
+			return 1 + ((CharSequence) value).length();
+		}
+		if (value != null && value.getClass().isArray()) {
+			return 1 + Array.getLength(value);
+		}
+		return 1;
+	}
+
+	private static class Entry {
+		private final TryExecutionResult result;
+		private final long weight;
+
+		private Entry(TryExecutionResult result, long weight) {
+			this.result = result;
+			this.weight = weight;
+		}
+	}
+}
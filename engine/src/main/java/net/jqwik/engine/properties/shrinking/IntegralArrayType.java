@@ -0,0 +1,145 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+/**
+ * Access to the elements of primitive arrays of integral types
+ * without boxing and without reflection.
+ */
+public enum IntegralArrayType {
+
+	BYTE(byte.class, Byte.MIN_VALUE, Byte.MAX_VALUE) {
+		@Override
+		public Object newArray(int length) {
+			return new byte[length];
+		}
+
+		@Override
+		public int length(Object array) {
+			return ((byte[]) array).length;
+		}
+
+		@Override
+		public long get(Object array, int index) {
+			return ((byte[]) array)[index];
+		}
+
+		@Override
+		public void set(Object array, int index, long value) {
+			((byte[]) array)[index] = (byte) value;
+		}
+	},
+
+	SHORT(short.class, Short.MIN_VALUE, Short.MAX_VALUE) {
+		@Override
+		public Object newArray(int length) {
+			return new short[length];
+		}
+
+		@Override
+		public int length(Object array) {
+			return ((short[]) array).length;
+		}
+
+		@Override
+		public long get(Object array, int index) {
+			return ((short[]) array)[index];
+		}
+
+		@Override
+		public void set(Object array, int index, long value) {
+			((short[]) array)[index] = (short) value;
+		}
+	},
+
+	INT(int.class, Integer.MIN_VALUE, Integer.MAX_VALUE) {
+		@Override
+		public Object newArray(int length) {
+			return new int[length];
+		}
+
+		@Override
+		public int length(Object array) {
+			return ((int[]) array).length;
+		}
+
+		@Override
+		public long get(Object array, int index) {
+			return ((int[]) array)[index];
+		}
+
+		@Override
+		public void set(Object array, int index, long value) {
+			((int[]) array)[index] = (int) value;
+		}
+	},
+
+	LONG(long.class, Long.MIN_VALUE, Long.MAX_VALUE) {
+		@Override
+		public Object newArray(int length) {
+			return new long[length];
+		}
+
+		@Override
+		public int length(Object array) {
+			return ((long[]) array).length;
+		}
+
+		@Override
+		public long get(Object array, int index) {
+			return ((long[]) array)[index];
+		}
+
+		@Override
+		public void set(Object array, int index, long value) {
+			((long[]) array)[index] = value;
+		}
+	};
+
+	private final Class<?> componentType;
+	private final long minValue;
+	private final long maxValue;
+
+	IntegralArrayType(Class<?> componentType, long minValue, long maxValue) {
+		this.componentType = componentType;
+		this.minValue = minValue;
+		this.maxValue = maxValue;
+	}
+
+	public static Optional<IntegralArrayType> forComponentType(Class<?> componentType) {
+		return Arrays.stream(values()).filter(type -> type.componentType.equals(componentType)).findFirst();
+	}
+
+	public boolean coversFullRange(long min, long max) {
+		return min == minValue && max == maxValue;
+	}
+
+	public abstract Object newArray(int length);
+
+	public abstract int length(Object array);
+
+	public abstract long get(Object array, int index);
+
+	public abstract void set(Object array, int index, long value);
+
+	public Object copyOfRange(Object array, int from, int to) {
+		Object copy = newArray(to - from);
+		System.arraycopy(array, from, copy, 0, to - from);
+		return copy;
+	}
+
+	public Object copy(Object array) {
+		return copyOfRange(array, 0, length(array));
+	}
+
+	/**
+	 * @return a copy of {@code array} without the elements in [from..to)
+	 */
+	public Object copyWithout(Object array, int from, int to) {
+		int length = length(array);
+		Object copy = newArray(length - (to - from));
+		System.arraycopy(array, 0, copy, 0, from);
+		System.arraycopy(array, to, copy, from, length - to);
+		return copy;
+	}
+}
@@ -0,0 +1,97 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+class LongGrower {
+
+	private final long min;
+	private final long max;
+	private final long shrinkingTarget;
+
+	LongGrower(long min, long max, long shrinkingTarget) {
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	Optional<Shrinkable<Long>> grow(long value, Shrinkable<?> before, Shrinkable<?> after) {
+		long diff = calculateDiff(before.value(), after.value(), value);
+		if (diff != 0) {
+			long grownValue = value + diff;
+			// Overflow would flip the direction of growing
+			boolean overflow = (diff > 0) != (grownValue > value);
+			if (!overflow && sameSide(value, grownValue) && isInRange(grownValue)) {
+				return Optional.of(new ShrinkableLong(grownValue, min, max, shrinkingTarget));
+			}
+		}
+		return Optional.empty();
+	}
+
+	private long calculateDiff(Object beforeValue, Object afterValue, long current) {
+		long before = toLong(beforeValue);
+		long after = toLong(afterValue);
+		if (sameSign(before, current)) {
+			return before - after;
+		} else {
+			return after - before;
+		}
+	}
+
+	private boolean sameSign(long first, long second) {
+		return Math.abs(Long.signum(first) - Long.signum(second)) <= 1;
+	}
+
+	// Same as comparing the signs of (shrinkingTarget - value) and (shrinkingTarget - grownValue) without overflow
+	private boolean sameSide(long value, long grownValue) {
+		int valueSide = Long.compare(shrinkingTarget, value);
+		int grownSide = Long.compare(shrinkingTarget, grownValue);
+		return Math.abs(valueSide - grownSide) <= 1;
+	}
+
+	private long toLong(Object value) {
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return ((Number) value).longValue();
+		}
+		if (value instanceof BigInteger && ((BigInteger) value).bitLength() < Long.SIZE) {
+			return ((BigInteger) value).longValue();
+		}
+		return 0L;
+	}
+
+	private boolean isInRange(long value) {
+		return value >= min && value <= max;
+	}
+
+	Stream<Shrinkable<Long>> grow(long value) {
+		if (value < shrinkingTarget) {
+			return growLeft(value);
+		} else {
+			return growRight(value);
+		}
+	}
+
+	private Stream<Shrinkable<Long>> growRight(long value) {
+		// Unsigned shift because (max - value) can exceed Long.MAX_VALUE
+		long halfWayUp = value + ((max - value) >>> 1);
+		return LongStream
+				   .of(max, halfWayUp, value + 10, value + 1)
+				   .filter(grownValue -> grownValue > value)
+				   .filter(this::isInRange)
+				   .distinct()
+				   .mapToObj(grown -> new ShrinkableLong(grown, min, max, shrinkingTarget));
+	}
+
+	private Stream<Shrinkable<Long>> growLeft(long value) {
+		long halfWayDown = value - ((value - min) >>> 1);
+		return LongStream
+				   .of(min, halfWayDown, value - 10, value - 1)
+				   .filter(grownValue -> grownValue < value)
+				   .filter(this::isInRange)
+				   .distinct()
+				   .mapToObj(grown -> new ShrinkableLong(grown, min, max, shrinkingTarget));
+	}
+}
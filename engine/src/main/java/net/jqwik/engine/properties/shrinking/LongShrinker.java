@@ -0,0 +1,63 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Same shrinking candidates as {@linkplain BigIntegerShrinker} but without BigInteger arithmetic.
+ */
+public class LongShrinker {
+
+	private final long shrinkingTarget;
+
+	public LongShrinker(long shrinkingTarget) {
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	public Stream<Long> shrink(long value) {
+		Set<Long> candidates = new LinkedHashSet<>();
+		long lower = Math.min(shrinkingTarget, value);
+		long higher = Math.max(shrinkingTarget, value);
+		long distance = saturatedDistance(lower, higher);
+		addFibbonaci(candidates, lower, distance);
+		subFibbonaci(candidates, higher, distance);
+		candidates.add(shrinkingTarget);
+		candidates.remove(value);
+		return candidates.stream();
+	}
+
+	private void subFibbonaci(Set<Long> candidates, long target, long distance) {
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			long step = butLast + last;
+			// step < 0 means overflow
+			if (step < 0 || step >= distance) {
+				break;
+			}
+			candidates.add(target - step);
+			butLast = last;
+			last = step;
+		}
+	}
+
+	private void addFibbonaci(Set<Long> candidates, long target, long distance) {
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			long step = butLast + last;
+			if (step < 0 || step >= distance) {
+				break;
+			}
+			candidates.add(target + step);
+			butLast = last;
+			last = step;
+		}
+	}
+
+	static long saturatedDistance(long lower, long higher) {
+		long distance = higher - lower;
+		return distance < 0 ? Long.MAX_VALUE : distance;
+	}
+
+}
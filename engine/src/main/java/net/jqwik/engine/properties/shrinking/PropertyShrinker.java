@@ -23,11 +23,13 @@ public class PropertyShrinker {
 	private final FalsifiedSample originalSample;
 	private final ShrinkingMode shrinkingMode;
 	private final int boundedShrinkingSeconds;
+	private final int parallelism;
 	private final Consumer<FalsifiedSample> falsifiedSampleReporter;
 	private final Method targetMethod;
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
 	private final List<TryExecutionResult.Status> shrinkingSequence = new LinkedList<>();
+	private final FalsificationCache falsificationCache = new FalsificationCache();
 
 	private Optional<FalsifiedSample> currentBest = Optional.empty();
 	private volatile boolean shrinkingInterrupted = false;
@@ -36,12 +38,14 @@ public class PropertyShrinker {
 		FalsifiedSample originalSample,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
+		int parallelism,
 		Consumer<FalsifiedSample> falsifiedSampleReporter,
 		Method targetMethod
 	) {
 		this.originalSample = originalSample;
 		this.shrinkingMode = shrinkingMode;
 		this.boundedShrinkingSeconds = boundedShrinkingSeconds;
+		this.parallelism = parallelism;
 		this.falsifiedSampleReporter = falsifiedSampleReporter;
 		this.targetMethod = targetMethod;
 	}
@@ -118,21 +122,36 @@ public class PropertyShrinker {
 		final Consumer<FalsifiedSample> sampleShrunkConsumer,
 		final Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		Falsifier<List<Object>> recordingFalsifier = params -> {
-			TryExecutionResult executionResult = falsifier.execute(params);
+		Consumer<TryExecutionResult.Status> recordEvaluation = status -> {
 			if (!shrinkingInterrupted) {
-				shrinkingSequence.add(executionResult.status());
+				shrinkingSequence.add(status);
 			}
-			return executionResult;
 		};
 
-		ShrinkingAlgorithm plainShrinker = new ShrinkingAlgorithm(
-			originalSample,
-			sampleShrunkConsumer,
-			shrinkAttemptConsumer
-		);
+		// Concurrent evaluation of shrinking candidates is only done when tries are allowed to run concurrently
+		try (ConcurrentTryExecutor concurrentExecutor = parallelism > 1 ? new ConcurrentTryExecutor(parallelism) : null) {
+			ShrinkingAlgorithm plainShrinker = new ShrinkingAlgorithm(
+				originalSample,
+				sampleShrunkConsumer,
+				shrinkAttemptConsumer,
+				new CandidateEvaluation(recordEvaluation, concurrentExecutor, parallelism, falsificationCache)
+			);
+			return plainShrinker.shrink(falsifier);
+		} finally {
+			logFalsificationCacheStatistics();
+		}
+	}
 
-		return plainShrinker.shrink(recordingFalsifier);
+	FalsificationCache falsificationCache() {
+		return falsificationCache;
+	}
+
+	private void logFalsificationCacheStatistics() {
+		if (LOG.isLoggable(Level.FINE)) {
+			// Target method is null when shrinking is used outside of a property, e.g. in benchmarks
+			String shrunkProperty = targetMethod != null ? targetMethod.getName() : "sample";
+			LOG.fine(String.format("Shrinking of %s: %s", shrunkProperty, falsificationCache));
+		}
 	}
 
 	private ShrunkFalsifiedSample unshrunkOriginalSample() {
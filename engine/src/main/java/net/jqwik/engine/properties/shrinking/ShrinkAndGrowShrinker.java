@@ -10,8 +10,8 @@ import net.jqwik.engine.support.*;
 
 class ShrinkAndGrowShrinker extends AbstractSampleShrinker {
 
-	public ShrinkAndGrowShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public ShrinkAndGrowShrinker(CandidateEvaluation candidateEvaluation) {
+		super(candidateEvaluation);
 	}
 
 	@Override
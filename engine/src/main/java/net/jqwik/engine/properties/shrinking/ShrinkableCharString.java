@@ -0,0 +1,302 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A shrinkable string that keeps its characters in a char array
+ * instead of a shrinkable for each character.
+ * All characters are from a range {@code [minChar..maxChar]} and can be further restricted by {@code isAllowed}.
+ * Characters shrink towards {@code minChar}.
+ *
+ * <p>
+ * Shrinking candidates are the same as in {@linkplain ShrinkableString}
+ * with characters being shrunk like {@linkplain ShrinkableLong}.
+ * </p>
+ */
+public class ShrinkableCharString implements Shrinkable<String> {
+
+	private static final int MAX_CHARS_TO_SHRINK_IN_LONG_STRINGS = 100;
+
+	private final char[] chars;
+	private final int minLength;
+	private final int maxLength;
+	private final char minChar;
+	private final char maxChar;
+	private final IntPredicate isAllowed;
+
+	private String value;
+
+	/**
+	 * @param chars must not be changed after the shrinkable has been created
+	 */
+	public ShrinkableCharString(char[] chars, int minLength, int maxLength, char minChar, char maxChar, IntPredicate isAllowed) {
+		this.chars = chars;
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+		this.minChar = minChar;
+		this.maxChar = maxChar;
+		this.isAllowed = isAllowed;
+	}
+
+	@Override
+	public String value() {
+		if (value == null) {
+			value = new String(chars);
+		}
+		return value;
+	}
+
+	@Override
+	public Stream<Shrinkable<String>> shrink() {
+		if (chars.length > MAX_CHARS_TO_SHRINK_IN_LONG_STRINGS) {
+			return JqwikStreamSupport.concat(
+				shrinkLengthAggressively(),
+				shrinkLength(),
+				shrinkCharsOneAfterTheOther(MAX_CHARS_TO_SHRINK_IN_LONG_STRINGS)
+			);
+		}
+		return JqwikStreamSupport.concat(
+			shrinkLength(),
+			shrinkCharsOneAfterTheOther(chars.length),
+			shrinkPairsOfChars(),
+			sortChars()
+		);
+	}
+
+	private Stream<Shrinkable<String>> shrinkLengthAggressively() {
+		Set<Cut> cuts = new LinkedHashSet<>();
+		cuts.add(Cut.left(minLength));
+		cuts.add(Cut.right(minLength, chars.length));
+		if (chars.length > minLength + 1) {
+			cuts.add(Cut.left(minLength + 1));
+			cuts.add(Cut.right(minLength + 1, chars.length));
+		}
+		int halfLength = chars.length / 2;
+		if (halfLength >= minLength) {
+			cuts.add(Cut.left(halfLength));
+			cuts.add(Cut.right(chars.length - halfLength, chars.length));
+		}
+		return shrinkByCuts(cuts);
+	}
+
+	private Stream<Shrinkable<String>> shrinkLength() {
+		if (chars.length <= minLength) {
+			return Stream.empty();
+		}
+		Set<Cut> cuts = new LinkedHashSet<>();
+		if (minLength == 0) {
+			cuts.add(Cut.left(0));
+		}
+		int charsToCut = charsToCut();
+		cuts.add(Cut.left(chars.length - charsToCut));
+		cuts.add(Cut.left(chars.length - 1));
+		cuts.add(Cut.right(chars.length - charsToCut, chars.length));
+		cuts.add(Cut.right(chars.length - 1, chars.length));
+		return shrinkByCuts(cuts);
+	}
+
+	private int charsToCut() {
+		int length = chars.length;
+		int toCut = length <= 10 ? 1 : length < 20 ? length - 9 : length / 2;
+		return Math.min(toCut, length - minLength);
+	}
+
+	private Stream<Shrinkable<String>> shrinkByCuts(Set<Cut> cuts) {
+		return cuts.stream()
+				   .filter(cut -> cut.length() >= minLength && cut.length() < chars.length)
+				   .map(cut -> createShrinkable(Arrays.copyOfRange(chars, cut.from, cut.to)))
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	private Stream<Shrinkable<String>> shrinkCharsOneAfterTheOther(int maxToShrink) {
+		int charsToShrink = Math.min(maxToShrink, chars.length);
+		return IntStream.range(0, charsToShrink).boxed().flatMap(index -> {
+			char[] candidates = shrinkChar(chars[index]);
+			return IntStream.range(0, candidates.length).mapToObj(i -> {
+				char[] shrunkChars = chars.clone();
+				shrunkChars[index] = candidates[i];
+				return createShrinkable(shrunkChars);
+			});
+		});
+	}
+
+	private Stream<Shrinkable<String>> shrinkPairsOfChars() {
+		return Combinatorics
+				   .distinctPairs(chars.length)
+				   .flatMap(pair -> {
+					   int first = pair.get1();
+					   int second = pair.get2();
+					   char[] firstCandidates = shrinkChar(chars[first]);
+					   char[] secondCandidates = shrinkChar(chars[second]);
+					   int candidates = Math.min(firstCandidates.length, secondCandidates.length);
+					   return IntStream.range(0, candidates).mapToObj(i -> {
+						   char[] shrunkChars = chars.clone();
+						   shrunkChars[first] = firstCandidates[i];
+						   shrunkChars[second] = secondCandidates[i];
+						   return createShrinkable(shrunkChars);
+					   });
+				   });
+	}
+
+	private Stream<Shrinkable<String>> sortChars() {
+		char[] sortedChars = chars.clone();
+		Arrays.sort(sortedChars);
+		if (Arrays.equals(chars, sortedChars)) {
+			return Stream.empty();
+		}
+		Stream<Shrinkable<String>> pairwiseSorts =
+			Combinatorics.distinctPairs(chars.length)
+						 .map(pair -> Tuple.of(Math.min(pair.get1(), pair.get2()), Math.max(pair.get1(), pair.get2())))
+						 .filter(pair -> chars[pair.get1()] > chars[pair.get2()])
+						 .map(pair -> {
+							 char[] swapped = chars.clone();
+							 swapped[pair.get1()] = chars[pair.get2()];
+							 swapped[pair.get2()] = chars[pair.get1()];
+							 return createShrinkable(swapped);
+						 });
+		return Stream.concat(Stream.of(createShrinkable(sortedChars)), pairwiseSorts);
+	}
+
+	// Same candidates in same order as in ShrinkableLong with minChar as shrinking target
+	private char[] shrinkChar(char aChar) {
+		int distance = aChar - minChar;
+		if (distance <= 0) {
+			return new char[0];
+		}
+		int[] candidates = new int[64];
+		int count = 0;
+		candidates[count++] = minChar;
+		int butLast = 0;
+		int last = 1;
+		while (true) {
+			int step = butLast + last;
+			if (step >= distance) {
+				break;
+			}
+			candidates[count++] = minChar + step;
+			candidates[count++] = aChar - step;
+			butLast = last;
+			last = step;
+		}
+		Arrays.sort(candidates, 0, count);
+		char[] allowedCandidates = new char[count];
+		int allowedCount = 0;
+		for (int i = 0; i < count; i++) {
+			int candidate = candidates[i];
+			boolean isDuplicate = i > 0 && candidates[i - 1] == candidate;
+			if (!isDuplicate && isAllowed(candidate)) {
+				allowedCandidates[allowedCount++] = (char) candidate;
+			}
+		}
+		return Arrays.copyOf(allowedCandidates, allowedCount);
+	}
+
+	@Override
+	public Optional<Shrinkable<String>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		if (before instanceof ShrinkableCharString && after instanceof ShrinkableCharString) {
+			char[] beforeChars = ((ShrinkableCharString) before).chars;
+			String afterValue = ((ShrinkableCharString) after).value();
+			StringBuilder removedChars = new StringBuilder();
+			for (char beforeChar : beforeChars) {
+				if (afterValue.indexOf(beforeChar) < 0) {
+					removedChars.append(beforeChar);
+				}
+			}
+			if (removedChars.length() > 0 && chars.length + removedChars.length() <= maxLength) {
+				String grown = removedChars.reverse().append(chars).toString();
+				return Optional.of(createShrinkable(grown.toCharArray()));
+			}
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public Stream<Shrinkable<String>> grow() {
+		LongGrower grower = new LongGrower(minChar, maxChar, minChar);
+		return IntStream.range(0, chars.length).boxed().flatMap(
+			index -> grower.grow(chars[index])
+						   .map(Shrinkable::value)
+						   .filter(this::isAllowed)
+						   .map(grownChar -> {
+							   char[] grownChars = chars.clone();
+							   grownChars[index] = (char) (long) grownChar;
+							   return createShrinkable(grownChars);
+						   })
+		);
+	}
+
+	private boolean isAllowed(long aChar) {
+		return aChar >= minChar && aChar <= maxChar && isAllowed.test((int) aChar);
+	}
+
+	private Shrinkable<String> createShrinkable(char[] shrunkChars) {
+		return new ShrinkableCharString(shrunkChars, minLength, maxLength, minChar, maxChar, isAllowed);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		long sumOfCharDistances = 0;
+		for (char aChar : chars) {
+			sumOfCharDistances += aChar - minChar;
+		}
+		return ShrinkingDistance.of(chars.length, sumOfCharDistances);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkableCharString that = (ShrinkableCharString) o;
+		return Arrays.equals(chars, that.chars);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(chars);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s<String>(%s:%s)", getClass().getSimpleName(), value(), distance());
+	}
+
+	private static class Cut {
+		private final int from;
+		private final int to;
+
+		private static Cut left(int keep) {
+			return new Cut(0, keep);
+		}
+
+		private static Cut right(int from, int length) {
+			return new Cut(from, length);
+		}
+
+		private Cut(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		private int length() {
+			return to - from;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Cut cut = (Cut) o;
+			return from == cut.from && to == cut.to;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * from + to;
+		}
+	}
+}
@@ -16,6 +16,8 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	protected final int maxSize;
 	protected final Collection<FeatureExtractor<E>> uniquenessExtractors;
 
+	private UniquenessIndex<E> uniquenessIndex;
+
 	ShrinkableContainer(List<Shrinkable<E>> elements, int minSize, int maxSize, Collection<FeatureExtractor<E>> uniquenessExtractors) {
 		this.elements = elements;
 		this.minSize = minSize;
@@ -121,12 +123,12 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 			int index = i;
 			Shrinkable<E> element = elements.get(i);
 			Stream<Shrinkable<C>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.remove(index);
-				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elementsCopy)) {
+				if (!uniquenessExtractors.isEmpty()
+						&& !uniquenessIndex().isUniqueReplacing(element.value(), shrunkElement.value())) {
 					return Stream.empty();
 				}
-				elementsCopy.add(index, shrunkElement);
+				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
+				elementsCopy.set(index, shrunkElement);
 				return Stream.of(createShrinkable(elementsCopy));
 			});
 			shrinkPerElementStreams.add(shrinkElement);
@@ -134,6 +136,15 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		return JqwikStreamSupport.concat(shrinkPerElementStreams);
 	}
 
+	// Built on first use so that shrinkables which are never shrunk do not pay for it
+	private synchronized UniquenessIndex<E> uniquenessIndex() {
+		if (uniquenessIndex == null) {
+			List<E> values = elements.stream().map(Shrinkable::value).collect(Collectors.toList());
+			uniquenessIndex = UniquenessIndex.of(uniquenessExtractors, values);
+		}
+		return uniquenessIndex;
+	}
+
 	protected Stream<Shrinkable<C>> shrinkPairsOfElements() {
 		ShrinkingCommons.ContainerCreator<C, E> createContainer = newElements -> {
 			if (checkUniquenessOfShrinkables(uniquenessExtractors, newElements)) {
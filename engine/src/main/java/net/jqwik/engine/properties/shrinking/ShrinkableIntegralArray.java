@@ -0,0 +1,299 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A shrinkable array of byte, short, int or long values that keeps the values in a primitive array
+ * instead of a shrinkable for each element.
+ *
+ * <p>
+ * Shrinking removes chunks of elements, sets chunks of elements to the shrinking target
+ * and then shrinks single elements like {@linkplain ShrinkableLong}.
+ * Chunks start with the whole array and are halved down to single elements.
+ * Like {@linkplain ShrinkableList} it finally shrinks pairs of elements together,
+ * sorts elements and moves values towards the end.
+ * Since these steps are quadratic in the array's length they are skipped for long arrays.
+ * Growing works like in {@linkplain ShrinkableContainer}.
+ * </p>
+ */
+public class ShrinkableIntegralArray<A> implements Shrinkable<A> {
+
+	private static final int MAX_LENGTH_TO_SHRINK_PAIRWISE = 100;
+
+	private final Object array;
+	private final IntegralArrayType type;
+	private final int minSize;
+	private final int maxSize;
+	private final long min;
+	private final long max;
+	private final long shrinkingTarget;
+
+	/**
+	 * @param array must not be changed after the shrinkable has been created
+	 */
+	public ShrinkableIntegralArray(
+		Object array,
+		IntegralArrayType type,
+		int minSize, int maxSize,
+		long min, long max, long shrinkingTarget
+	) {
+		this.array = array;
+		this.type = type;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	// Arrays are mutable. That's why each call gets its own copy.
+	@SuppressWarnings("unchecked")
+	@Override
+	public A value() {
+		return (A) type.copy(array);
+	}
+
+	@Override
+	public Stream<Shrinkable<A>> shrink() {
+		if (length() > MAX_LENGTH_TO_SHRINK_PAIRWISE) {
+			return JqwikStreamSupport.concat(
+				removeChunks(),
+				setChunksToTarget(),
+				shrinkElementsOneAfterTheOther()
+			);
+		}
+		return JqwikStreamSupport.concat(
+			removeChunks(),
+			setChunksToTarget(),
+			shrinkElementsOneAfterTheOther(),
+			shrinkPairsOfElements(),
+			sortElements(),
+			moveIndividualValuesTowardsEnd()
+		);
+	}
+
+	@Override
+	public Optional<Shrinkable<A>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		if (before instanceof ShrinkableIntegralArray && after instanceof ShrinkableIntegralArray) {
+			ShrinkableIntegralArray<?> arrayBefore = (ShrinkableIntegralArray<?>) before;
+			ShrinkableIntegralArray<?> arrayAfter = (ShrinkableIntegralArray<?>) after;
+			if (arrayBefore.type != type || arrayAfter.type != type) {
+				return Optional.empty();
+			}
+			List<Long> removedValues = arrayBefore.values();
+			removedValues.removeAll(arrayAfter.values());
+			return growBy(removedValues);
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public Stream<Shrinkable<A>> grow() {
+		List<Shrinkable<Long>> elements = elements();
+		return IntStream.range(0, elements.size()).boxed().flatMap(
+			index -> elements.get(index).grow().map(grownElement -> {
+				Object grownArray = type.copy(array);
+				type.set(grownArray, index, grownElement.value());
+				return createShrinkable(grownArray);
+			})
+		);
+	}
+
+	private Optional<Shrinkable<A>> growBy(List<Long> values) {
+		if (values.isEmpty() || length() + values.size() > maxSize) {
+			return Optional.empty();
+		}
+		List<Long> grownValues = values();
+		for (Long value : values) {
+			if (value < min || value > max) {
+				return Optional.empty();
+			}
+			grownValues.add(0, value);
+		}
+		return Optional.of(createShrinkable(toArray(grownValues)));
+	}
+
+	private Stream<Shrinkable<A>> removeChunks() {
+		int length = length();
+		int removable = length - minSize;
+		if (removable <= 0) {
+			return Stream.empty();
+		}
+		return chunkSizes(removable, 1).boxed().flatMap(
+			chunkSize -> chunkOffsets(length, chunkSize).mapToObj(
+				offset -> createShrinkable(type.copyWithout(array, offset, offset + chunkSize))
+			)
+		);
+	}
+
+	private Stream<Shrinkable<A>> setChunksToTarget() {
+		int length = length();
+		// Single elements are set to target as first step of shrinking elements one after the other
+		return chunkSizes(length, 2).boxed().flatMap(
+			chunkSize -> chunkOffsets(length, chunkSize)
+							 .filter(offset -> !allAtTarget(offset, offset + chunkSize))
+							 .mapToObj(offset -> {
+								 Object shrunkArray = type.copy(array);
+								 for (int i = offset; i < offset + chunkSize; i++) {
+									 type.set(shrunkArray, i, shrinkingTarget);
+								 }
+								 return createShrinkable(shrunkArray);
+							 })
+		);
+	}
+
+	private Stream<Shrinkable<A>> shrinkElementsOneAfterTheOther() {
+		return IntStream.range(0, length())
+						.filter(index -> type.get(array, index) != shrinkingTarget)
+						.boxed()
+						.flatMap(index -> {
+							ShrinkableLong element = new ShrinkableLong(type.get(array, index), min, max, shrinkingTarget);
+							return element.shrink().map(shrunkElement -> {
+								Object shrunkArray = type.copy(array);
+								type.set(shrunkArray, index, shrunkElement.value());
+								return createShrinkable(shrunkArray);
+							});
+						});
+	}
+
+	private Stream<Shrinkable<A>> shrinkPairsOfElements() {
+		return ShrinkingCommons.shrinkPairsOfElements(elements(), this::createShrinkableFromElements);
+	}
+
+	private Stream<Shrinkable<A>> sortElements() {
+		return ShrinkingCommons.sortElements(elements(), this::createShrinkableFromElements);
+	}
+
+	// Same as in ShrinkableList
+	private Stream<Shrinkable<A>> moveIndividualValuesTowardsEnd() {
+		ShrinkingDistance distance = distance();
+		List<Shrinkable<Long>> elements = elements();
+		return Combinatorics
+				   .distinctPairs(elements.size())
+				   .filter(pair -> elements.get(pair.get1()).compareTo(elements.get(pair.get2())) <= 0)
+				   .flatMap(pair -> {
+					   int firstIndex = pair.get1();
+					   int secondIndex = pair.get2();
+					   Shrinkable<Long> first = elements.get(firstIndex);
+					   Shrinkable<Long> second = elements.get(secondIndex);
+					   return first.shrink()
+								   .map(after -> Tuple.of(after, second.grow(first, after)))
+								   .filter(tuple -> tuple.get2().isPresent())
+								   .map(tuple -> {
+									   Object movedArray = type.copy(array);
+									   type.set(movedArray, firstIndex, tuple.get1().value());
+									   type.set(movedArray, secondIndex, tuple.get2().get().value());
+									   return createShrinkable(movedArray);
+								   });
+				   })
+				   .filter(s -> s.distance().compareTo(distance) <= 0);
+	}
+
+	private List<Shrinkable<Long>> elements() {
+		List<Shrinkable<Long>> elements = new ArrayList<>(length());
+		for (int i = 0; i < length(); i++) {
+			elements.add(new ShrinkableLong(type.get(array, i), min, max, shrinkingTarget));
+		}
+		return elements;
+	}
+
+	private List<Long> values() {
+		List<Long> values = new ArrayList<>(length());
+		for (int i = 0; i < length(); i++) {
+			values.add(type.get(array, i));
+		}
+		return values;
+	}
+
+	private Object toArray(List<Long> values) {
+		Object newArray = type.newArray(values.size());
+		for (int i = 0; i < values.size(); i++) {
+			type.set(newArray, i, values.get(i));
+		}
+		return newArray;
+	}
+
+	private Shrinkable<A> createShrinkableFromElements(List<Shrinkable<Long>> elements) {
+		return createShrinkable(toArray(elements.stream().map(Shrinkable::value).collect(Collectors.toList())));
+	}
+
+	private boolean allAtTarget(int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (type.get(array, i) != shrinkingTarget) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Chunk sizes from maxChunkSize down to minChunkSize, each one half of the one before
+	private static IntStream chunkSizes(int maxChunkSize, int minChunkSize) {
+		List<Integer> sizes = new ArrayList<>();
+		for (int size = maxChunkSize; size >= minChunkSize; size /= 2) {
+			sizes.add(size);
+		}
+		return sizes.stream().mapToInt(i -> i);
+	}
+
+	// Chunks at the end and at the start first, then all chunks in between
+	private static IntStream chunkOffsets(int length, int chunkSize) {
+		int lastOffset = length - chunkSize;
+		if (lastOffset == 0) {
+			return IntStream.of(0);
+		}
+		IntStream inBetween = IntStream.iterate(chunkSize, offset -> offset + chunkSize)
+									   .limit(Math.max(0, (lastOffset - 1) / chunkSize));
+		return IntStream.concat(IntStream.of(lastOffset, 0), inBetween);
+	}
+
+	private Shrinkable<A> createShrinkable(Object shrunkArray) {
+		return new ShrinkableIntegralArray<>(shrunkArray, type, minSize, maxSize, min, max, shrinkingTarget);
+	}
+
+	private int length() {
+		return type.length(array);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		long sumOfDistances = 0;
+		for (int i = 0; i < length(); i++) {
+			long value = type.get(array, i);
+			long distance = LongShrinker.saturatedDistance(Math.min(value, shrinkingTarget), Math.max(value, shrinkingTarget));
+			sumOfDistances += distance;
+			if (sumOfDistances < 0) {
+				sumOfDistances = Long.MAX_VALUE;
+			}
+		}
+		return ShrinkingDistance.of(length(), sumOfDistances);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkableIntegralArray<?> that = (ShrinkableIntegralArray<?>) o;
+		return Objects.deepEquals(array, that.array);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.deepHashCode(new Object[]{array});
+	}
+
+	@Override
+	public String toString() {
+		String valueString = Arrays.deepToString(new Object[]{array});
+		return String.format(
+			"%s<%s>(%s:%s)",
+			getClass().getSimpleName(),
+			array.getClass().getSimpleName(),
+			valueString.substring(1, valueString.length() - 1),
+			distance()
+		);
+	}
+}
@@ -0,0 +1,89 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinks integral values within a long range.
+ * Shrinking and growing work as in {@linkplain ShrinkableBigInteger}
+ * but without BigInteger arithmetic and allocation.
+ */
+public class ShrinkableLong extends AbstractValueShrinkable<Long> {
+	private final long min;
+	private final long max;
+	private final long shrinkingTarget;
+
+	public ShrinkableLong(long value, long min, long max, long shrinkingTarget) {
+		super(value);
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+		checkValueInRange(value);
+	}
+
+	@Override
+	public Stream<Shrinkable<Long>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkTowardsTarget(),
+			shrinkNegativeToPositive()
+		);
+	}
+
+	@Override
+	public Optional<Shrinkable<Long>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		return new LongGrower(min, max, shrinkingTarget).grow(value(), before, after);
+	}
+
+	@Override
+	public Stream<Shrinkable<Long>> grow() {
+		return new LongGrower(min, max, shrinkingTarget).grow(value());
+	}
+
+	private Stream<Shrinkable<Long>> shrinkNegativeToPositive() {
+		long value = value();
+		// Negating Long.MIN_VALUE would overflow
+		if (value >= 0 || value == Long.MIN_VALUE) {
+			return Stream.empty();
+		}
+		long negated = -value;
+		if (!isInRange(negated)) {
+			return Stream.empty();
+		}
+		return Stream.of(createShrinkable(negated));
+	}
+
+	private Stream<Shrinkable<Long>> shrinkTowardsTarget() {
+		return new LongShrinker(shrinkingTarget)
+				   .shrink(value())
+				   .map(this::createShrinkable)
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	private Shrinkable<Long> createShrinkable(long aLong) {
+		return new ShrinkableLong(aLong, min, max, shrinkingTarget);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return distanceFor(value(), shrinkingTarget);
+	}
+
+	static ShrinkingDistance distanceFor(long value, long target) {
+		return ShrinkingDistance.of(LongShrinker.saturatedDistance(Math.min(value, target), Math.max(value, target)));
+	}
+
+	boolean isInRange(long value) {
+		return value >= min && value <= max;
+	}
+
+	private void checkValueInRange(long value) {
+		if (!isInRange(value)) {
+			String message = String.format("Value <%s> is outside allowed range [%s..%s]", value, min, max);
+			throw new JqwikException(message);
+		}
+	}
+
+}
@@ -9,10 +9,25 @@ import net.jqwik.engine.support.*;
 
 public class ShrinkableString extends ShrinkableContainer<String, Character> {
 
+	private String value;
+
 	public ShrinkableString(List<Shrinkable<Character>> elements, int minSize, int maxSize) {
 		super(elements, minSize, maxSize, Collections.emptySet());
 	}
 
+	// Strings are immutable. That's why the value can be created once.
+	@Override
+	public String value() {
+		if (value == null) {
+			char[] chars = new char[elements.size()];
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = elements.get(i).value();
+			}
+			value = new String(chars);
+		}
+		return value;
+	}
+
 	@Override
 	Collector<Character, ?, String> containerCollector() {
 		return new CharacterCollector();
@@ -8,7 +8,7 @@ import net.jqwik.api.lifecycle.*;
 
 class ShrinkingAlgorithm {
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache = new LinkedHashMap<>();
+	private final CandidateEvaluation candidateEvaluation;
 	private final FalsifiedSample originalSample;
 	private final Consumer<FalsifiedSample> sampleShrunkConsumer;
 	private final Consumer<FalsifiedSample> shrinkAttemptConsumer;
@@ -18,10 +18,19 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
+		this(originalSample, sampleShrunkConsumer, shrinkAttemptConsumer, new CandidateEvaluation(ignore -> {}));
+	}
 
+	ShrinkingAlgorithm(
+		FalsifiedSample originalSample,
+		Consumer<FalsifiedSample> sampleShrunkConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		CandidateEvaluation candidateEvaluation
+	) {
 		this.originalSample = originalSample;
 		this.sampleShrunkConsumer = sampleShrunkConsumer;
 		this.shrinkAttemptConsumer = shrinkAttemptConsumer;
+		this.candidateEvaluation = candidateEvaluation;
 	}
 
 	FalsifiedSample shrink(final Falsifier<List<Object>> falsifier) {
@@ -48,7 +57,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
+		return new OneAfterTheOtherParameterShrinker(candidateEvaluation)
 				   .shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
@@ -58,7 +67,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return new PairwiseParameterShrinker(candidateEvaluation).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 	private FalsifiedSample shrinkAndGrow(
@@ -67,7 +76,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new ShrinkAndGrowShrinker(falsificationCache).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return new ShrinkAndGrowShrinker(candidateEvaluation).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 }
@@ -18,7 +18,7 @@ public class ShrunkSampleRecreator {
 	}
 
 	public Optional<List<Shrinkable<Object>>> recreateFrom(List<TryExecutionResult.Status> shrinkingSequence) {
-		List<TryExecutionResult.Status> recreatingSequence = new ArrayList<>(shrinkingSequence);
+		Iterator<TryExecutionResult.Status> recreatingSequence = shrinkingSequence.iterator();
 		Falsifier<List<Object>> recreatingFalsifier = falsifier(recreatingSequence);
 
 		FalsifiedSample originalSample = createFalsifiedSample();
@@ -41,7 +41,7 @@ public class ShrunkSampleRecreator {
 			FalsifiedSample ignore = plainShrinker.shrink(recreatingFalsifier);
 		} catch (RecreationDone ignore) {}
 
-		if (recreatingSequence.isEmpty()) {
+		if (!recreatingSequence.hasNext()) {
 			return Optional.of(currentBest[0].shrinkables());
 		} else {
 			return Optional.empty();
@@ -58,10 +58,10 @@ public class ShrunkSampleRecreator {
 		);
 	}
 
-	private Falsifier<List<Object>> falsifier(List<TryExecutionResult.Status> recreatingSequence) {
+	private Falsifier<List<Object>> falsifier(Iterator<TryExecutionResult.Status> recreatingSequence) {
 		return ignore -> {
-			if (!recreatingSequence.isEmpty()) {
-				TryExecutionResult.Status next = recreatingSequence.remove(0);
+			if (recreatingSequence.hasNext()) {
+				TryExecutionResult.Status next = recreatingSequence.next();
 				switch (next) {
 					case SATISFIED:
 						return TryExecutionResult.satisfied();
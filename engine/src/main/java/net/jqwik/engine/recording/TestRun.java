@@ -1,16 +1,23 @@
 package net.jqwik.engine.recording;
 
 import java.io.*;
+import java.util.logging.*;
 
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
 import net.jqwik.engine.execution.*;
 
-public class TestRun implements Serializable {
+public class TestRun {
+
+	private static final Logger LOG = Logger.getLogger(TestRun.class.getName());
+
 	private final String uniqueIdString;
 	private final int statusOrdinal;
-	private final GenerationInfo generationInfo;
+
+	// Generation info read from the database is only decoded when it is needed
+	private GenerationInfo generationInfo;
+	private byte[] encodedGenerationInfo;
 
 	public TestRun(
 		UniqueId uniqueId,
@@ -22,8 +29,22 @@ public class TestRun implements Serializable {
 		this.generationInfo = generationInfo;
 	}
 
+	TestRun(String uniqueIdString, int statusOrdinal, byte[] encodedGenerationInfo) {
+		this.uniqueIdString = uniqueIdString;
+		this.statusOrdinal = statusOrdinal;
+		this.encodedGenerationInfo = encodedGenerationInfo;
+	}
+
+	String uniqueIdString() {
+		return uniqueIdString;
+	}
+
+	int statusOrdinal() {
+		return statusOrdinal;
+	}
+
 	boolean hasUniqueId(UniqueId uniqueId) {
-		return getUniqueId().equals(uniqueId);
+		return uniqueIdString.equals(uniqueId.toString());
 	}
 
 	public boolean isNotSuccessful() {
@@ -38,13 +59,36 @@ public class TestRun implements Serializable {
 		return Status.values()[statusOrdinal];
 	}
 
-	public GenerationInfo generationInfo() {
+	public synchronized GenerationInfo generationInfo() {
+		if (generationInfo == null) {
+			generationInfo = decodeGenerationInfo();
+			encodedGenerationInfo = null;
+		}
 		return generationInfo;
 	}
 
+	private GenerationInfo decodeGenerationInfo() {
+		try {
+			return GenerationInfo.readFrom(new DataInputStream(new ByteArrayInputStream(encodedGenerationInfo)));
+		} catch (IOException e) {
+			String message = String.format("Cannot read generation info of [%s]", uniqueIdString);
+			LOG.log(Level.WARNING, message, e);
+			return GenerationInfo.NULL;
+		}
+	}
+
+	synchronized byte[] encodedGenerationInfo() throws IOException {
+		if (encodedGenerationInfo != null) {
+			return encodedGenerationInfo;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		generationInfo.writeTo(new DataOutputStream(bytes));
+		return bytes.toByteArray();
+	}
+
 	@Override
 	public String toString() {
-		return String.format("TestRun[%s:%s:%s]", uniqueIdString, getStatus(), generationInfo);
+		return String.format("TestRun[%s:%s:%s]", uniqueIdString, getStatus(), generationInfo());
 	}
 
 }
@@ -7,37 +7,42 @@ import org.junit.platform.engine.*;
 
 import net.jqwik.engine.support.*;
 
+/**
+ * Test runs indexed by their unique id.
+ * A test run that is added later replaces an earlier one with the same unique id.
+ */
 public class TestRunData {
 
-	private final Collection<TestRun> data;
+	private final Map<String, TestRun> data = new LinkedHashMap<>();
 
 	public TestRunData(Collection<TestRun> data) {
-		this.data = data;
+		data.forEach(this::add);
 	}
 
 	public TestRunData() {
-		this(new LinkedHashSet<>());
 	}
 
 	public void add(TestRun testRun) {
-		data.add(testRun);
+		// Remove first so that iteration order reflects the latest addition
+		data.remove(testRun.uniqueIdString());
+		data.put(testRun.uniqueIdString(), testRun);
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
 		try {
-			return data.stream()
-					   .filter(testRun -> testRun.hasUniqueId(uniqueId))
-					   .findFirst();
+			return Optional.ofNullable(data.get(uniqueId.toString()));
 		} catch (Throwable t) {
 			// An exception during test run data read should not stop the test run.
-			// Most of the time it's an error due to format change which will go away
-			// after one test run where the test run data has been written anew.
 			JqwikExceptionSupport.rethrowIfBlacklisted(t);
 			return Optional.empty();
 		}
 	}
 
 	public Stream<TestRun> allNonSuccessfulTests() {
-		return data.stream().filter(TestRun::isNotSuccessful);
+		return data.values().stream().filter(TestRun::isNotSuccessful);
+	}
+
+	int size() {
+		return data.size();
 	}
 }
@@ -1,20 +1,52 @@
 package net.jqwik.engine.recording;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.logging.*;
 
+/**
+ * An append-only database of test runs that can be shared by several JVMs,
+ * e.g. parallel Gradle test forks or CI nodes working on a shared directory.
+ *
+ * <p>
+ * Failing runs are appended as soon as they are recorded.
+ * A successful run is only appended when it supersedes an earlier failure of the same property,
+ * so that failures of properties that are not executed in the current run are kept.
+ * Obsolete records are removed by compacting the file when there are too many of them.
+ * </p>
+ *
+ * <p>
+ * Every access to the file happens while holding a file lock.
+ * Compaction always re-reads the file so that records appended by other processes
+ * since this database has been loaded are merged instead of being overwritten.
+ * Before appending, a corrupted tail left by another process is cut off
+ * so that new records are not hidden behind it.
+ * </p>
+ *
+ * @see TestRunFormat
+ */
 public class TestRunDatabase {
 
 	// Only record failing test runs, the others are currently not needed anywhere
 	private static final Boolean RECORD_SUCCESSFUL_RUNS = false;
 
+	// Compaction only kicks in when there are more obsolete records than that
+	private static final int MIN_OBSOLETE_RECORDS_FOR_COMPACTION = 64;
+
+	// File locks are held on behalf of the whole JVM and must not overlap within it
+	private static final Object JVM_LOCK = new Object();
+
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
 	private final Path databasePath;
 	private final TestRunData previousRunData;
-	private boolean stopRecording = false;
+	private volatile boolean stopRecording = false;
+
+	// End of the valid records as last seen by this database. Guarded by JVM_LOCK.
+	private long knownValidLength = -1;
 
 	public TestRunDatabase(Path databasePath) {
 		this.databasePath = databasePath;
@@ -26,78 +58,171 @@ public class TestRunDatabase {
 			return new TestRunData();
 		}
 
-		try (ObjectInputStream ois = createObjectInputStream()) {
-			List<TestRun> data = readAllTestRuns(ois);
-			return new TestRunData(data);
+		try {
+			Content content = readSharedLocked();
+			if (content.corrupted) {
+				LOG.warning(() -> String.format(
+					"Database [%s] is corrupted. Only the first %s records are kept.",
+					databasePath.toAbsolutePath(),
+					content.testRuns.size()
+				));
+			}
+			return new TestRunData(content.testRuns);
 		} catch (Exception e) {
 			logReadException(e);
-			deleteDatabase();
 			return new TestRunData();
 		}
 	}
 
-	private void deleteDatabase() {
-		try {
-			Files.delete(databasePath);
-		} catch (IOException ignore) {
-		}
+	private void logReadException(Exception eof) {
+		LOG.log(Level.WARNING, eof, () -> String.format("Cannot read database [%s]", databasePath.toAbsolutePath()));
 	}
 
-	private List<TestRun> readAllTestRuns(ObjectInputStream ois) throws ClassNotFoundException {
-		List<TestRun> testRuns = new ArrayList<>();
-		while (true) {
-			try {
-				TestRun testRun = (TestRun) ois.readObject();
-				testRuns.add(testRun);
-			} catch (EOFException eof) {
-				break;
-			} catch (IOException eof) {
-				logReadException(eof);
-				deleteDatabase();
-				break;
+	private void logWriteException(Exception e) {
+		LOG.log(Level.WARNING, e, () -> String.format("Cannot write database [%s]", databasePath.toAbsolutePath()));
+	}
+
+	private Content readSharedLocked() throws IOException {
+		synchronized (JVM_LOCK) {
+			try (FileChannel channel = FileChannel.open(databasePath, StandardOpenOption.READ)) {
+				FileLock lock = channel.lock(0, Long.MAX_VALUE, true);
+				try {
+					return read(channel);
+				} finally {
+					lock.release();
+				}
 			}
 		}
-		return testRuns;
 	}
 
-	private void logReadException(Exception eof) {
-		LOG.log(Level.WARNING, eof, () -> String.format("Cannot read database [%s]", databasePath.toAbsolutePath()));
+	private Content read(FileChannel channel) throws IOException {
+		long size = channel.size();
+		channel.position(0);
+		// The stream is not closed because that would close the channel
+		DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+		Content content;
+		if (size < TestRunFormat.HEADER_LENGTH || !TestRunFormat.hasValidHeader(in)) {
+			// Empty files or files written in another format will be replaced
+			content = new Content(Collections.emptyList(), 0, false, true);
+		} else {
+			TestRunFormat.ReadResult readResult = TestRunFormat.readRecords(in, size);
+			content = new Content(readResult.testRuns, readResult.validLength, readResult.corrupted, readResult.corrupted);
+		}
+		knownValidLength = content.validLength;
+		return content;
 	}
 
-	private void logWriteException(Exception e) {
-		LOG.log(Level.WARNING, e, () -> String.format("Cannot write database [%s]", databasePath.toAbsolutePath()));
+	/**
+	 * Rewrite the database file with only the latest failures when it is corrupted,
+	 * in another format, or contains too many obsolete records.
+	 */
+	private void compactIfNecessary() throws IOException {
+		synchronized (JVM_LOCK) {
+			try (FileChannel channel = FileChannel.open(databasePath, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+				FileLock lock = channel.lock();
+				try {
+					Content content = read(channel);
+					TestRunData current = new TestRunData(content.testRuns);
+					List<TestRun> liveRuns = new ArrayList<>();
+					current.allNonSuccessfulTests().forEach(liveRuns::add);
+					if (!content.rewriteRequired && !tooManyObsoleteRecords(content.testRuns.size(), liveRuns.size())) {
+						return;
+					}
+					// Obsolete records are removed by rewriting the file in place
+					ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+					DataOutputStream out = new DataOutputStream(bytes);
+					TestRunFormat.writeHeader(out);
+					for (TestRun liveRun : liveRuns) {
+						TestRunFormat.writeRecord(out, liveRun);
+					}
+					// Writing before truncating makes an interrupted compaction look like a corrupted tail
+					writeFully(channel, 0, bytes.toByteArray());
+					channel.truncate(bytes.size());
+					channel.force(false);
+					knownValidLength = bytes.size();
+				} finally {
+					lock.release();
+				}
+			}
+		}
 	}
 
-	private ObjectOutputStream createObjectOutputStream() {
-		try {
-			return new ObjectOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
-		} catch (IOException e) {
-			stopRecording = true;
-			logWriteException(e);
-			return null;
+	private static boolean tooManyObsoleteRecords(int numberOfRecords, int liveRecords) {
+		int obsoleteRecords = numberOfRecords - liveRecords;
+		return obsoleteRecords > Math.max(MIN_OBSOLETE_RECORDS_FOR_COMPACTION, liveRecords);
+	}
+
+	private void append(byte[] record) throws IOException {
+		synchronized (JVM_LOCK) {
+			try (FileChannel channel = FileChannel.open(databasePath, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+				FileLock lock = channel.lock();
+				try {
+					long endOfRecords = endOfValidRecords(channel);
+					writeFully(channel, endOfRecords, record);
+					knownValidLength = endOfRecords + record.length;
+				} finally {
+					lock.release();
+				}
+			}
 		}
 	}
 
-	private ObjectInputStream createObjectInputStream() throws IOException {
-		return new ObjectInputStream(Files.newInputStream(databasePath, StandardOpenOption.CREATE));
+	/**
+	 * The file is only re-read if its size differs from what this database has seen last,
+	 * i.e. if another process has written to it in the meantime.
+	 */
+	private long endOfValidRecords(FileChannel channel) throws IOException {
+		long size = channel.size();
+		if (size == knownValidLength) {
+			return size;
+		}
+		long validLength = size == 0 ? 0 : read(channel).validLength;
+		if (validLength == 0) {
+			channel.truncate(0);
+			writeFully(channel, 0, TestRunFormat.header());
+			return TestRunFormat.HEADER_LENGTH;
+		}
+		if (validLength < size) {
+			LOG.warning(() -> String.format(
+				"Database [%s] has a corrupted tail. It is removed before appending.",
+				databasePath.toAbsolutePath()
+			));
+			channel.truncate(validLength);
+		}
+		return validLength;
 	}
 
-	private class Recorder implements TestRunRecorder {
+	private static void writeFully(FileChannel channel, long position, byte[] bytes) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
 
-		private final ObjectOutputStream objectOutputStream;
+	private static class Content {
+		private final List<TestRun> testRuns;
+		private final long validLength;
+		private final boolean corrupted;
+		private final boolean rewriteRequired;
 
-		private Recorder(ObjectOutputStream objectOutputStream) {
-			this.objectOutputStream = objectOutputStream;
+		private Content(List<TestRun> testRuns, long validLength, boolean corrupted, boolean rewriteRequired) {
+			this.testRuns = testRuns;
+			this.validLength = validLength;
+			this.corrupted = corrupted;
+			this.rewriteRequired = rewriteRequired;
 		}
+	}
+
+	private class Recorder implements TestRunRecorder {
 
 		@Override
-		public void record(TestRun testRun) {
+		public synchronized void record(TestRun testRun) {
 			if (stopRecording) {
 				return;
 			}
 			try {
-				if (testRun.isNotSuccessful() || RECORD_SUCCESSFUL_RUNS) {
-					objectOutputStream.writeObject(testRun);
+				if (shouldBeRecorded(testRun)) {
+					append(TestRunFormat.record(testRun));
 				}
 			} catch (IOException e) {
 				stopRecording = true;
@@ -105,13 +230,14 @@ public class TestRunDatabase {
 			}
 		}
 
-		@Override
-		public void close() {
-			try {
-				objectOutputStream.close();
-			} catch (IOException e) {
-				logWriteException(e);
+		private boolean shouldBeRecorded(TestRun testRun) {
+			if (testRun.isNotSuccessful() || RECORD_SUCCESSFUL_RUNS) {
+				return true;
 			}
+			// A successful run must supersede a previously recorded failure
+			return previousRunData.byUniqueId(testRun.getUniqueId())
+								  .map(TestRun::isNotSuccessful)
+								  .orElse(false);
 		}
 
 	}
@@ -121,6 +247,12 @@ public class TestRunDatabase {
 	}
 
 	public TestRunRecorder recorder() {
-		return new Recorder(createObjectOutputStream());
+		try {
+			compactIfNecessary();
+		} catch (IOException e) {
+			stopRecording = true;
+			logWriteException(e);
+		}
+		return new Recorder();
 	}
 }
@@ -0,0 +1,158 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.zip.*;
+
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+
+/**
+ * Binary format of jqwik's test run database.
+ *
+ * <p>
+ * A database file starts with a header consisting of the magic bytes {@code JQDB} and a format version.
+ * It is followed by any number of records, each of which is made up of
+ * the payload's length, the payload itself and a CRC32 checksum of the payload.
+ * The payload contains a test run's unique id, its status and its encoded generation info.
+ * </p>
+ *
+ * <p>
+ * Since records are only ever appended, a crash or a concurrent write can at most
+ * corrupt the file's tail. Reading stops at the first incomplete or corrupted record
+ * so that all records before it are kept.
+ * </p>
+ */
+class TestRunFormat {
+
+	private static final byte[] MAGIC = "JQDB".getBytes(StandardCharsets.US_ASCII);
+	// Files written in another version are replaced as a whole.
+	// Version 1 stored shrinking sequences with two bits per status.
+	// Version 2 stored generation indexes as int.
+	private static final byte VERSION = 3;
+
+	static final int HEADER_LENGTH = MAGIC.length + 1;
+
+	// Length of payload and checksum
+	private static final int RECORD_OVERHEAD = 8;
+
+	// Guards against allocating huge buffers when reading a corrupted length
+	private static final int MAX_PAYLOAD_LENGTH = 16 * 1024 * 1024;
+
+	static class ReadResult {
+		final List<TestRun> testRuns;
+		final long validLength;
+		final boolean corrupted;
+
+		private ReadResult(List<TestRun> testRuns, long validLength, boolean corrupted) {
+			this.testRuns = testRuns;
+			this.validLength = validLength;
+			this.corrupted = corrupted;
+		}
+	}
+
+	private TestRunFormat() {
+	}
+
+	static void writeHeader(DataOutput out) throws IOException {
+		out.write(header());
+	}
+
+	static boolean hasValidHeader(DataInput in) throws IOException {
+		byte[] magic = new byte[MAGIC.length];
+		try {
+			in.readFully(magic);
+			return Arrays.equals(magic, MAGIC) && in.readByte() == VERSION;
+		} catch (EOFException eof) {
+			return false;
+		}
+	}
+
+	static byte[] header() {
+		byte[] header = Arrays.copyOf(MAGIC, HEADER_LENGTH);
+		header[MAGIC.length] = VERSION;
+		return header;
+	}
+
+	static void writeRecord(DataOutput out, TestRun testRun) throws IOException {
+		out.write(record(testRun));
+	}
+
+	/**
+	 * A complete record so that it can be appended to a file with a single write.
+	 */
+	static byte[] record(TestRun testRun) throws IOException {
+		byte[] payload = encode(testRun);
+		CRC32 crc = new CRC32();
+		crc.update(payload, 0, payload.length);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + RECORD_OVERHEAD);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(payload.length);
+		out.write(payload);
+		out.writeInt((int) crc.getValue());
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Read all records after the header of a file with {@code fileSize} bytes.
+	 * Reading stops at the first record that is incomplete or has a wrong checksum.
+	 * The result's valid length is the file position after the last valid record.
+	 */
+	static ReadResult readRecords(DataInput in, long fileSize) throws IOException {
+		List<TestRun> testRuns = new ArrayList<>();
+		long position = HEADER_LENGTH;
+		while (position < fileSize) {
+			if (fileSize - position < RECORD_OVERHEAD) {
+				return new ReadResult(testRuns, position, true);
+			}
+			int length = in.readInt();
+			if (length < 0 || length > MAX_PAYLOAD_LENGTH || length > fileSize - position - RECORD_OVERHEAD) {
+				return new ReadResult(testRuns, position, true);
+			}
+			byte[] payload = new byte[length];
+			in.readFully(payload);
+			int checksum = in.readInt();
+			CRC32 crc = new CRC32();
+			crc.update(payload, 0, payload.length);
+			if ((int) crc.getValue() != checksum) {
+				return new ReadResult(testRuns, position, true);
+			}
+			try {
+				testRuns.add(decode(payload));
+			} catch (IOException decodingFailed) {
+				return new ReadResult(testRuns, position, true);
+			}
+			position += RECORD_OVERHEAD + length;
+		}
+		return new ReadResult(testRuns, position, false);
+	}
+
+	private static byte[] encode(TestRun testRun) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		byte[] uniqueId = testRun.uniqueIdString().getBytes(StandardCharsets.UTF_8);
+		out.writeInt(uniqueId.length);
+		out.write(uniqueId);
+		out.writeByte(testRun.statusOrdinal());
+		out.write(testRun.encodedGenerationInfo());
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private static TestRun decode(byte[] payload) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		int uniqueIdLength = in.readInt();
+		if (uniqueIdLength < 0 || uniqueIdLength > payload.length) {
+			throw new IOException(String.format("Illegal unique id length: %s", uniqueIdLength));
+		}
+		byte[] uniqueId = new byte[uniqueIdLength];
+		in.readFully(uniqueId);
+		int statusOrdinal = in.readUnsignedByte();
+		if (statusOrdinal >= Status.values().length) {
+			throw new IOException(String.format("Illegal status: %s", statusOrdinal));
+		}
+		byte[] encodedGenerationInfo = new byte[in.available()];
+		in.readFully(encodedGenerationInfo);
+		return new TestRun(new String(uniqueId, StandardCharsets.UTF_8), statusOrdinal, encodedGenerationInfo);
+	}
+}
@@ -0,0 +1,270 @@
+package net.jqwik.engine.support;
+
+import java.lang.annotation.*;
+import java.lang.invoke.*;
+import java.util.*;
+import java.util.logging.*;
+
+import static java.lang.invoke.MethodType.*;
+import static java.util.Arrays.*;
+
+/**
+ * Custom Java Flight Recorder events emitted by jqwik when configuration parameter
+ * {@code jqwik.jfr.enabled} is set to {@code true}.
+ *
+ * <p>
+ * Since jqwik is compiled for Java 8, which does not have the {@code jdk.jfr} module,
+ * event types are created dynamically through {@code jdk.jfr.EventFactory} using method handles.
+ * When disabled {@linkplain EventType#begin()} returns a no-op event without touching any JFR class.
+ * Call sites commit an event only if {@linkplain Event#shouldCommit()} returns true
+ * so that its values are not computed and boxed when events are disabled or not recorded.
+ * </p>
+ */
+public class FlightRecorderEvents {
+
+	private static final Logger LOG = Logger.getLogger(FlightRecorderEvents.class.getName());
+
+	public static final EventType PROPERTY = new EventType(
+		"net.jqwik.Property", "Property", "Execution of a property including shrinking",
+		new Field(String.class, "property", "Property"),
+		new Field(String.class, "status", "Status"),
+		new Field(long.class, "tries", "Tries"),
+		new Field(long.class, "checks", "Checks")
+	);
+
+	public static final EventType TRY = new EventType(
+		"net.jqwik.Try", "Try", "Execution of a single try of a property",
+		new Field(String.class, "property", "Property"),
+		new Field(String.class, "status", "Status")
+	);
+
+	public static final EventType SHRINKING_STEP = new EventType(
+		"net.jqwik.ShrinkingStep", "Shrinking Step", "Search for a smaller falsified sample",
+		new Field(String.class, "distance", "Shrinking Distance")
+	);
+
+	public static final EventType FILTER_MISSES = new EventType(
+		"net.jqwik.FilterMisses", "Filter Misses", "Generation of values rejected by a filter",
+		new Field(String.class, "generator", "Filtered Generator"),
+		new Field(int.class, "misses", "Misses")
+	);
+
+	private static final List<EventType> ALL_TYPES = asList(PROPERTY, TRY, SHRINKING_STEP, FILTER_MISSES);
+
+	// Only changed before properties are executed
+	private static boolean enabled = false;
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static synchronized void enable(boolean enable) {
+		if (!enable || enabled) {
+			enabled = enable;
+			return;
+		}
+		try {
+			for (EventType type : ALL_TYPES) {
+				type.register();
+			}
+			enabled = true;
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			String message = String.format(
+				"Java Flight Recorder events cannot be enabled in this JVM: %s",
+				throwable
+			);
+			LOG.warning(message);
+		}
+	}
+
+	public interface Event {
+
+		Event NONE = new Event() {
+			@Override
+			public boolean shouldCommit() {
+				return false;
+			}
+
+			@Override
+			public void commit(Object... values) {
+			}
+		};
+
+		/**
+		 * End the event and check if it would be recorded at all.
+		 * Call sites should only compute the event's values and commit it if this returns true.
+		 */
+		boolean shouldCommit();
+
+		/**
+		 * Commit an event with values for all fields of its type in declaration order.
+		 * Values of String fields can be any objects, they are only converted when the event is committed.
+		 */
+		void commit(Object... values);
+	}
+
+	public static class EventType {
+
+		private final String name;
+		private final String label;
+		private final String description;
+		private final List<Field> fields;
+
+		private volatile Object factory;
+
+		private EventType(String name, String label, String description, Field... fields) {
+			this.name = name;
+			this.label = label;
+			this.description = description;
+			this.fields = asList(fields);
+		}
+
+		public Event begin() {
+			if (!enabled) {
+				return Event.NONE;
+			}
+			try {
+				Object event = (Object) Jfr.NEW_EVENT.invokeExact(factory);
+				Jfr.BEGIN.invokeExact(event);
+				return new JfrEvent(event, fields);
+			} catch (Throwable throwable) {
+				return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+			}
+		}
+
+		private void register() throws Throwable {
+			if (factory != null) {
+				return;
+			}
+			List<Object> annotations = asList(
+				Jfr.annotation("jdk.jfr.Name", name),
+				Jfr.annotation("jdk.jfr.Label", label),
+				Jfr.annotation("jdk.jfr.Description", description),
+				Jfr.annotation("jdk.jfr.Category", new String[]{"jqwik"}),
+				// Stack traces would only show jqwik's invocation of the JFR API
+				Jfr.annotation("jdk.jfr.StackTrace", false)
+			);
+			List<Object> valueDescriptors = new ArrayList<>();
+			for (Field field : fields) {
+				valueDescriptors.add(Jfr.valueDescriptor(field));
+			}
+			this.factory = (Object) Jfr.CREATE_FACTORY.invokeExact((List) annotations, (List) valueDescriptors);
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private static class JfrEvent implements Event {
+		private final Object event;
+		private final List<Field> fields;
+
+		private JfrEvent(Object event, List<Field> fields) {
+			this.event = event;
+			this.fields = fields;
+		}
+
+		@Override
+		public boolean shouldCommit() {
+			try {
+				Jfr.END.invokeExact(event);
+				return (boolean) Jfr.SHOULD_COMMIT.invokeExact(event);
+			} catch (Throwable throwable) {
+				return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+			}
+		}
+
+		@Override
+		public void commit(Object... values) {
+			try {
+				for (int i = 0; i < fields.size(); i++) {
+					Jfr.SET.invokeExact(event, i, fields.get(i).convert(values[i]));
+				}
+				Jfr.COMMIT.invokeExact(event);
+			} catch (Throwable throwable) {
+				JqwikExceptionSupport.throwAsUncheckedException(throwable);
+			}
+		}
+	}
+
+	private static class Field {
+		private final Class<?> type;
+		private final String name;
+		private final String label;
+
+		private Field(Class<?> type, String name, String label) {
+			this.type = type;
+			this.name = name;
+			this.label = label;
+		}
+
+		private Object convert(Object value) {
+			if (type == String.class) {
+				return value == null ? null : value.toString();
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Method handles of the JFR API, which are only looked up when events are enabled.
+	 * Initialization fails if the JVM does not have the {@code jdk.jfr} module.
+	 */
+	private static class Jfr {
+		private static final MethodHandle ANNOTATION_ELEMENT;
+		private static final MethodHandle VALUE_DESCRIPTOR;
+		private static final MethodHandle CREATE_FACTORY;
+		private static final MethodHandle NEW_EVENT;
+		private static final MethodHandle BEGIN;
+		private static final MethodHandle END;
+		private static final MethodHandle SHOULD_COMMIT;
+		private static final MethodHandle SET;
+		private static final MethodHandle COMMIT;
+
+		static {
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+				Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+				Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+				Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+				Class<?> eventClass = Class.forName("jdk.jfr.Event");
+				ANNOTATION_ELEMENT = lookup.findConstructor(annotationElementClass, methodType(void.class, Class.class, Object.class))
+										   .asType(methodType(Object.class, Class.class, Object.class));
+				VALUE_DESCRIPTOR = lookup.findConstructor(valueDescriptorClass, methodType(void.class, Class.class, String.class, List.class))
+										 .asType(methodType(Object.class, Class.class, String.class, List.class));
+				CREATE_FACTORY = lookup.findStatic(eventFactoryClass, "create", methodType(eventFactoryClass, List.class, List.class))
+									   .asType(methodType(Object.class, List.class, List.class));
+				NEW_EVENT = lookup.findVirtual(eventFactoryClass, "newEvent", methodType(eventClass))
+								  .asType(methodType(Object.class, Object.class));
+				BEGIN = lookup.findVirtual(eventClass, "begin", methodType(void.class))
+							  .asType(methodType(void.class, Object.class));
+				END = lookup.findVirtual(eventClass, "end", methodType(void.class))
+							.asType(methodType(void.class, Object.class));
+				SHOULD_COMMIT = lookup.findVirtual(eventClass, "shouldCommit", methodType(boolean.class))
+									  .asType(methodType(boolean.class, Object.class));
+				SET = lookup.findVirtual(eventClass, "set", methodType(void.class, int.class, Object.class))
+							.asType(methodType(void.class, Object.class, int.class, Object.class));
+				COMMIT = lookup.findVirtual(eventClass, "commit", methodType(void.class))
+							   .asType(methodType(void.class, Object.class));
+			} catch (ReflectiveOperationException exception) {
+				throw new ExceptionInInitializerError(exception);
+			}
+		}
+
+		private static Object annotation(String annotationClassName, Object value) throws Throwable {
+			Class<?> annotationType = Class.forName(annotationClassName);
+			if (!Annotation.class.isAssignableFrom(annotationType)) {
+				throw new IllegalArgumentException(annotationClassName + " is not an annotation");
+			}
+			return (Object) ANNOTATION_ELEMENT.invokeExact(annotationType, value);
+		}
+
+		private static Object valueDescriptor(Field field) throws Throwable {
+			List<Object> annotations = Collections.singletonList(annotation("jdk.jfr.Label", field.label));
+			return (Object) VALUE_DESCRIPTOR.invokeExact(field.type, field.name, (List) annotations);
+		}
+	}
+}
@@ -53,7 +53,7 @@ public class JqwikReflectionSupport {
 				   });
 	}
 
-	private static <T extends AccessibleObject> T makeAccessible(T object) {
+	public static <T extends AccessibleObject> T makeAccessible(T object) {
 		if (!object.isAccessible()) {
 			object.setAccessible(true);
 		}
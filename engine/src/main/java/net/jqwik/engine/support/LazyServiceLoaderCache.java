@@ -8,7 +8,7 @@ public class LazyServiceLoaderCache<S> {
 	private static final Logger LOG = Logger.getLogger(LazyServiceLoaderCache.class.getName());
 
 	private final Class<S> clz;
-	private List<S> services;
+	private volatile List<S> services;
 
 	public LazyServiceLoaderCache(Class<S> clz) {
 		this.clz = clz;
@@ -21,11 +21,15 @@ public class LazyServiceLoaderCache<S> {
 		return services;
 	}
 
+	// Services are only published when fully loaded since properties can be executed concurrently
 	private synchronized void loadServices() {
-		services = new CopyOnWriteArrayList<>();
+		if (services != null) {
+			return;
+		}
+		List<S> loadedServices = new CopyOnWriteArrayList<>();
 		try {
 			for (S s : ServiceLoader.load(clz)) {
-				services.add(s);
+				loadedServices.add(s);
 			}
 		} catch (ServiceConfigurationError serviceConfigurationError) {
 			String message = String.format(
@@ -35,5 +39,6 @@ public class LazyServiceLoaderCache<S> {
 			);
 			LOG.log(Level.SEVERE, message);
 		}
+		services = loadedServices;
 	}
 }
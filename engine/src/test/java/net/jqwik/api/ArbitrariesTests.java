@@ -220,6 +220,47 @@ class ArbitrariesTests {
 			assertThat(valueA.nextLong()).isEqualTo(valueB.nextLong());
 		}
 
+		@Example
+		void cacheableArbitrariesShareGeneratorsAcrossProperties() {
+			Combinators.F2<String, Integer, String> combinator = (s, i) -> s + i;
+			Arbitrary<String> arbitrary1 = Combinators.combine(Arbitraries.strings().alpha(), Arbitraries.integers()).as(combinator);
+			Arbitrary<String> arbitrary2 = Combinators.combine(Arbitraries.strings().alpha(), Arbitraries.integers()).as(combinator);
+			assertThat(arbitrary1.isGeneratorCacheable()).isTrue();
+
+			long hitsBefore = Memoize.sharedGenerators().hits();
+			RandomGenerator<String> gen1 = Memoize.memoizedGenerator(arbitrary1, 1000, true, () -> arbitrary1.generator(1000, true));
+			RandomGenerator<String> gen2 = Memoize.memoizedGenerator(arbitrary2, 1000, true, () -> arbitrary2.generator(1000, true));
+
+			assertThat(gen1).isSameAs(gen2);
+			assertThat(Memoize.sharedGenerators().hits()).isGreaterThan(hitsBefore);
+		}
+
+		@Example
+		void onlyStatelessBuiltInArbitrariesAreCacheable() {
+			assertThat(Arbitraries.integers().isGeneratorCacheable()).isTrue();
+			assertThat(Arbitraries.doubles().isGeneratorCacheable()).isTrue();
+			assertThat(Arbitraries.chars().isGeneratorCacheable()).isTrue();
+			assertThat(Arbitraries.of("a", "b").isGeneratorCacheable()).isTrue();
+
+			assertThat(Arbitraries.fromGenerator(random -> Shrinkable.unshrinkable(1)).isGeneratorCacheable()).isFalse();
+			assertThat(Functions.function(Function.class).returning(Arbitraries.integers()).isGeneratorCacheable()).isFalse();
+		}
+
+		@Example
+		void arbitrariesCombiningNonCacheableArbitrariesAreNotCacheable() {
+			Arbitrary<Integer> recursive = Arbitraries.recursive(() -> Arbitraries.just(1), a -> a.map(i -> i + 1), 3);
+			assertThat(recursive.isGeneratorCacheable()).isFalse();
+			assertThat(recursive.isGeneratorMemoizable()).isTrue();
+
+			assertThat(Combinators.combine(Arbitraries.integers(), recursive).as(Integer::sum).isGeneratorCacheable()).isFalse();
+			assertThat(Arbitraries.oneOf(Arrays.asList(Arbitraries.integers(), recursive)).isGeneratorCacheable()).isFalse();
+			assertThat(recursive.list().isGeneratorCacheable()).isFalse();
+			assertThat(recursive.map(i -> i * 2).isGeneratorCacheable()).isFalse();
+			assertThat(Arbitraries.integers().injectDuplicates(0.5).isGeneratorCacheable()).isFalse();
+			assertThat(Arbitraries.strings().repeatChars(0.5).isGeneratorCacheable()).isFalse();
+			assertThat(Arbitraries.strings().repeatChars(0.5).isGeneratorMemoizable()).isTrue();
+		}
+
 	}
 
 	@Group
@@ -8,6 +8,7 @@ import net.jqwik.api.constraints.*;
 import net.jqwik.api.edgeCases.*;
 import net.jqwik.api.statistics.*;
 import net.jqwik.engine.properties.arbitraries.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -31,6 +32,14 @@ class ArrayArbitraryTests {
 		});
 	}
 
+	@Example
+	void arraysOfDifferentComponentTypesAreNotEqual() {
+		Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(1, 10);
+
+		assertThat(integerArbitrary.array(Integer[].class)).isEqualTo(integerArbitrary.array(Integer[].class));
+		assertThat(integerArbitrary.array(Integer[].class)).isNotEqualTo(integerArbitrary.array(Object[].class));
+	}
+
 	@Example
 	void arrayOfSupertype(@ForAll Random random) {
 		Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(1, 10);
@@ -116,6 +125,50 @@ class ArrayArbitraryTests {
 		assertThat(actual).isSubsetOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
 	}
 
+	@Example
+	void arrayOfPrimitiveIntegralTypeIsGeneratedWithoutElementShrinkables(@ForAll Random random) {
+		ArrayArbitrary<Integer, int[]> arrayArbitrary =
+			Arbitraries.integers().between(-100, 100).array(int[].class).ofMinSize(1).ofMaxSize(20);
+
+		RandomGenerator<int[]> generator = arrayArbitrary.generator(1000, true);
+
+		assertThat(generator.next(random)).isInstanceOf(ShrinkableIntegralArray.class);
+		assertAllGenerated(generator, random, array -> {
+			assertThat(array.length).isBetween(1, 20);
+			assertThat(IntStream.of(array).allMatch(i -> i >= -100 && i <= 100)).isTrue();
+		});
+		TestingSupport.checkAtLeastOneGenerated(generator, random, array -> IntStream.of(array).anyMatch(i -> i == -100));
+		TestingSupport.checkAtLeastOneGenerated(generator, random, array -> IntStream.of(array).anyMatch(i -> i == 100));
+	}
+
+	@Example
+	void arrayOfBytesOverFullRange(@ForAll Random random) {
+		ArrayArbitrary<Byte, byte[]> arrayArbitrary =
+			Arbitraries.bytes().withDistribution(RandomDistribution.uniform())
+					   .array(byte[].class).ofSize(100);
+
+		RandomGenerator<byte[]> generator = arrayArbitrary.generator(1000, false);
+
+		assertAllGenerated(generator, random, array -> {
+			assertThat(array).hasSize(100);
+		});
+		TestingSupport.checkAtLeastOneGenerated(generator, random, array -> contains(array, Byte.MIN_VALUE));
+		TestingSupport.checkAtLeastOneGenerated(generator, random, array -> contains(array, Byte.MAX_VALUE));
+	}
+
+	@Example
+	void arrayOfPrimitiveIntegralTypeWithUniquenessUsesElementShrinkables(@ForAll Random random) {
+		ArrayArbitrary<Long, long[]> arrayArbitrary =
+			Arbitraries.longs().between(1, 100).array(long[].class).ofMaxSize(10).uniqueElements();
+
+		RandomGenerator<long[]> generator = arrayArbitrary.generator(1000, true);
+
+		assertThat(generator.next(random)).isNotInstanceOf(ShrinkableIntegralArray.class);
+		assertAllGenerated(generator, random, array -> {
+			assertThat(LongStream.of(array).distinct().count()).isEqualTo(array.length);
+		});
+	}
+
 	@Example
 	void uniquenessConstraint(@ForAll Random random) {
 		ArrayArbitrary<Integer, Integer[]> listArbitrary =
@@ -182,6 +235,15 @@ class ArrayArbitraryTests {
 		}
 	}
 
+	private static boolean contains(byte[] array, byte value) {
+		for (byte b : array) {
+			if (b == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean isUniqueModulo(Integer[] array, int modulo) {
 		List<Integer> list = Arrays.asList(array);
 		List<Integer> modulo100 = list.stream().map(i -> {
@@ -281,6 +343,14 @@ class ArrayArbitraryTests {
 			assertThat(value).allMatch(i -> i <= min);
 		}
 
+
+		@Property
+		void shrinkPrimitiveArrayToMinimalFalsifyingElements(@ForAll Random random) {
+			ArrayArbitrary<Integer, int[]> arrays = Arbitraries.integers().between(-1000, 1000).array(int[].class).ofMaxSize(50);
+			TestingFalsifier<int[]> falsifier = array -> IntStream.of(array).noneMatch(i -> i >= 10);
+			int[] value = falsifyThenShrink(arrays, random, falsifier);
+			assertThat(value).containsExactly(10);
+		}
 	}
 
 }
\ No newline at end of file
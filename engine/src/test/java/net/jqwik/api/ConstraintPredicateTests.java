@@ -0,0 +1,141 @@
+package net.jqwik.api;
+
+import java.util.*;
+
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.arbitraries.ConstraintPredicate.*;
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingSupport.*;
+
+@Group
+@Label("ConstraintPredicate")
+class ConstraintPredicateTests {
+
+	@Example
+	void predicatesCanBeUsedAsPlainPredicates() {
+		assertThat(ConstraintPredicate.<Integer>between(1, 10).test(10)).isTrue();
+		assertThat(ConstraintPredicate.<Integer>between(1, 10).test(11)).isFalse();
+		assertThat(ConstraintPredicate.<Long>modulo(3, 2).test(-1L)).isTrue();
+		assertThat(ConstraintPredicate.<Long>modulo(3, 2).test(1L)).isFalse();
+		assertThat(ConstraintPredicate.<String>lengthBetween(1, 2).and(s -> s.startsWith("a")).test("ab")).isTrue();
+		assertThat(ConstraintPredicate.<String>charsBetween('a', 'c').test("abcd")).isFalse();
+		assertThat(ConstraintPredicate.<String>onlyChars('x', 'y').test("xyx")).isTrue();
+	}
+
+	@Example
+	void invalidConstraints() {
+		assertThatThrownBy(() -> divisibleBy(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> modulo(3, 3)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> between(2, 1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> lengthBetween(-1, 1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Group
+	class Integers {
+
+		@Example
+		void rareMultiplesAreGeneratedWithoutFilterMisses(@ForAll Random random) {
+			Arbitrary<Integer> multiples = Arbitraries.integers().filter(divisibleBy(1_000_000));
+
+			checkAllGenerated(multiples, random, i -> i % 1_000_000 == 0);
+		}
+
+		@Example
+		void rangeAndModuloAreCombined(@ForAll Random random) {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-100, 100)
+													  .filter(ConstraintPredicate.<Integer>modulo(7, 3).and(between(0, 1000)));
+
+			checkAllGenerated(arbitrary, random, i -> i >= 0 && i <= 100 && i % 7 == 3);
+		}
+
+		@Example
+		void opaquePartsAreStillFiltered(@ForAll Random random) {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers()
+													  .filter(ConstraintPredicate.<Integer>divisibleBy(10).and(i -> i > 0));
+
+			checkAllGenerated(arbitrary, random, i -> i > 0 && i % 10 == 0);
+		}
+
+		@Example
+		void multiplesShrinkTowardsTarget(@ForAll Random random) {
+			Arbitrary<Integer> multiples = Arbitraries.integers().filter(divisibleBy(1000));
+
+			TestingFalsifier<Integer> lessThan5000 = i -> i < 5000;
+			Integer shrunkValue = falsifyThenShrink(multiples, random, lessThan5000);
+			assertThat(shrunkValue).isEqualTo(5000);
+		}
+
+		@Example
+		void exhaustiveGenerationOfMultiples() {
+			Arbitrary<Integer> multiples = Arbitraries.integers().between(1, 20).filter(divisibleBy(5));
+
+			Optional<ExhaustiveGenerator<Integer>> generator = multiples.exhaustive();
+			assertThat(generator).isPresent();
+			assertThat(generator.get()).containsExactly(5, 10, 15, 20);
+		}
+
+		@Example
+		void unsatisfiableConstraintsFailAsFilter(@ForAll Random random) {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(1, 9).filter(divisibleBy(10));
+
+			assertThatThrownBy(() -> generateFirst(arbitrary, random)).isInstanceOf(TooManyFilterMissesException.class);
+		}
+	}
+
+	@Group
+	class Longs {
+
+		@Example
+		void extremeMultiplesDoNotOverflow(@ForAll Random random) {
+			long divisor = Long.MAX_VALUE / 3;
+			Arbitrary<Long> arbitrary = Arbitraries.longs().filter(modulo(divisor, 1));
+
+			checkAllGenerated(arbitrary, random, l -> Math.floorMod(l, divisor) == 1);
+		}
+	}
+
+	@Group
+	class Strings {
+
+		@Example
+		void lengthIsGeneratedDirectly(@ForAll Random random) {
+			Arbitrary<String> arbitrary = Arbitraries.strings().ofMaxLength(100).filter(lengthBetween(50, 200));
+
+			checkAllGenerated(arbitrary, random, s -> s.length() >= 50 && s.length() <= 100);
+		}
+
+		@Example
+		void charRangeOfDefaultCharsIsGeneratedDirectly(@ForAll Random random) {
+			Arbitrary<String> arbitrary = Arbitraries.strings().ofLength(20).filter(charsBetween('a', 'c'));
+
+			checkAllGenerated(arbitrary, random, s -> s.length() == 20 && s.chars().allMatch(c -> c >= 'a' && c <= 'c'));
+		}
+
+		@Example
+		void onlyCharsAreIntersectedWithConfiguredChars(@ForAll Random random) {
+			Arbitrary<String> arbitrary = Arbitraries.strings().alpha().ofLength(10)
+													 .filter(ConstraintPredicate.<String>onlyChars('a', 'b', '1').and(charsBetween('b', 'z')));
+
+			assertAllGenerated(arbitrary, random, s -> assertThat(s).matches("b{10}"));
+		}
+
+		@Example
+		void constrainedStringsShrinkWithinConstraints(@ForAll Random random) {
+			Arbitrary<String> arbitrary = Arbitraries.strings().filter(ConstraintPredicate.<String>lengthBetween(3, 5).and(charsBetween('x', 'z')));
+
+			String shrunkValue = falsifyThenShrink(arbitrary, random);
+			assertThat(shrunkValue).isEqualTo("xxx");
+		}
+
+		@Example
+		void edgeCasesSatisfyConstraints() {
+			Arbitrary<String> arbitrary = Arbitraries.strings().filter(ConstraintPredicate.<String>lengthBetween(1, 5).and(charsBetween('x', 'z')));
+
+			assertThat(collectEdgeCaseValues(arbitrary.edgeCases())).allMatch(s -> s.matches("[x-z]{1,5}"));
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package net.jqwik.api;
 
+import java.lang.reflect.*;
 import java.util.*;
 import java.util.function.*;
 
@@ -129,6 +130,69 @@ class FunctionsTests {
 		assertThat(function.hello()).isEqualTo("hello");
 	}
 
+	@Example
+	void functions_of_public_functional_types_are_not_proxies(@ForAll Random random) {
+		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 10);
+		Arbitrary<Function<String, Integer>> functions =
+			Functions.function(Function.class).returning(integers);
+
+		checkAtLeastOneGenerated(
+			functions.generator(10, true),
+			random,
+			function -> !Proxy.isProxyClass(function.getClass())
+		);
+	}
+
+	@Example
+	void functions_with_primitive_parameters_and_result(@ForAll Random random) {
+		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 10);
+		Arbitrary<IntBinaryOperator> functions =
+			Functions.function(IntBinaryOperator.class).returning(integers);
+
+		assertAllGenerated(
+			functions.generator(10, true),
+			random,
+			function -> {
+				int result = function.applyAsInt(3, 4);
+				assertThat(result).isBetween(1, 10);
+				assertThat(function.applyAsInt(3, 4)).isEqualTo(result);
+			}
+		);
+
+		Arbitrary<Double> doubles = Arbitraries.doubles().between(1, 10);
+		Arbitrary<DoubleBinaryOperator> doubleFunctions =
+			Functions.function(DoubleBinaryOperator.class).returning(doubles);
+		assertAllGenerated(
+			doubleFunctions.generator(10, true),
+			random,
+			function -> assertThat(function.applyAsDouble(1.5, 2.5)).isBetween(1.0, 10.0)
+		);
+
+		Arbitrary<ObjLongConsumer<String>> consumers =
+			Functions.function(ObjLongConsumer.class).returning(Arbitraries.nothing());
+		assertAllGenerated(
+			consumers.generator(10, true),
+			random,
+			consumer -> consumer.accept("any", Long.MAX_VALUE)
+		);
+	}
+
+	@Example
+	void memoized_functions_return_same_result_instance(@ForAll Random random) {
+		Arbitrary<List<Integer>> lists = Arbitraries.integers().list().ofMinSize(1);
+		Arbitrary<Function<String, List<Integer>>> functions =
+			Functions.function(Function.class).returning(lists).memoizeResults();
+
+		assertAllGenerated(
+			functions.generator(10, true),
+			random,
+			function -> {
+				assertThat(function.apply("a")).isSameAs(function.apply("a"));
+				assertThat(function.apply(null)).isSameAs(function.apply(null));
+			}
+		);
+	}
+
 	@Example
 	void null_value_is_accepted_as_input(@ForAll Random random) {
 		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 10);
@@ -18,6 +18,7 @@ import org.junit.platform.engine.reporting.*;
 import org.junit.platform.testkit.engine.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.facades.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 import net.jqwik.testing.*;
@@ -68,6 +69,16 @@ class JqwikIntegrationTests {
 			public boolean reportOnlyFailures() {
 				return reportOnlyFailures;
 			}
+
+			@Override
+			public int executionParallelism() {
+				return 1;
+			}
+
+			@Override
+			public boolean flightRecorderEvents() {
+				return false;
+			}
 		};
 	}
 
@@ -192,6 +203,20 @@ class JqwikIntegrationTests {
 		);
 	}
 
+	@Example
+	void sharedGeneratorsAreClearedWhenTestRunFinishes() {
+		Arbitrary<Integer> integers = Arbitraries.integers();
+		Memoize.memoizedGenerator(integers, 1000, false, () -> integers.generator(1000));
+		Assertions.assertThat(Memoize.sharedGenerators().size()).isPositive();
+
+		EngineTestKit
+			.engine(createDefaultTestEngine())
+			.selectors(selectMethod(SimpleExampleTests.class, "succeeding"))
+			.execute();
+
+		Assertions.assertThat(Memoize.sharedGenerators().size()).isZero();
+	}
+
 	@Example
 	void runMixedExamples() {
 
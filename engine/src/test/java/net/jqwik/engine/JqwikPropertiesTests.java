@@ -52,5 +52,11 @@ class JqwikPropertiesTests {
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
 
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
+
+		assertThat(properties.executionParallelism()).isEqualTo(1);
+
+		assertThat(properties.defaultTimeBudgetSeconds()).isEqualTo(0);
+
+		assertThat(properties.flightRecorderEvents()).isEqualTo(false);
 	}
 }
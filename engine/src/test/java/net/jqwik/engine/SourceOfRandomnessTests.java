@@ -0,0 +1,57 @@
+package net.jqwik.engine;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceOfRandomnessTests {
+
+	@Property(tries = 20)
+	void derivedRandomCanBeRecreatedFromSeedAndIndex(@ForAll long seed, @ForAll long index) {
+		Random random = SourceOfRandomness.deriveRandom(seed, index);
+		Random recreated = SourceOfRandomness.deriveRandom(seed, index);
+
+		assertThat(longs(recreated)).isEqualTo(longs(random));
+	}
+
+	@Property(tries = 20)
+	void derivedRandomsOfDifferentIndicesDiffer(@ForAll long seed, @ForAll long index) {
+		Random random = SourceOfRandomness.deriveRandom(seed, index);
+		Random sibling = SourceOfRandomness.deriveRandom(seed, index + 1);
+
+		assertThat(longs(sibling)).isNotEqualTo(longs(random));
+	}
+
+	@Example
+	void derivedRandomDoesNotDependOnSiblings() {
+		Random first = SourceOfRandomness.deriveRandom(42L, 0);
+		first.nextLong();
+
+		Random second = SourceOfRandomness.deriveRandom(42L, 1);
+		Random secondOnly = SourceOfRandomness.deriveRandom(42L, 1);
+
+		assertThat(longs(second)).isEqualTo(longs(secondOnly));
+	}
+
+	@Property(tries = 10)
+	void nextDoubleIsBetweenZeroAndOne(@ForAll Random seedGenerator) {
+		Random random = SourceOfRandomness.deriveRandom(seedGenerator.nextLong(), 0);
+
+		assertThat(random.doubles(1000)).allMatch(d -> d >= 0.0 && d < 1.0);
+	}
+
+	@Example
+	void nextDoubleIsEvenlyDistributed() {
+		Random random = SourceOfRandomness.newRandom(42L);
+
+		double average = random.doubles(100_000).average().orElse(0.0);
+		assertThat(average).isBetween(0.49, 0.51);
+	}
+
+	private List<Long> longs(Random random) {
+		return LongStream.range(0, 10).map(ignore -> random.nextLong()).boxed().collect(Collectors.toList());
+	}
+}
@@ -38,7 +38,8 @@ public class TestHelper {
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
 			BOUNDED_SHRINKING_SECONDS,
-			DEFAULT_WHEN_FIXED_SEED
+			DEFAULT_WHEN_FIXED_SEED,
+			0
 		);
 	}
 
@@ -85,6 +86,8 @@ public class TestHelper {
 			null,
 			null,
 			seed,
+			null,
+			null,
 			null
 		);
 
@@ -93,7 +96,7 @@ public class TestHelper {
 			propertyAttributesDefaults(),
 			GenerationInfo.NULL,
 			seed,
-			tries,
+			(long) tries,
 			GenerationMode.AUTO
 		);
 		return new PropertyMethodDescriptor(uniqueId, method, containerClass, propertyConfig);
@@ -144,6 +147,11 @@ public class TestHelper {
 			public ProvidePropertyInstanceHook providePropertyInstanceHook(TestDescriptor testDescriptor) {
 				return ProvidePropertyInstanceHook.DEFAULT;
 			}
+
+			@Override
+			public ProvideGenerationSourceHook provideGenerationSourceHook(TestDescriptor testDescriptor) {
+				return ProvideGenerationSourceHook.DEFAULT;
+			}
 		};
 	}
 
@@ -24,7 +24,8 @@ public class CheckedPropertyFactoryTests {
 			createPropertyContext(descriptor),
 			AroundTryHook.BASE,
 			ResolveParameterHook.DO_NOT_RESOLVE,
-			InvokePropertyMethodHook.DEFAULT
+			InvokePropertyMethodHook.DEFAULT,
+			ProvideGenerationSourceHook.DEFAULT
 		);
 
 		assertThat(property.propertyName).isEqualTo("prop");
@@ -62,7 +63,8 @@ public class CheckedPropertyFactoryTests {
 			createPropertyContext(descriptor),
 			AroundTryHook.BASE,
 			ResolveParameterHook.DO_NOT_RESOLVE,
-			InvokePropertyMethodHook.DEFAULT
+			InvokePropertyMethodHook.DEFAULT,
+			ProvideGenerationSourceHook.DEFAULT
 		);
 
 		assertThat(property.propertyParameters).size().isEqualTo(4);
@@ -85,7 +87,8 @@ public class CheckedPropertyFactoryTests {
 			createPropertyContext(descriptor),
 			AroundTryHook.BASE,
 			ResolveParameterHook.DO_NOT_RESOLVE,
-			InvokePropertyMethodHook.DEFAULT
+			InvokePropertyMethodHook.DEFAULT,
+			ProvideGenerationSourceHook.DEFAULT
 		);
 
 		assertThat(property.propertyParameters).size().isEqualTo(0);
@@ -94,6 +97,59 @@ public class CheckedPropertyFactoryTests {
 		assertThat(property.tryLifecycleExecutor.execute(null, noArgs).status()).isEqualTo(SATISFIED);
 	}
 
+	@Example
+	void voidAndBoxedResultsAreChecked() {
+		PropertyMethodDescriptor voidDescriptor = createDescriptor("propWithFailingVoidResult", "42", 11, 5, ShrinkingMode.OFF);
+		CheckedProperty voidProperty = factory.fromDescriptor(
+			voidDescriptor,
+			createPropertyContext(voidDescriptor),
+			AroundTryHook.BASE,
+			ResolveParameterHook.DO_NOT_RESOLVE,
+			InvokePropertyMethodHook.DEFAULT,
+			ProvideGenerationSourceHook.DEFAULT
+		);
+
+		assertThat(voidProperty.tryLifecycleExecutor.execute(null, Arrays.asList(1)).status()).isEqualTo(SATISFIED);
+		assertThat(voidProperty.tryLifecycleExecutor.execute(null, Arrays.asList(2)).status()).isEqualTo(FALSIFIED);
+
+		PropertyMethodDescriptor boxedDescriptor = createDescriptor("propWithBoxedResult", "42", 11, 5, ShrinkingMode.OFF);
+		CheckedProperty boxedProperty = factory.fromDescriptor(
+			boxedDescriptor,
+			createPropertyContext(boxedDescriptor),
+			AroundTryHook.BASE,
+			ResolveParameterHook.DO_NOT_RESOLVE,
+			InvokePropertyMethodHook.DEFAULT,
+			ProvideGenerationSourceHook.DEFAULT
+		);
+
+		assertThat(boxedProperty.tryLifecycleExecutor.execute(null, Arrays.asList(1)).status()).isEqualTo(SATISFIED);
+		assertThat(boxedProperty.tryLifecycleExecutor.execute(null, Arrays.asList(2)).status()).isEqualTo(FALSIFIED);
+		assertThat(boxedProperty.tryLifecycleExecutor.execute(null, Arrays.asList(3)).status()).isEqualTo(SATISFIED);
+	}
+
+	@Example
+	void customInvokeMethodHookIsUsed() {
+		PropertyMethodDescriptor descriptor = createDescriptor("prop", "42", 11, 4, ShrinkingMode.OFF);
+		List<Object[]> invocations = new ArrayList<>();
+		InvokePropertyMethodHook recordingHook = (method, target, args) -> {
+			invocations.add(args);
+			return false;
+		};
+
+		CheckedProperty property = factory.fromDescriptor(
+			descriptor,
+			createPropertyContext(descriptor),
+			AroundTryHook.BASE,
+			ResolveParameterHook.DO_NOT_RESOLVE,
+			recordingHook,
+			ProvideGenerationSourceHook.DEFAULT
+		);
+
+		List<Object> argsTrue = Arrays.asList(1, "test");
+		assertThat(property.tryLifecycleExecutor.execute(null, argsTrue).status()).isEqualTo(FALSIFIED);
+		assertThat(invocations).containsExactly(new Object[]{1, "test"});
+	}
+
 	private PropertyMethodDescriptor createDescriptor(
 		String methodName, String seed, int tries, int maxDiscardRatio,
 		ShrinkingMode shrinking
@@ -128,5 +184,17 @@ public class CheckedPropertyFactoryTests {
 		void propWithVoidResult() {
 		}
 
+		@Property
+		void propWithFailingVoidResult(@ForAll int anInt) {
+			if (anInt != 1) {
+				throw new AssertionError("not 1");
+			}
+		}
+
+		@Property
+		Boolean propWithBoxedResult(@ForAll int anInt) {
+			return anInt == 1 ? Boolean.TRUE : anInt == 2 ? Boolean.FALSE : null;
+		}
+
 	}
 }
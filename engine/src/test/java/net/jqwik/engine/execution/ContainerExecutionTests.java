@@ -123,6 +123,48 @@ class ContainerExecutionTests {
 		events.verify(eventRecorder).executionFinished(engineDescriptor, TestExecutionResult.successful());
 	}
 
+	@Example
+	void nestedGroupsAreFinishedBeforeTheirContainerWhenExecutedConcurrently() {
+		TestDescriptor engineDescriptor = forEngine(testEngine).with(forClass(TopLevelContainer.class, "topLevelSuccess").with(
+			forClass(TopLevelContainer.InnerGroup.class, "innerGroupSuccess")
+				.with(forClass(TopLevelContainer.InnerGroup.InnerInnerGroup.class, "innerInnerGroupSuccess")),
+			forClass(TopLevelContainer.AnotherGroup.class))).build();
+
+		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false, 4)
+			.execute(engineDescriptor, eventRecorder);
+
+		InOrder events = Mockito.inOrder(eventRecorder);
+		events.verify(eventRecorder).executionStarted(engineDescriptor);
+		events.verify(eventRecorder).executionStarted(isClassDescriptorFor(TopLevelContainer.class));
+		events.verify(eventRecorder).executionStarted(isClassDescriptorFor(TopLevelContainer.InnerGroup.class));
+		events.verify(eventRecorder).executionStarted(isClassDescriptorFor(TopLevelContainer.InnerGroup.InnerInnerGroup.class));
+		events.verify(eventRecorder).executionFinished(
+			isPropertyDescriptorFor(TopLevelContainer.InnerGroup.InnerInnerGroup.class, "innerInnerGroupSuccess"), isSuccessful());
+		events.verify(eventRecorder).executionFinished(isClassDescriptorFor(TopLevelContainer.InnerGroup.InnerInnerGroup.class),
+			isSuccessful());
+		events.verify(eventRecorder).executionFinished(isClassDescriptorFor(TopLevelContainer.InnerGroup.class), isSuccessful());
+		events.verify(eventRecorder).executionFinished(isClassDescriptorFor(TopLevelContainer.class), isSuccessful());
+		events.verify(eventRecorder).executionFinished(engineDescriptor, TestExecutionResult.successful());
+	}
+
+	@Example
+	void siblingGroupsAreFinishedIndependentlyWhenExecutedConcurrently() {
+		TestDescriptor engineDescriptor = forEngine(testEngine).with(forClass(ContainerWithSlowGroup.class).with(
+			forClass(ContainerWithSlowGroup.SlowGroup.class, "waitForFastGroupToFinish"),
+			forClass(ContainerWithSlowGroup.FastGroup.class, "fast"))).build();
+
+		ContainerWithSlowGroup.listener = eventRecorder;
+		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false, 4)
+			.execute(engineDescriptor, eventRecorder);
+
+		InOrder events = Mockito.inOrder(eventRecorder);
+		events.verify(eventRecorder).executionFinished(isClassDescriptorFor(ContainerWithSlowGroup.FastGroup.class), isSuccessful());
+		events.verify(eventRecorder).executionFinished(
+			isPropertyDescriptorFor(ContainerWithSlowGroup.SlowGroup.class, "waitForFastGroupToFinish"), isSuccessful());
+		events.verify(eventRecorder).executionFinished(isClassDescriptorFor(ContainerWithSlowGroup.SlowGroup.class), isSuccessful());
+		events.verify(eventRecorder).executionFinished(isClassDescriptorFor(ContainerWithSlowGroup.class), isSuccessful());
+	}
+
 	private void executeTests(TestDescriptor engineDescriptor) {
 		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false).execute(engineDescriptor, eventRecorder);
 	}
@@ -148,6 +190,27 @@ class ContainerExecutionTests {
 
 	}
 
+	private static class ContainerWithSlowGroup {
+
+		private static volatile EngineExecutionListener listener;
+
+		@Group
+		static class SlowGroup {
+			@Example
+			void waitForFastGroupToFinish() {
+				Mockito.verify(listener, Mockito.timeout(10000))
+					   .executionFinished(isClassDescriptorFor(FastGroup.class), isSuccessful());
+			}
+		}
+
+		@Group
+		static class FastGroup {
+			@Example
+			void fast() {
+			}
+		}
+	}
+
 	private static class TopLevelContainer {
 
 		@Example
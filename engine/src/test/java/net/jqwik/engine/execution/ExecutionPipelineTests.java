@@ -1,8 +1,11 @@
 package net.jqwik.engine.execution;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.junit.platform.engine.*;
+import org.junit.platform.engine.support.descriptor.*;
 import org.mockito.*;
 
 import net.jqwik.*;
@@ -115,4 +118,146 @@ class ExecutionPipelineTests {
 
 	}
 
+	@Group
+	class ConcurrentExecution {
+
+		private final ExecutionPipeline concurrentPipeline = new ExecutionPipeline(listener, 4);
+		private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+		@Example
+		void tasksWithoutPredecessorsRunConcurrently() {
+			CountDownLatch allStarted = new CountDownLatch(3);
+			for (int i = 1; i <= 3; i++) {
+				concurrentPipeline.submit(new ConcurrentTask(Integer.toString(i), () -> awaitLatch(allStarted)));
+			}
+			concurrentPipeline.runToTermination();
+
+			assertThat(allStarted.getCount()).isEqualTo(0);
+			assertThat(events).hasSize(6);
+		}
+
+		@Example
+		void successorsStartAfterAllPredecessorsHaveFinished() {
+			ConcurrentTask prepare = new ConcurrentTask("prepare");
+			ConcurrentTask child1 = new ConcurrentTask("child1");
+			ConcurrentTask child2 = new ConcurrentTask("child2");
+			ConcurrentTask finish = new ConcurrentTask("finish");
+			concurrentPipeline.submit(prepare);
+			concurrentPipeline.submit(child1, prepare);
+			concurrentPipeline.submit(child2, prepare);
+			concurrentPipeline.submit(finish, child1, child2);
+			concurrentPipeline.runToTermination();
+
+			assertThat(events.indexOf("end prepare")).isLessThan(events.indexOf("start child1"));
+			assertThat(events.indexOf("end prepare")).isLessThan(events.indexOf("start child2"));
+			assertThat(events.indexOf("end child1")).isLessThan(events.indexOf("start finish"));
+			assertThat(events.indexOf("end child2")).isLessThan(events.indexOf("start finish"));
+		}
+
+		@Example
+		void tasksSharingAResourceLockNeverOverlap() {
+			AtomicInteger running = new AtomicInteger(0);
+			AtomicInteger maxRunning = new AtomicInteger(0);
+			Runnable body = () -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				sleep(5);
+				running.decrementAndGet();
+			};
+			for (int i = 1; i <= 8; i++) {
+				concurrentPipeline.submit(new ConcurrentTask(Integer.toString(i), body, "lock"));
+			}
+			concurrentPipeline.runToTermination();
+
+			assertThat(events).hasSize(16);
+			assertThat(maxRunning.get()).isEqualTo(1);
+		}
+
+		@Example
+		void failingPredecessorResultIsHandedToSuccessor() {
+			RuntimeException failure = new RuntimeException("failed");
+			ExecutionTask failing = ExecutionTask.from(
+				(listener, predecessorResult) -> TaskExecutionResult.failure(failure),
+				new ConcurrentTask("owner"),
+				"failing"
+			);
+			AtomicReference<TaskExecutionResult> handedOver = new AtomicReference<>();
+			ExecutionTask successor = ExecutionTask.from(
+				(listener, predecessorResult) -> {
+					handedOver.set(predecessorResult);
+					return predecessorResult;
+				},
+				new ConcurrentTask("owner2"),
+				"successor"
+			);
+			concurrentPipeline.submit(failing);
+			concurrentPipeline.submit(successor, failing);
+			concurrentPipeline.runToTermination();
+
+			assertThat(handedOver.get().successful()).isFalse();
+			assertThat(handedOver.get().throwable()).hasValue(failure);
+		}
+
+		@Example
+		void predecessorsMustBeSubmittedBeforeATaskCanRun() {
+			concurrentPipeline.submit(new ConcurrentTask("1"), new ConcurrentTask("2"));
+
+			assertThatThrownBy(() -> concurrentPipeline.runToTermination()).isInstanceOf(PredecessorNotSubmittedException.class);
+		}
+
+		private void awaitLatch(CountDownLatch latch) {
+			latch.countDown();
+			try {
+				assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		private void sleep(int millis) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		private class ConcurrentTask extends AbstractTestDescriptor implements ExecutionTask {
+
+			private final Runnable body;
+			private final Set<String> resourceLocks;
+
+			ConcurrentTask(String name) {
+				this(name, () -> {});
+			}
+
+			ConcurrentTask(String name, Runnable body, String... resourceLocks) {
+				super(UniqueId.root("test", name), name);
+				this.body = body;
+				this.resourceLocks = new HashSet<>(Arrays.asList(resourceLocks));
+			}
+
+			@Override
+			public UniqueId ownerId() {
+				return getUniqueId();
+			}
+
+			@Override
+			public Set<String> resourceLocks() {
+				return resourceLocks;
+			}
+
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				events.add("start " + getDisplayName());
+				body.run();
+				events.add("end " + getDisplayName());
+				return TaskExecutionResult.success();
+			}
+
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+		}
+	}
 }
@@ -130,6 +130,45 @@ class GenerationInfoTests {
 			});
 		}
 
+		@Example
+		void earlierSamplesAreSkipped() {
+			GenerationInfo generationInfo = new GenerationInfo("4242", 14);
+			ParametersGenerator skippingGenerator = new ParametersGeneratorForTests() {
+				@Override
+				public boolean skip(long numberOfSamples, TryLifecycleContext context) {
+					index += numberOfSamples;
+					return true;
+				}
+
+				@Override
+				public List<Shrinkable<Object>> next(TryLifecycleContext context) {
+					assertThat(index).isEqualTo(13);
+					return super.next(context);
+				}
+			};
+
+			Optional<List<Shrinkable<Object>>> sample = generationInfo.generateOn(skippingGenerator, context);
+			assertThat(sample).isPresent();
+			assertThat(sample.get().get(0).value()).isEqualTo(14);
+		}
+
+		@Example
+		void generationIndexCanExceedIntegerRange() {
+			GenerationInfo generationInfo = new GenerationInfo("4242", 5_000_000_000L);
+			List<Long> skipped = new ArrayList<>();
+			ParametersGenerator skippingGenerator = new ParametersGeneratorForTests() {
+				@Override
+				public boolean skip(long numberOfSamples, TryLifecycleContext context) {
+					skipped.add(numberOfSamples);
+					return true;
+				}
+			};
+
+			Optional<List<Shrinkable<Object>>> sample = generationInfo.generateOn(skippingGenerator, context);
+			assertThat(sample).isPresent();
+			assertThat(skipped).containsExactly(4_999_999_999L);
+		}
+
 		@Example
 		void noGenerationWithoutGenerationIndex() {
 			GenerationInfo generationInfo = new GenerationInfo("4242");
@@ -198,6 +237,21 @@ class GenerationInfoTests {
 			assertThat(read).isEqualTo(generationInfo);
 		}
 
+		@Property(tries = 10)
+		void shrinkingSequencesAreRecreatedAfterSerialization(@ForAll("shrinkingSequence") @Size(max = 50) List<Status> sequence) throws Exception {
+			GenerationInfo generationInfo = new GenerationInfo("4242", 41)
+				.appendShrinkingSequence(sequence);
+
+			outputStream().writeObject(generationInfo);
+
+			GenerationInfo read = (GenerationInfo) inputStream().readObject();
+			if (sequence.isEmpty()) {
+				assertThat(read.shrinkingSequences()).isEmpty();
+			} else {
+				assertThat(read.shrinkingSequences()).containsExactly(sequence);
+			}
+		}
+
 		@Property(tries = 10)
 		void serializeWithLongShrinkingSequence(@ForAll("shrinkingSequence") @Size(min = 100, max = 1500) List<Status> sequence) throws Exception {
 			GenerationInfo generationInfo = new GenerationInfo("4242", 41)
@@ -211,6 +265,25 @@ class GenerationInfoTests {
 			assertThat(read).isEqualTo(generationInfo);
 		}
 
+		@Property(tries = 10)
+		void writeToAndReadFromDataStream(
+			@ForAll @Size(max = 3) List<@Size(max = 100) @From("shrinkingSequence") List<Status>> sequences,
+			@ForAll boolean withSeed,
+			@ForAll @Positive long generationIndex
+		) throws Exception {
+			GenerationInfo generationInfo = new GenerationInfo(withSeed ? "4242" : null, generationIndex);
+			for (List<Status> sequence : sequences) {
+				generationInfo = generationInfo.appendShrinkingSequence(sequence);
+			}
+
+			generationInfo.writeTo(new DataOutputStream(byteArrayOutputStream));
+
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+			GenerationInfo read = GenerationInfo.readFrom(in);
+			assertThat(read).isEqualTo(generationInfo);
+			assertThat(in.available()).isZero();
+		}
+
 		@Provide
 		Arbitrary<List<Status>> shrinkingSequence() {
 			return Arbitraries.of(Status.class).list();
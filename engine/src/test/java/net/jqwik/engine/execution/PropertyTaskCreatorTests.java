@@ -0,0 +1,74 @@
+package net.jqwik.engine.execution;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.pipeline.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.engine.TestDescriptorBuilder.*;
+
+class PropertyTaskCreatorTests {
+
+	@Example
+	void propertyWithoutResourceLockHasNoLocks() {
+		ExecutionTask task = createTask(NoLocks.class, "plain");
+		assertThat(task.resourceLocks()).isEmpty();
+	}
+
+	@Example
+	void lockOnMethod() {
+		ExecutionTask task = createTask(NoLocks.class, "lockedMethod");
+		assertThat(task.resourceLocks()).containsExactly("database");
+	}
+
+	@Example
+	void lockWithoutValueOnContainerIsSpecificToContainer() {
+		ExecutionTask task = createTask(LockedContainer.class, "plain");
+		assertThat(task.resourceLocks()).containsExactly(LockedContainer.class.getName());
+	}
+
+	@Example
+	void locksOfEnclosingContainersAreCollected() {
+		ExecutionTask task = createTask(LockedContainer.LockedGroup.class, "lockedMethod");
+		assertThat(task.resourceLocks()).containsExactlyInAnyOrder(
+			LockedContainer.class.getName(),
+			"files",
+			LockedContainer.LockedGroup.class.getName()
+		);
+	}
+
+	private ExecutionTask createTask(Class<?> containerClass, String methodName) {
+		PropertyMethodDescriptor descriptor =
+			(PropertyMethodDescriptor) forClass(containerClass, methodName).build().getChildren().iterator().next();
+		return new PropertyTaskCreator().createTask(descriptor, new LifecycleHooksRegistry(), false);
+	}
+
+	private static class NoLocks {
+		@Example
+		void plain() {
+		}
+
+		@Example
+		@ResourceLock("database")
+		void lockedMethod() {
+		}
+	}
+
+	@ResourceLock
+	private static class LockedContainer {
+		@Example
+		void plain() {
+		}
+
+		@Group
+		@ResourceLock("files")
+		class LockedGroup {
+			@Example
+			@ResourceLock
+			void lockedMethod() {
+			}
+		}
+	}
+}
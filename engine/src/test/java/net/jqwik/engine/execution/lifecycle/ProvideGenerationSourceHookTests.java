@@ -0,0 +1,149 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.ProvideGenerationSourceHook.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProvideGenerationSourceHookTests {
+
+	static int nextRandomCalls = 0;
+	static List<Object> guidedSamples = new ArrayList<>();
+	static List<TryExecutionResult.Status> guidedResults = new ArrayList<>();
+	static Set<Integer> generatedValues = new HashSet<>();
+
+	@Property(tries = 10)
+	@AddLifecycleHook(CountingSource.class)
+	@PerProperty(AssertAllTriesHaveBeenGuided.class)
+	void sourceIsAskedAndGuidedForEachTry(@ForAll int anInt) {
+		Assume.that(anInt != 0);
+	}
+
+	private class AssertAllTriesHaveBeenGuided implements PerProperty.Lifecycle {
+		@Override
+		public void onSuccess() {
+			assertThat(nextRandomCalls).isEqualTo(10);
+			assertThat(guidedSamples).hasSize(10);
+			assertThat(guidedResults).hasSize(10);
+			for (int i = 0; i < guidedSamples.size(); i++) {
+				TryExecutionResult.Status expected = guidedSamples.get(i).equals(0)
+														 ? TryExecutionResult.Status.INVALID
+														 : TryExecutionResult.Status.SATISFIED;
+				assertThat(guidedResults.get(i)).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Property(tries = 20, edgeCases = EdgeCasesMode.NONE)
+	@AddLifecycleHook(ConstantSource.class)
+	@PerProperty(AssertOnlyOneValueGenerated.class)
+	void generationUsesRandomOfSource(@ForAll @IntRange(max = 1000000) int anInt) {
+		generatedValues.add(anInt);
+	}
+
+	private class AssertOnlyOneValueGenerated implements PerProperty.Lifecycle {
+		@Override
+		public void onSuccess() {
+			assertThat(generatedValues).hasSize(1);
+		}
+	}
+
+	@Property(generation = GenerationMode.EXHAUSTIVE)
+	@AddLifecycleHook(FailingSourceProvider.class)
+	void hookIsNotAppliedToExhaustiveGeneration(@ForAll @IntRange(max = 10) int anInt) {
+	}
+
+	@Property(tries = 10)
+	@AddLifecycleHook(FailingSourceProvider.class)
+	@PerProperty(ExpectFailure.class)
+	void failureInHookFailsProperty(@ForAll int anInt) {
+	}
+
+	private class ExpectFailure implements PerProperty.Lifecycle {
+		@Override
+		public PropertyExecutionResult onFailure(PropertyExecutionResult propertyExecutionResult) {
+			assertThat(propertyExecutionResult.throwable()).containsInstanceOf(IllegalStateException.class);
+			return propertyExecutionResult.mapToSuccessful();
+		}
+
+		@Override
+		public void onSuccess() {
+			fail("Property should have failed");
+		}
+	}
+
+	@Property(tries = 10)
+	@AddLifecycleHook(GuideFailingSource.class)
+	@PerProperty(ExpectHookError.class)
+	void failureInGuideIsReportedAsHookError(@ForAll int anInt) {
+	}
+
+	private class ExpectHookError implements PerProperty.Lifecycle {
+		@Override
+		public PropertyExecutionResult onFailure(PropertyExecutionResult propertyExecutionResult) {
+			assertThat(propertyExecutionResult.throwable()).containsInstanceOf(JqwikException.class);
+			assertThat(propertyExecutionResult.throwable().get().getCause()).isInstanceOf(IllegalStateException.class);
+			assertThat(propertyExecutionResult.falsifiedParameters()).isEmpty();
+			return propertyExecutionResult.mapToSuccessful();
+		}
+
+		@Override
+		public void onSuccess() {
+			fail("Property should have failed");
+		}
+	}
+}
+
+class CountingSource implements ProvideGenerationSourceHook {
+	@Override
+	public GenerationSource provide(PropertyLifecycleContext context) {
+		return new GenerationSource() {
+			@Override
+			public Random nextRandom(Random defaultRandom) {
+				ProvideGenerationSourceHookTests.nextRandomCalls++;
+				return defaultRandom;
+			}
+
+			@Override
+			public void guide(List<Object> sample, TryExecutionResult result) {
+				ProvideGenerationSourceHookTests.guidedSamples.add(sample.get(0));
+				ProvideGenerationSourceHookTests.guidedResults.add(result.status());
+			}
+		};
+	}
+}
+
+class ConstantSource implements ProvideGenerationSourceHook {
+	@Override
+	public GenerationSource provide(PropertyLifecycleContext context) {
+		return defaultRandom -> new Random(42);
+	}
+}
+
+class FailingSourceProvider implements ProvideGenerationSourceHook {
+	@Override
+	public GenerationSource provide(PropertyLifecycleContext context) {
+		throw new IllegalStateException("should not be called");
+	}
+}
+
+class GuideFailingSource implements ProvideGenerationSourceHook {
+	@Override
+	public GenerationSource provide(PropertyLifecycleContext context) {
+		return new GenerationSource() {
+			@Override
+			public Random nextRandom(Random defaultRandom) {
+				return defaultRandom;
+			}
+
+			@Override
+			public void guide(List<Object> sample, TryExecutionResult result) {
+				throw new IllegalStateException("cannot process feedback");
+			}
+		};
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import org.assertj.core.api.*;
@@ -66,6 +67,27 @@ class StoreRepositoryTests {
 			assertThat(optionalStore1).isNotEqualTo(optionalStore2);
 		}
 
+		@Example
+		void getOrCreateFromSeveralThreadsCreatesStoreOnlyOnce() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+			try {
+				List<Future<ScopedStore<String>>> futures = new ArrayList<>();
+				for (int i = 0; i < 100; i++) {
+					String identifier = "store" + (i % 4);
+					futures.add(executor.submit(() -> repository.getOrCreate(container, identifier, Lifespan.PROPERTY, () -> "initial")));
+				}
+				Set<ScopedStore<String>> stores = new HashSet<>();
+				for (Future<ScopedStore<String>> future : futures) {
+					stores.add(future.get());
+				}
+				assertThat(stores).hasSize(4);
+				assertThat(repository.size()).isEqualTo(4);
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
 		@Example
 		void cannotCreateTwoLocalStoresWithSameNameInSameScope() {
 			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
@@ -174,6 +196,25 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void finishTry_doesNotResetStoresOfSiblingScopes() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1", "method2").build();
+			Iterator<? extends TestDescriptor> methods = container.getChildren().iterator();
+			TestDescriptor method1 = methods.next();
+			TestDescriptor method2 = methods.next();
+
+			ScopedStore<String> method1StoreTry = repository.create(method1, "storeTry", Lifespan.TRY, () -> "initial");
+			method1StoreTry.update(s -> "changed");
+			ScopedStore<String> method2StoreTry = repository.create(method2, "storeTry", Lifespan.TRY, () -> "initial");
+			method2StoreTry.update(s -> "changed");
+
+			repository.finishTry(method1);
+
+			assertThat(method1StoreTry.get()).isEqualTo("initial");
+			assertThat(method2StoreTry.get()).isEqualTo("changed");
+			assertThat(repository.<String>get(method2, "storeTry")).containsSame(method2StoreTry);
+		}
+
 		@Example
 		void finishProperty_resetsAllVisibleStoresWithLifespanProperty() {
 			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -205,6 +246,33 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void finishContainer_resetsValuesOfLifespanPropertySetOutsideOfProperties() throws Exception {
+			TestDescriptor engineWithContainers = TestDescriptorBuilder.forEngine(new JqwikTestEngine()).with(Container1.class, Container2.class).build();
+			Iterator<? extends TestDescriptor> containers = engineWithContainers.getChildren().iterator();
+			TestDescriptor container1 = containers.next();
+			TestDescriptor container2 = containers.next();
+			ScopedStore<String> engineStoreProperty =
+				repository.create(engineWithContainers, "engineStoreProperty", Lifespan.PROPERTY, () -> "initial");
+
+			inContainer(container1, () -> {
+				engineStoreProperty.update(s -> "changed");
+				return null;
+			});
+
+			assertThat(inContainer(container1, engineStoreProperty::get)).isEqualTo("changed");
+			assertThat(inContainer(container2, engineStoreProperty::get)).isEqualTo("initial");
+
+			repository.finishContainer(container1);
+
+			assertThat(inContainer(container1, engineStoreProperty::get)).isEqualTo("initial");
+		}
+
+		// Runs on a separate thread since the current thread is already within a property
+		private <T> T inContainer(TestDescriptor container, Supplier<T> code) throws Exception {
+			return CompletableFuture.supplyAsync(() -> CurrentTestDescriptor.runWithDescriptor(container, code)).get();
+		}
+
 		@Example
 		void finishScope_removesAllStoresForScopeAndItsChildren() {
 			TestDescriptor container1 = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -186,4 +186,32 @@ class StoreTests {
 			assertThat(lifespanTry.get()).isEqualTo(0);
 		}
 	}
+
+	@Group
+	@Label("concurrent tries")
+	class ConcurrentTries {
+
+		@Property(tries = 100, parallelism = 4)
+		void tryStoreValuesAreIsolatedPerTry(@ForAll int anInt) {
+			Store<Integer> store = Store.getOrCreate("tryValue", Lifespan.TRY, () -> 0);
+			assertThat(store.get()).isEqualTo(0);
+			store.update(i -> anInt);
+			assertThat(store.get()).isEqualTo(anInt);
+		}
+
+		@Property(tries = 100, parallelism = 4)
+		@PerProperty(AssertCounter100.class)
+		void propertyStoreIsSharedByAllTries() {
+			Store<Integer> counter = Store.getOrCreate("counter", Lifespan.PROPERTY, () -> 0);
+			counter.update(i -> i + 1);
+		}
+
+		class AssertCounter100 implements Lifecycle {
+			@Override
+			public void onSuccess() {
+				Store<Integer> counter = Store.get("counter");
+				assertThat(counter.get()).isEqualTo(100);
+			}
+		}
+	}
 }
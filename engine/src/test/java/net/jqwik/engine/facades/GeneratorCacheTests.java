@@ -0,0 +1,60 @@
+package net.jqwik.engine.facades;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GeneratorCacheTests {
+
+	@Example
+	void cachedGeneratorIsReturnedForEqualKey() {
+		GeneratorCache cache = new GeneratorCache(10);
+		RandomGenerator<?> generator = cache.computeIfAbsent("key", () -> random -> Shrinkable.unshrinkable(1));
+
+		assertThat(cache.computeIfAbsent("key", () -> random -> Shrinkable.unshrinkable(2))).isSameAs(generator);
+		assertThat(cache.computeIfAbsent("other key", () -> random -> Shrinkable.unshrinkable(3))).isNotSameAs(generator);
+		assertThat(cache.hits()).isEqualTo(1);
+		assertThat(cache.misses()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Example
+	void leastRecentlyUsedGeneratorIsEvicted() {
+		GeneratorCache cache = new GeneratorCache(2);
+		RandomGenerator<?> generator1 = cache.computeIfAbsent(1, () -> random -> Shrinkable.unshrinkable(1));
+		cache.computeIfAbsent(2, () -> random -> Shrinkable.unshrinkable(2));
+		cache.computeIfAbsent(1, () -> random -> Shrinkable.unshrinkable(1));
+		cache.computeIfAbsent(3, () -> random -> Shrinkable.unshrinkable(3));
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.computeIfAbsent(1, () -> random -> Shrinkable.unshrinkable(1))).isSameAs(generator1);
+		assertThat(cache.misses()).isEqualTo(3);
+
+		cache.computeIfAbsent(2, () -> random -> Shrinkable.unshrinkable(2));
+		assertThat(cache.misses()).isEqualTo(4);
+	}
+
+	@Example
+	void nestedGeneratorsCanBeCachedWhileCreatingGenerator() {
+		GeneratorCache cache = new GeneratorCache(10);
+		RandomGenerator<?> outer = cache.computeIfAbsent("outer", () -> {
+			RandomGenerator<?> inner = cache.computeIfAbsent("inner", () -> random -> Shrinkable.unshrinkable(1));
+			return inner.map(i -> i);
+		});
+
+		assertThat(outer).isNotNull();
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Example
+	void clearRemovesGeneratorsAndStatistics() {
+		GeneratorCache cache = new GeneratorCache(10);
+		cache.computeIfAbsent("key", () -> random -> Shrinkable.unshrinkable(1));
+		cache.computeIfAbsent("key", () -> random -> Shrinkable.unshrinkable(1));
+
+		cache.clear();
+		assertThat(cache.size()).isZero();
+		assertThat(cache.hits()).isZero();
+		assertThat(cache.misses()).isZero();
+	}
+}
@@ -68,7 +68,8 @@ class CheckedPropertyTests {
 				createPropertyContext(descriptor),
 				AroundTryHook.BASE,
 				ResolveParameterHook.DO_NOT_RESOLVE,
-				InvokePropertyMethodHook.DEFAULT
+				InvokePropertyMethodHook.DEFAULT,
+				ProvideGenerationSourceHook.DEFAULT
 			);
 		}
 
@@ -263,7 +264,7 @@ class CheckedPropertyTests {
 			Arbitrary<Integer> integers = Arbitraries.integers().between(1, 99);
 			GenerationInfo previousGenerationInfo = new GenerationInfo("41", 13);
 			// This is what's being generated from integers in the 13th attempt
-			List<Integer> previousSample = Arrays.asList(99, 97);
+			List<Integer> previousSample = Arrays.asList(5, 4);
 
 			CheckedFunction checkSample = params -> params.equals(previousSample);
 
@@ -499,6 +500,7 @@ class CheckedPropertyTests {
 			parameters,
 			arbitraryResolver,
 			ResolveParameterHook.DO_NOT_RESOLVE,
+			ProvideGenerationSourceHook.DEFAULT,
 			propertyLifecycleContext,
 			optionalData,
 			configuration
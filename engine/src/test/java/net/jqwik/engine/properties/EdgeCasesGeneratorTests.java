@@ -0,0 +1,110 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class EdgeCasesGeneratorTests {
+
+	@Example
+	void singleParameterKeepsOrderOfEdgeCases() {
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(asList(edgeCases(1, 2, 3)));
+
+		assertThat(generateAll(generator)).containsExactly(
+			asList(1),
+			asList(2),
+			asList(3)
+		);
+	}
+
+	@Example
+	void firstEdgeCasesOfAllParametersAreCombinedFirst() {
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(asList(
+			edgeCases(1, 2, 3),
+			edgeCases(10, 20, 30),
+			edgeCases(100, 200, 300)
+		));
+
+		List<List<Object>> all = generateAll(generator);
+		assertThat(all.get(0)).containsExactly(1, 10, 100);
+		assertThat(all.subList(0, 8)).containsExactlyInAnyOrder(
+			asList(1, 10, 100),
+			asList(1, 10, 200),
+			asList(1, 20, 100),
+			asList(1, 20, 200),
+			asList(2, 10, 100),
+			asList(2, 10, 200),
+			asList(2, 20, 100),
+			asList(2, 20, 200)
+		);
+	}
+
+	@Example
+	void noParameters() {
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(Collections.emptyList());
+		assertThat(generator.hasNext()).isFalse();
+	}
+
+	@Example
+	void parameterWithoutEdgeCases() {
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(asList(edgeCases(1, 2), edgeCases()));
+		assertThat(generator.hasNext()).isFalse();
+		assertThatThrownBy(generator::next).isInstanceOf(NoSuchElementException.class);
+	}
+
+	@Property(tries = 50)
+	void allCombinationsAreGeneratedExactlyOnce(@ForAll @Size(min = 1, max = 4) List<@IntRange(min = 1, max = 5) Integer> sizes) {
+		List<EdgeCases<Object>> listOfEdgeCases =
+			sizes.stream()
+				 .map(size -> edgeCases(IntStream.range(0, size).boxed().toArray()))
+				 .collect(Collectors.toList());
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(listOfEdgeCases);
+
+		List<List<Object>> all = generateAll(generator);
+
+		int expectedCount = sizes.stream().reduce(1, (a, b) -> a * b);
+		assertThat(all).hasSize(expectedCount);
+		assertThat(all).doesNotHaveDuplicates();
+		for (List<Object> combination : all) {
+			for (int i = 0; i < sizes.size(); i++) {
+				assertThat((int) combination.get(i)).isBetween(0, sizes.get(i) - 1);
+			}
+		}
+	}
+
+	@Property(tries = 50)
+	void shellsAreGeneratedInAscendingOrder(@ForAll @Size(min = 1, max = 4) List<@IntRange(min = 1, max = 5) Integer> sizes) {
+		List<EdgeCases<Object>> listOfEdgeCases =
+			sizes.stream()
+				 .map(size -> edgeCases(IntStream.range(0, size).boxed().toArray()))
+				 .collect(Collectors.toList());
+		EdgeCasesGenerator generator = new EdgeCasesGenerator(listOfEdgeCases);
+
+		List<Integer> shells = generateAll(generator).stream()
+													 .map(combination -> combination.stream().mapToInt(i -> (int) i).max().orElse(0))
+													 .collect(Collectors.toList());
+		assertThat(shells).isSorted();
+	}
+
+	private List<List<Object>> generateAll(EdgeCasesGenerator generator) {
+		List<List<Object>> all = new ArrayList<>();
+		while (generator.hasNext()) {
+			all.add(generator.next().stream().map(Shrinkable::value).collect(Collectors.toList()));
+		}
+		return all;
+	}
+
+	private EdgeCases<Object> edgeCases(Object... values) {
+		return EdgeCases.fromSuppliers(
+			Arrays.stream(values)
+				  .map(value -> (Supplier<Shrinkable<Object>>) () -> Shrinkable.unshrinkable(value))
+				  .collect(Collectors.toList())
+		);
+	}
+}
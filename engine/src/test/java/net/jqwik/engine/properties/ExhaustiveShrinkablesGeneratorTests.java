@@ -77,6 +77,56 @@ class ExhaustiveShrinkablesGeneratorTests {
 		assertThat(shrinkablesGenerator.hasNext()).isFalse();
 	}
 
+	@Example
+	void numberOfCombinationsCanExceedIntegerMaxValue() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("threeIntsFrom0to1999");
+		assertThat(shrinkablesGenerator.maxCount()).isEqualTo(8_000_000_000L);
+
+		assertThat(shrinkablesGenerator.skip(4_000_002_001L)).isTrue();
+		assertThat(shrinkablesGenerator.next()).containsExactly(
+			Shrinkable.unshrinkable(1000), Shrinkable.unshrinkable(1), Shrinkable.unshrinkable(1)
+		);
+
+		assertThat(shrinkablesGenerator.skip(3_999_997_997L)).isTrue();
+		assertThat(shrinkablesGenerator.next()).containsExactly(
+			Shrinkable.unshrinkable(1999), Shrinkable.unshrinkable(1999), Shrinkable.unshrinkable(1999)
+		);
+		assertThat(shrinkablesGenerator.hasNext()).isFalse();
+	}
+
+	@Example
+	void tooManyCombinations() {
+		Assertions.assertThatThrownBy(() -> createGenerator("fourIntsFrom0to99999"))
+				  .isInstanceOf(JqwikException.class);
+	}
+
+	@Property(tries = 50)
+	void skippingIsSameAsIteratingOverSkippedSamples(
+		@ForAll @IntRange(min = 0, max = 20) int skipBeforeFirst,
+		@ForAll @IntRange(min = 0, max = 20) int skipAfterFirst
+	) {
+		ExhaustiveShrinkablesGenerator iteratingGenerator = createGenerator("evensAndIntFrom0to2");
+		List<List<Shrinkable<Object>>> all = new ArrayList<>();
+		iteratingGenerator.forEachRemaining(all::add);
+		assertThat(all).hasSize(15);
+
+		ExhaustiveShrinkablesGenerator skippingGenerator = createGenerator("evensAndIntFrom0to2");
+		assertThat(skippingGenerator.skip(skipBeforeFirst)).isEqualTo(skipBeforeFirst <= all.size());
+		if (skipBeforeFirst >= all.size()) {
+			assertThat(skippingGenerator.hasNext()).isFalse();
+			return;
+		}
+		assertThat(skippingGenerator.next()).isEqualTo(all.get(skipBeforeFirst));
+
+		int indexAfterSkip = skipBeforeFirst + 1 + skipAfterFirst;
+		assertThat(skippingGenerator.skip(skipAfterFirst)).isEqualTo(indexAfterSkip <= all.size());
+		if (indexAfterSkip < all.size()) {
+			assertThat(skippingGenerator.next()).isEqualTo(all.get(indexAfterSkip));
+		} else {
+			assertThat(skippingGenerator.hasNext()).isFalse();
+		}
+	}
+
 	@Example
 	void noExhaustiveGenerator() {
 		Assertions.assertThatThrownBy(() -> createGenerator("doubles")).isInstanceOf(JqwikException.class);
@@ -113,5 +163,28 @@ class ExhaustiveShrinkablesGeneratorTests {
 		public void iterables(@ForAll @Size(2) Iterable<@IntRange(min = 0, max = 1) Integer> iterable) {}
 
 		public void doubles(@ForAll double aDouble) {}
+
+		public void threeIntsFrom0to1999(
+			@ForAll @IntRange(min = 0, max = 1999) int int1,
+			@ForAll @IntRange(min = 0, max = 1999) int int2,
+			@ForAll @IntRange(min = 0, max = 1999) int int3
+		) {}
+
+		public void fourIntsFrom0to99999(
+			@ForAll @IntRange(min = 0, max = 99999) int int1,
+			@ForAll @IntRange(min = 0, max = 99999) int int2,
+			@ForAll @IntRange(min = 0, max = 99999) int int3,
+			@ForAll @IntRange(min = 0, max = 99999) int int4
+		) {}
+
+		public void evensAndIntFrom0to2(
+			@ForAll("evens") int even,
+			@ForAll @IntRange(min = 0, max = 2) int int2
+		) {}
+
+		@Provide
+		Arbitrary<Integer> evens() {
+			return Arbitraries.integers().between(0, 9).filter(i -> i % 2 == 0);
+		}
 	}
 }
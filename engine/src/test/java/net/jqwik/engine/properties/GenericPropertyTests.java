@@ -1,7 +1,10 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -500,6 +503,240 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class ConcurrentTries {
+
+		@Example
+		void triesAreExecutedOnWorkerThreads() {
+			Set<String> threadNames = ConcurrentHashMap.newKeySet();
+			CheckedFunction forAllFunction = args -> {
+				threadNames.add(Thread.currentThread().getName());
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("concurrent property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(100);
+
+			assertThat(threadNames).isNotEmpty();
+			assertThat(threadNames).hasSizeLessThanOrEqualTo(4);
+			assertThat(threadNames).allMatch(name -> name.startsWith("jqwik-tries-"));
+		}
+
+		@Example
+		void firstFalsifiedTryInGenerationOrderWins() {
+			int failingTry = 7;
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < failingTry;
+
+			Arbitrary<Object> arbitrary = new OrderedArbitraryForTesting<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withShrinking(OFF).withParallelism(3).build();
+			GenericProperty property =
+				new GenericProperty("falsified property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(failingTry);
+			assertThat(result.countChecks()).isEqualTo(failingTry);
+			assertThat(result.falsifiedParameters().get()).containsExactly(failingTry);
+			assertThat(result.generationInfo().generationIndex()).isEqualTo(failingTry);
+		}
+
+		@Example
+		void slowTryDoesNotHoldBackExecutionOfLaterTries() {
+			CountDownLatch laterTriesExecuted = new CountDownLatch(10);
+			CheckedFunction forAllFunction = args -> {
+				if ((int) args.get(0) == 1) {
+					try {
+						return laterTriesExecuted.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						return false;
+					}
+				}
+				laterTriesExecuted.countDown();
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = new OrderedArbitraryForTesting<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(20).withShrinking(OFF).withParallelism(2).build();
+			GenericProperty property =
+				new GenericProperty("slow first try", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(20);
+		}
+
+		@Example
+		void falsifiedSampleIsShrunkSequentially() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < 50;
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("falsified property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.shrunkSample()).isPresent();
+			assertThat(result.shrunkSample().get().parameters()).containsExactly(50);
+		}
+	}
+
+	@Group
+	class TimeBudget {
+
+		@Example
+		void triesAreRunUntilTimeBudgetIsUsedUp() {
+			CheckedFunction forAllFunction = args -> {
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTimeBudgetSeconds(1).build();
+			GenericProperty property =
+				new GenericProperty("time budgeted property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isBetween(2, 100);
+			assertThat(result.countChecks()).isEqualTo(result.countTries());
+			assertThat(result.triesDuration()).hasValueSatisfying(
+				duration -> assertThat(duration).isGreaterThanOrEqualTo(Duration.ofSeconds(1))
+			);
+		}
+
+		@Example
+		void explicitTriesStopTimeBudgetedPropertyEarly() {
+			CheckedFunction forAllFunction = args -> true;
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(10).withTimeBudgetSeconds(60).build();
+			GenericProperty property =
+				new GenericProperty("time budgeted property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(10);
+		}
+	}
+
+	@Group
+	class Metrics {
+
+		@Example
+		void generationAndExecutionAreMeasured() {
+			CheckedFunction forAllFunction = args -> {
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(10).build();
+			GenericProperty property =
+				new GenericProperty("measured property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.metrics()).hasValueSatisfying(metrics -> {
+				assertThat(metrics.generationTime()).isGreaterThan(Duration.ZERO);
+				assertThat(metrics.executionTime()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+				assertThat(metrics.shrinkingTime()).isEqualTo(Duration.ZERO);
+				assertThat(metrics.filterChecks()).isZero();
+			});
+		}
+
+		@Example
+		void shrinkingIsMeasured() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < 50;
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(1000).build();
+			GenericProperty property =
+				new GenericProperty("falsified property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.metrics()).hasValueSatisfying(
+				metrics -> assertThat(metrics.shrinkingTime()).isGreaterThan(Duration.ZERO)
+			);
+		}
+
+		@Example
+		void filterMissesAreCounted() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) % 2 == 0;
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 100).filter(i -> i % 2 == 0).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).build();
+			GenericProperty property =
+				new GenericProperty("filtered property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.metrics()).hasValueSatisfying(metrics -> {
+				assertThat(metrics.filterChecks()).isGreaterThan(metrics.filterMisses());
+				assertThat(metrics.filterMisses()).isPositive();
+				assertThat(metrics.filterMissRatio()).isBetween(0.0, 1.0);
+			});
+		}
+
+		@Example
+		void metricsAreOnlyPublishedWithReportingMetrics() {
+			CheckedFunction forAllFunction = args -> true;
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			PropertyConfiguration configuration = aConfig().withTries(10).build();
+
+			List<String> publishedKeys = new ArrayList<>();
+			Reporter reporter = new Reporter() {
+				@Override
+				public void publishValue(String key, String value) {
+				}
+
+				@Override
+				public void publishReport(String key, Object object) {
+				}
+
+				@Override
+				public void publishReports(String key, Map<String, Object> objects) {
+					publishedKeys.add(key);
+					assertThat(objects).containsKeys("generation-time", "execution-time", "shrinking-time");
+				}
+			};
+
+			new GenericProperty("unreported", configuration, randomizedShrinkablesGenerator(arbitrary), forAllFunction, tryLifecycleContextSupplier)
+				.check(reporter, new Reporting[0]);
+			assertThat(publishedKeys).isEmpty();
+
+			new GenericProperty("reported", configuration, randomizedShrinkablesGenerator(arbitrary), forAllFunction, tryLifecycleContextSupplier)
+				.check(reporter, new Reporting[]{Reporting.METRICS});
+			assertThat(publishedKeys).containsExactly("metrics");
+		}
+	}
+
 	private ParametersGenerator randomizedShrinkablesGenerator(Arbitrary<Object>... arbitraries) {
 		Random random = SourceOfRandomness.current();
 		List<Arbitrary<Object>> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
@@ -22,6 +22,8 @@ class PropertyConfigurationBuilder {
 	private AfterFailureMode afterFailureMode = null;
 	private EdgeCasesMode edgeCasesMode = null;
 	private FixedSeedMode fixedSeedMode = null;
+	private Integer parallelism = null;
+	private Integer timeBudgetSeconds = null;
 
 	PropertyConfigurationBuilder withSeed(String seed) {
 		this.seed = seed;
@@ -68,6 +70,16 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	public PropertyConfigurationBuilder withParallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withTimeBudgetSeconds(int timeBudgetSeconds) {
+		this.timeBudgetSeconds = timeBudgetSeconds;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
@@ -78,7 +90,9 @@ class PropertyConfigurationBuilder {
 			edgeCasesMode,
 			null,
 			seed,
-			fixedSeedMode
+			fixedSeedMode,
+			parallelism,
+			timeBudgetSeconds
 		);
 
 		return new PropertyConfiguration(
@@ -86,7 +100,7 @@ class PropertyConfigurationBuilder {
 			TestHelper.propertyAttributesDefaults(),
 			generationInfo,
 			seed,
-			tries,
+			tries == null ? null : tries.longValue(),
 			generationMode
 		);
 
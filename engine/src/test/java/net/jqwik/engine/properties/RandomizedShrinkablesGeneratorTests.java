@@ -2,10 +2,13 @@ package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
 import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.ProvideGenerationSourceHook.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.support.*;
@@ -38,6 +41,43 @@ class RandomizedShrinkablesGeneratorTests {
 		assertThat(values(shrinkablesGenerator.next())).isEqualTo(values3);
 	}
 
+	@Property(tries = 10)
+	void skippingLeadsToSameSamplesAsGenerating(
+		@ForAll Random random,
+		@ForAll EdgeCasesMode edgeCasesMode,
+		@ForAll @IntRange(max = 200) int toSkip
+	) {
+		long seed = random.nextLong();
+		RandomizedShrinkablesGenerator generating = createGenerator(new Random(seed), "simpleParameters", edgeCasesMode);
+		RandomizedShrinkablesGenerator skipping = createGenerator(new Random(seed), "simpleParameters", edgeCasesMode);
+
+		for (int i = 0; i < toSkip; i++) {
+			generating.next();
+		}
+		assertThat(skipping.skip(toSkip)).isTrue();
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(values(skipping.next())).isEqualTo(values(generating.next()));
+		}
+		assertThat(skipping.edgeCasesTried()).isEqualTo(generating.edgeCasesTried());
+	}
+
+	@Example
+	void resettingAlsoRestartsEdgeCases(@ForAll Random random) {
+		RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "simpleParameters", EdgeCasesMode.FIRST);
+
+		List<List<Object>> firstRun = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			firstRun.add(values(shrinkablesGenerator.next()));
+		}
+
+		shrinkablesGenerator.reset();
+		assertThat(shrinkablesGenerator.edgeCasesTried()).isZero();
+		for (int i = 0; i < 50; i++) {
+			assertThat(values(shrinkablesGenerator.next())).isEqualTo(firstRun.get(i));
+		}
+	}
+
 	@Example
 	void severalFittingArbitraries(@ForAll Random random) {
 
@@ -68,6 +108,86 @@ class RandomizedShrinkablesGeneratorTests {
 		assertAtLeastOneGenerated(shrinkablesGenerator, asList("b", 3));
 	}
 
+	@Property(tries = 10)
+	void valueOnlyTriesRecreateSameShrinkables(
+		@ForAll Random random,
+		@ForAll EdgeCasesMode edgeCasesMode
+	) {
+		RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "valueOnlyParameters", edgeCasesMode);
+
+		for (int i = 0; i < 20; i++) {
+			List<Shrinkable<Object>> shrinkables = shrinkablesGenerator.next();
+
+			// First value is the generated one, all later values come from recreated shrinkables
+			Object[] generatedValues = values(shrinkables).toArray();
+			Object[] recreatedValues = values(shrinkables).toArray();
+			assertThat(recreatedValues).isEqualTo(generatedValues);
+			for (Shrinkable<Object> shrinkable : shrinkables) {
+				assertThat(shrinkable.distance()).isNotNull();
+				assertThat(shrinkable.shrink().limit(10).map(Shrinkable::value)).doesNotContainNull();
+			}
+		}
+	}
+
+	@Example
+	void noValuesAreGeneratedIfLaterParameterCannotGenerateValuesOnly(@ForAll Random random) {
+		AtomicInteger mappedStrings = new AtomicInteger();
+		ArbitraryResolver arbitraryResolver = parameter -> {
+			if (parameter.getType().equals(String.class)) {
+				return Collections.singleton(Arbitraries.strings().map(s -> {
+					mappedStrings.incrementAndGet();
+					return s;
+				}));
+			}
+			return Collections.singleton(Arbitraries.integers().flatMap(Arbitraries::just));
+		};
+		RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "simpleParameters", arbitraryResolver);
+
+		for (int i = 0; i < 10; i++) {
+			shrinkablesGenerator.next().get(0).value();
+		}
+
+		assertThat(mappedStrings.get()).isEqualTo(10);
+	}
+
+	@Example
+	void regeneratingValueOnlyTryIsNotCountedAsGeneration(@ForAll Random random) {
+		ArbitraryResolver arbitraryResolver = parameter -> Collections.singleton(
+			parameter.getType().equals(String.class)
+				? Arbitraries.strings()
+				: Arbitraries.integers().filter(i -> i % 2 == 0)
+		);
+		RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "simpleParameters", arbitraryResolver);
+		DefaultPropertyMetrics metrics = new DefaultPropertyMetrics();
+
+		List<Shrinkable<Object>> shrinkables = metrics.runWithMetrics(shrinkablesGenerator::next);
+		long checksOfGeneration = metrics.filterChecks();
+		assertThat(checksOfGeneration).isPositive();
+
+		metrics.runWithMetrics(() -> shrinkables.get(1).distance());
+		assertThat(metrics.filterChecks()).isEqualTo(checksOfGeneration);
+	}
+
+	@Property(tries = 10)
+	void parameterValuesDoNotDependOnOtherParameters(@ForAll Random random) {
+		long seed = random.nextLong();
+		RandomizedShrinkablesGenerator stringAndInt = createGenerator(new Random(seed), "simpleParameters");
+		RandomizedShrinkablesGenerator stringAndList = createGenerator(new Random(seed), "stringAndList");
+
+		for (int i = 0; i < 20; i++) {
+			Object aString = stringAndInt.next().get(0).value();
+			assertThat(stringAndList.next().get(0).value()).isEqualTo(aString);
+		}
+	}
+
+	@Example
+	void randomTriesAreGeneratedValueOnly(@ForAll Random random) {
+		RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "valueOnlyParameters");
+		List<Shrinkable<Object>> shrinkables = shrinkablesGenerator.next();
+
+		assertThat(shrinkables).allMatch(shrinkable -> shrinkable.getClass().getEnclosingClass() == ValueOnlyTry.class);
+	}
+
 	@Example
 	void sameTypeVariableGetsSameArbitrary(@ForAll Random random) {
 
@@ -141,18 +261,54 @@ class RandomizedShrinkablesGeneratorTests {
 	}
 
 	private RandomizedShrinkablesGenerator createGenerator(Random random, String methodName) {
+		return createGenerator(random, methodName, EdgeCasesMode.NONE);
+	}
+
+	private RandomizedShrinkablesGenerator createGenerator(Random random, String methodName, EdgeCasesMode edgeCasesMode) {
 		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
 			new MyProperties(),
 			DomainContext.global()
 		);
-		return createGenerator(random, methodName, arbitraryResolver);
+		return createGenerator(random, methodName, arbitraryResolver, edgeCasesMode);
 	}
 
 	private RandomizedShrinkablesGenerator createGenerator(Random random, String methodName, ArbitraryResolver arbitraryResolver) {
+		return createGenerator(random, methodName, arbitraryResolver, EdgeCasesMode.NONE);
+	}
+
+	private RandomizedShrinkablesGenerator createGenerator(
+		Random random,
+		String methodName,
+		EdgeCasesMode edgeCasesMode,
+		GenerationSource generationSource
+	) {
+		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
+			new MyProperties(),
+			DomainContext.global()
+		);
+		return createGenerator(random, methodName, arbitraryResolver, edgeCasesMode, generationSource);
+	}
+
+	private RandomizedShrinkablesGenerator createGenerator(
+		Random random,
+		String methodName,
+		ArbitraryResolver arbitraryResolver,
+		EdgeCasesMode edgeCasesMode
+	) {
+		return createGenerator(random, methodName, arbitraryResolver, edgeCasesMode, GenerationSource.DEFAULT);
+	}
+
+	private RandomizedShrinkablesGenerator createGenerator(
+		Random random,
+		String methodName,
+		ArbitraryResolver arbitraryResolver,
+		EdgeCasesMode edgeCasesMode,
+		GenerationSource generationSource
+	) {
 		PropertyMethodDescriptor methodDescriptor = createDescriptor(methodName);
 		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
 
-		return RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random, 1000, EdgeCasesMode.NONE);
+		return RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random, 1000, edgeCasesMode, generationSource);
 	}
 
 	private PropertyMethodDescriptor createDescriptor(String methodName) {
@@ -163,6 +319,15 @@ class RandomizedShrinkablesGeneratorTests {
 
 		public void simpleParameters(@ForAll String aString, @ForAll int anInt) {}
 
+		public void stringAndList(@ForAll String aString, @ForAll List<Integer> aList) {}
+
+		public void valueOnlyParameters(
+			@ForAll int anInt,
+			@ForAll List<@IntRange(max = 100) Integer> aList,
+			@ForAll String aString,
+			@ForAll long[] anArray
+		) {}
+
 		public <T> void twiceTypeVariableT(@ForAll T t1, @ForAll T t2) {}
 
 		public <T> void typeVariableAlsoInList(@ForAll T t, @ForAll List<T> tList) {}
@@ -0,0 +1,88 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UniquenessIndexTests {
+
+	@Example
+	void addIfUnique() {
+		UniquenessIndex<String> index = new UniquenessIndex<>(asList(s -> s.length()));
+
+		assertThat(index.addIfUnique("a")).isTrue();
+		assertThat(index.addIfUnique("bb")).isTrue();
+		assertThat(index.addIfUnique("c")).isFalse();
+		assertThat(index.isUnique("ccc")).isTrue();
+		assertThat(index.isUnique("dd")).isFalse();
+	}
+
+	@Example
+	void allExtractorsMustBeUnique() {
+		UniquenessIndex<Integer> index = UniquenessIndex.of(
+			asList(FeatureExtractor.identity(), i -> i % 10),
+			asList(1, 2, 3)
+		);
+
+		assertThat(index.isUnique(4)).isTrue();
+		assertThat(index.isUnique(3)).isFalse();
+		assertThat(index.isUnique(13)).isFalse();
+	}
+
+	@Example
+	void addReportsDuplicatesAndRemoveOnlyRemovesOneOccurrence() {
+		UniquenessIndex<Integer> index = new UniquenessIndex<>(asList(FeatureExtractor.identity()));
+
+		assertThat(index.add(1)).isTrue();
+		assertThat(index.add(1)).isFalse();
+
+		index.remove(1);
+		assertThat(index.isUnique(1)).isFalse();
+		index.remove(1);
+		assertThat(index.isUnique(1)).isTrue();
+	}
+
+	@Example
+	void isUniqueReplacing() {
+		UniquenessIndex<Integer> index = UniquenessIndex.of(
+			asList(i -> i % 10),
+			asList(11, 22, 33)
+		);
+
+		assertThat(index.isUniqueReplacing(11, 1)).isTrue();
+		assertThat(index.isUniqueReplacing(11, 4)).isTrue();
+		assertThat(index.isUniqueReplacing(11, 2)).isFalse();
+		assertThat(index.isUniqueReplacing(33, 23)).isTrue();
+		assertThat(index.isUniqueReplacing(33, 12)).isFalse();
+	}
+
+	@Example
+	void nullFeaturesAreComparedLikeOtherFeatures() {
+		UniquenessIndex<String> index = new UniquenessIndex<>(asList(s -> s.isEmpty() ? null : s));
+
+		assertThat(index.addIfUnique("")).isTrue();
+		assertThat(index.addIfUnique("")).isFalse();
+		assertThat(index.addIfUnique("a")).isTrue();
+	}
+
+	@Example
+	void extractorThrowingNullPointerExceptionHasNullFeature() {
+		UniquenessIndex<List<String>> index = new UniquenessIndex<>(asList(list -> list.get(0).length()));
+
+		assertThat(index.addIfUnique(Collections.singletonList(null))).isTrue();
+		assertThat(index.addIfUnique(Collections.singletonList(null))).isFalse();
+	}
+
+	@Example
+	void noExtractors() {
+		UniquenessIndex<Integer> index = new UniquenessIndex<>(Collections.emptyList());
+
+		assertThat(index.isEmpty()).isTrue();
+		assertThat(index.addIfUnique(1)).isTrue();
+		assertThat(index.addIfUnique(1)).isTrue();
+	}
+}
@@ -9,6 +9,9 @@ import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.edgeCases.*;
 import net.jqwik.api.statistics.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -259,6 +262,15 @@ class DefaultStringArbitraryTests implements GenericEdgeCasesProperties, Generic
 		);
 	}
 
+	@Example
+	void stringsFromSingleCharRangeAreGeneratedAsCharArrays(@ForAll Random random) {
+		Shrinkable<String> fromRange = arbitrary.numeric().excludeChars('0').generator(10).next(random);
+		assertThat(fromRange).isInstanceOf(ShrinkableCharString.class);
+
+		Shrinkable<String> fromSeveralRanges = arbitrary.alpha().generator(10).next(random);
+		assertThat(fromSeveralRanges).isInstanceOf(ShrinkableString.class);
+	}
+
 	@Group
 	class Coverage {
 		@Property
@@ -352,6 +364,52 @@ class DefaultStringArbitraryTests implements GenericEdgeCasesProperties, Generic
 
 	}
 
+	@Group
+	@PropertyDefaults(tries = 20)
+	class RepeatCharsInSeveralProperties {
+
+		@Property
+		void firstProperty(@ForAll Random random) {
+			assertPreviousCharsAreResetForEachTry(random);
+		}
+
+		@Property
+		void secondProperty(@ForAll Random random) {
+			assertPreviousCharsAreResetForEachTry(random);
+		}
+
+		// Both properties use an equal arbitrary and would share its generator if it were cacheable
+		private void assertPreviousCharsAreResetForEachTry(Random random) {
+			Arbitrary<String> arbitrary = Arbitraries.strings().withChars("jqwik").ofLength(2).repeatChars(0.5);
+			RandomGenerator<String> generator = Memoize.memoizedGenerator(arbitrary, 1000, false, () -> arbitrary.generator(1000, false));
+
+			PreviousCharsRecordingRandom recordingRandom = new PreviousCharsRecordingRandom(random.nextLong());
+			generator.next(recordingRandom);
+
+			// A previous char is chosen by index from all chars generated in the current try
+			assertThat(recordingRandom.maxPreviousChars).isLessThanOrEqualTo(2);
+		}
+
+		private class PreviousCharsRecordingRandom extends Random {
+			private static final long serialVersionUID = 1L;
+
+			private int maxPreviousChars = 0;
+
+			private PreviousCharsRecordingRandom(long seed) {
+				super(seed);
+			}
+
+			@Override
+			public int nextInt(int bound) {
+				String caller = new Throwable().getStackTrace()[1].getClassName();
+				if (caller.equals(InjectDuplicatesGenerator.class.getName())) {
+					maxPreviousChars = Math.max(maxPreviousChars, bound);
+				}
+				return super.nextInt(bound);
+			}
+		}
+	}
+
 	@Group
 	@PropertyDefaults(tries = 100)
 	class InvalidValues {
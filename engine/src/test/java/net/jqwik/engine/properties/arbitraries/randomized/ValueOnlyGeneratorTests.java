@@ -0,0 +1,67 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ValueOnlyGeneratorTests {
+
+	@Property(tries = 200)
+	void valuesAreEqualToValuesOfShrinkablesFromSameSeed(
+		@ForAll("valueOnlyArbitraries") Arbitrary<Object> arbitrary,
+		@ForAll boolean withEdgeCases,
+		@ForAll long seed
+	) {
+		RandomGenerator<Object> generator = arbitrary.generator(1000, withEdgeCases);
+		assertThat(ValueOnlyGenerator.canGenerateValuesOnly(generator)).isTrue();
+
+		ValueOnlyGenerator<Object> valueOnlyGenerator = (ValueOnlyGenerator<Object>) generator;
+		Random valuesRandom = new Random(seed);
+		Random shrinkablesRandom = new Random(seed);
+		for (int i = 0; i < 10; i++) {
+			Object value = valueOnlyGenerator.nextValue(valuesRandom);
+			Object shrinkableValue = generator.next(shrinkablesRandom).value();
+			assertThat(Objects.deepEquals(value, shrinkableValue))
+				.describedAs("%s is not equal to %s", value, shrinkableValue)
+				.isTrue();
+		}
+	}
+
+	@Provide
+	Arbitrary<Arbitrary<?>> valueOnlyArbitraries() {
+		return Arbitraries.of(
+			Arbitraries.integers(),
+			Arbitraries.longs().between(-100, 100),
+			Arbitraries.bigIntegers(),
+			Arbitraries.integers().filter(i -> i % 3 == 0).map(i -> i * 2),
+			Arbitraries.strings(),
+			Arbitraries.strings().withCharRange('a', 'z').ofMinLength(1),
+			Arbitraries.integers().between(0, 1000).list().ofMaxSize(50),
+			Arbitraries.integers().between(0, 100).list().ofMaxSize(50).uniqueElements(i -> i % 50),
+			Arbitraries.integers().between(0, 10).set().ofMaxSize(5),
+			Arbitraries.bytes().array(byte[].class).ofMaxSize(20),
+			Arbitraries.integers().array(Integer[].class).ofMaxSize(20),
+			Arbitraries.of("a", "b", "c").list()
+		);
+	}
+
+	@Example
+	void generatorsThatCannotGenerateValuesOnly() {
+		RandomGenerator<Integer> flatMapped = Arbitraries.integers().flatMap(i -> Arbitraries.just(i)).generator(1000);
+		assertThat(ValueOnlyGenerator.canGenerateValuesOnly(flatMapped)).isFalse();
+
+		RandomGenerator<List<Integer>> listOfFlatMapped = Arbitraries.integers().flatMap(i -> Arbitraries.just(i)).list().generator(1000);
+		assertThat(ValueOnlyGenerator.canGenerateValuesOnly(listOfFlatMapped)).isFalse();
+
+		RandomGenerator<Integer> withDuplicates = Arbitraries.integers().injectDuplicates(0.5).generator(1000);
+		assertThat(ValueOnlyGenerator.canGenerateValuesOnly(withDuplicates)).isFalse();
+	}
+
+	@Example
+	void nextValueFallsBackToShrinkableForOtherGenerators(@ForAll Random random) {
+		RandomGenerator<String> generator = ignored -> Shrinkable.unshrinkable("fixed");
+		assertThat(ValueOnlyGenerator.nextValue(generator, random)).isEqualTo("fixed");
+	}
+}
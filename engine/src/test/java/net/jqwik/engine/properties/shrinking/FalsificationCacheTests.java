@@ -0,0 +1,95 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class FalsificationCacheTests {
+
+	@Example
+	void cachedResultsAreFound() {
+		FalsificationCache cache = new FalsificationCache();
+		TryExecutionResult falsified = TryExecutionResult.falsified(new AssertionError());
+		cache.put(asList(1, "a"), falsified);
+		cache.put(asList(2, "b"), TryExecutionResult.satisfied());
+
+		assertThat(cache.get(asList(1, "a"))).hasValue(falsified);
+		assertThat(cache.get(asList(2, "b")).map(TryExecutionResult::status)).hasValue(TryExecutionResult.Status.SATISFIED);
+		assertThat(cache.get(asList(3, "c"))).isEmpty();
+	}
+
+	@Example
+	void hitsAndMissesAreCounted() {
+		FalsificationCache cache = new FalsificationCache();
+		cache.put(asList(1), TryExecutionResult.satisfied());
+
+		cache.get(asList(1));
+		cache.get(asList(1));
+		cache.get(asList(2));
+		cache.contains(asList(2));
+
+		assertThat(cache.hits()).isEqualTo(2);
+		assertThat(cache.misses()).isEqualTo(1);
+		assertThat(cache.hitRate()).isCloseTo(2.0 / 3, within(0.001));
+	}
+
+	@Example
+	void leastRecentlyUsedEntryIsEvictedWhenMaxEntriesAreExceeded() {
+		FalsificationCache cache = new FalsificationCache(2, 1000, 100);
+		cache.put(asList(1), TryExecutionResult.satisfied());
+		cache.put(asList(2), TryExecutionResult.satisfied());
+		cache.get(asList(1));
+		cache.put(asList(3), TryExecutionResult.satisfied());
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.evictions()).isEqualTo(1);
+		assertThat(cache.contains(asList(1))).isTrue();
+		assertThat(cache.contains(asList(2))).isFalse();
+		assertThat(cache.contains(asList(3))).isTrue();
+	}
+
+	@Example
+	void entriesAreEvictedWhenMaxWeightIsExceeded() {
+		FalsificationCache cache = new FalsificationCache(100, 25, 100);
+		cache.put(asList(listOfSize(10)), TryExecutionResult.satisfied());
+		cache.put(asList(listOfSize(11)), TryExecutionResult.satisfied());
+		assertThat(cache.evictions()).isEqualTo(0);
+
+		cache.put(asList("abcde"), TryExecutionResult.satisfied());
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.evictions()).isEqualTo(1);
+		assertThat(cache.contains(asList(listOfSize(10)))).isFalse();
+	}
+
+	@Example
+	void resultsOfHeavyParametersAreNotCached() {
+		FalsificationCache cache = new FalsificationCache(100, 10, 5);
+		cache.put(asList(listOfSize(100)), TryExecutionResult.satisfied());
+		cache.put(asList(listOfSize(200)), TryExecutionResult.falsified(null));
+
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.contains(asList(listOfSize(100)))).isFalse();
+		assertThat(cache.get(asList(listOfSize(100)))).isEmpty();
+		assertThat(cache.get(asList(listOfSize(200)))).isEmpty();
+		assertThat(cache.misses()).isEqualTo(2);
+	}
+
+	@Example
+	void weightOfParameters() {
+		List<Object> parameters = asList(1, "abc", listOfSize(5), new int[7], Collections.singletonMap(1, 2), null);
+		assertThat(FalsificationCache.weightOf(parameters)).isEqualTo(1 + 4 + 6 + 8 + 2 + 1);
+	}
+
+	private List<Integer> listOfSize(int size) {
+		List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			list.add(i);
+		}
+		return list;
+	}
+}
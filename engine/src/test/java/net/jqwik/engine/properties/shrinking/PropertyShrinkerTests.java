@@ -4,6 +4,7 @@ import java.math.*;
 import java.util.ArrayList;
 import java.util.*;
 import java.util.function.*;
+import java.util.logging.*;
 import java.util.stream.*;
 
 import org.mockito.*;
@@ -306,6 +307,84 @@ class PropertyShrinkerTests {
 		}
 	}
 
+	@Group
+	class ConcurrentShrinking {
+
+		@Property(tries = 20)
+		void concurrentShrinkingLeadsToSameResultAndSequenceAsSequentialShrinking(
+			@ForAll @Size(min = 2, max = 4) List<@IntRange(min = 0, max = 100) Integer> values,
+			@ForAll @IntRange(min = 0, max = 150) int limit
+		) {
+			int[] ints = values.stream().mapToInt(i -> i).toArray();
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				int sum = params.stream().mapToInt(p -> (int) p).sum();
+				return sum < limit || (int) params.get(0) % 3 == 1;
+			};
+			Assume.that(falsifier.execute(new ArrayList<>(values)).isFalsified());
+
+			PropertyShrinker sequentialShrinker = createShrinker(toFalsifiedSample(listOfOneStepShrinkables(ints), null), ShrinkingMode.FULL);
+			ShrunkFalsifiedSample sequentialSample = sequentialShrinker.shrink(falsifier);
+
+			PropertyShrinker concurrentShrinker = createShrinker(toFalsifiedSample(listOfOneStepShrinkables(ints), null), ShrinkingMode.FULL, 10, 4);
+			ShrunkFalsifiedSample concurrentSample = concurrentShrinker.shrink(falsifier);
+
+			assertThat(concurrentSample.parameters()).isEqualTo(sequentialSample.parameters());
+			assertThat(concurrentSample.countShrinkingSteps()).isEqualTo(sequentialSample.countShrinkingSteps());
+			assertThat(concurrentShrinker.shrinkingSequence()).isEqualTo(sequentialShrinker.shrinkingSequence());
+		}
+
+		@Property(tries = 10)
+		void shrinkingResultDoesNotDependOnParallelismOrOrderOfFinishedEvaluations(
+			@ForAll @Size(min = 2, max = 3) List<@IntRange(min = 0, max = 30) Integer> values,
+			@ForAll @IntRange(min = 2, max = 8) int parallelism
+		) {
+			int[] ints = values.stream().mapToInt(i -> i).toArray();
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				int first = (int) params.get(0);
+				// Smaller candidates come first and finish last
+				sleepMillis(first < 5 ? 2 : 0);
+				return params.stream().mapToInt(p -> (int) p).sum() < 10;
+			};
+			Assume.that(falsifier.execute(new ArrayList<>(values)).isFalsified());
+
+			PropertyShrinker sequentialShrinker = createShrinker(toFalsifiedSample(listOfFullShrinkables(ints), null), ShrinkingMode.FULL);
+			ShrunkFalsifiedSample sequentialSample = sequentialShrinker.shrink(falsifier);
+
+			PropertyShrinker concurrentShrinker =
+				createShrinker(toFalsifiedSample(listOfFullShrinkables(ints), null), ShrinkingMode.FULL, 10, parallelism);
+			ShrunkFalsifiedSample concurrentSample = concurrentShrinker.shrink(falsifier);
+
+			assertThat(concurrentSample.parameters()).isEqualTo(sequentialSample.parameters());
+			assertThat(concurrentShrinker.shrinkingSequence()).isEqualTo(sequentialShrinker.shrinkingSequence());
+		}
+
+		private void sleepMillis(int millis) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Example
+		void candidatesAreEvaluatedOnSeveralThreads() {
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(50, 50);
+			Set<String> evaluatingThreads = Collections.synchronizedSet(new HashSet<>());
+
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL, 10, 4);
+
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				evaluatingThreads.add(Thread.currentThread().getName());
+				return (int) params.get(0) + (int) params.get(1) < 20;
+			};
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(sample.parameters()).isEqualTo(asList(0, 20));
+			assertThat(evaluatingThreads).hasSizeGreaterThan(1);
+			assertThat(evaluatingThreads).allMatch(name -> name.startsWith("jqwik-tries-"));
+		}
+	}
+
 	@Group
 	class FalsifiedSampleReporting {
 
@@ -331,6 +410,23 @@ class PropertyShrinkerTests {
 			verify(falsifiedSampleReporter, times(15)).accept(any(FalsifiedSampleImpl.class));
 		}
 
+		@Example
+		void cacheStatisticsCanBeLoggedWithoutTargetMethod() {
+			Logger logger = Logger.getLogger(PropertyShrinker.class.getName());
+			Level previousLevel = logger.getLevel();
+			logger.setLevel(Level.FINE);
+			try {
+				List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(5);
+				PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL);
+
+				ShrunkFalsifiedSample sample = shrinker.shrink(ignore -> TryExecutionResult.falsified(null));
+
+				assertThat(sample.parameters()).isEqualTo(asList(0));
+			} finally {
+				logger.setLevel(previousLevel);
+			}
+		}
+
 	}
 
 	@Group
@@ -508,10 +604,20 @@ class PropertyShrinkerTests {
 	}
 
 	private PropertyShrinker createShrinker(FalsifiedSample originalSample, ShrinkingMode shrinkingMode, int boundedShrinkingSeconds) {
+		return createShrinker(originalSample, shrinkingMode, boundedShrinkingSeconds, 1);
+	}
+
+	private PropertyShrinker createShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int parallelism
+	) {
 		return new PropertyShrinker(
 			originalSample,
 			shrinkingMode,
 			boundedShrinkingSeconds,
+			parallelism,
 			falsifiedSampleReporter,
 			null
 		);
@@ -0,0 +1,143 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.support.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
+
+@Group
+@Label("ShrinkableCharString")
+class ShrinkableCharStringTests {
+
+	@Example
+	void creation() {
+		Shrinkable<String> shrinkable = createShrinkableString("abcd", 0);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(4, 6));
+		assertThat(shrinkable.value()).isEqualTo("abcd");
+		assertThat(shrinkable.value()).isSameAs(shrinkable.value());
+	}
+
+	@Example
+	void sameDistanceAsShrinkableString() {
+		Shrinkable<String> charString = createShrinkableString("xyz", 0);
+		Shrinkable<String> string = ShrinkableStringTests.createShrinkableString("xyz", 0);
+		assertThat(charString.distance()).isEqualTo(string.distance());
+	}
+
+	@Group
+	class Shrinking {
+
+		@Property(tries = 100)
+		void longStrings(@ForAll @CharRange(from = 'a', to = 'z') @StringLength(min = 1000, max = Short.MAX_VALUE) String any) {
+			Shrinkable<String> shrinkable = createShrinkableString(any, 1);
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEqualTo("a");
+		}
+
+		@Example
+		void downAllTheWay() {
+			Shrinkable<String> shrinkable = createShrinkableString("abc", 0);
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEmpty();
+		}
+
+		@Example
+		void downToMinSize() {
+			Shrinkable<String> shrinkable = createShrinkableString("aaaaa", 2);
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEqualTo("aa");
+		}
+
+		@Example
+		void downToNonEmpty() {
+			Shrinkable<String> shrinkable = createShrinkableString("abcd", 0);
+			String shrunkValue = shrink(shrinkable, falsifier(String::isEmpty), null);
+			assertThat(shrunkValue).isEqualTo("a");
+		}
+
+		@Example
+		void alsoShrinkCharacters() {
+			Shrinkable<String> shrinkable = createShrinkableString("bbb", 0);
+			TestingFalsifier<String> falsifier = aString -> aString.length() <= 1;
+			String shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo("aa");
+		}
+
+		@Example
+		void charactersShrinkToAllowedCharsOnly() {
+			Shrinkable<String> shrinkable = new ShrinkableCharString("zzz".toCharArray(), 3, 3, 'a', 'z', c -> c != 'a' && c != 'b');
+			String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEqualTo("ccc");
+		}
+
+		@Example
+		void withFilterOnStringContents() {
+			Shrinkable<String> shrinkable = createShrinkableString("ddd", 0);
+
+			TestingFalsifier<String> falsifier = ignore -> false;
+			Falsifier<String> filteredFalsifier =
+				falsifier.withFilter(aString -> aString.startsWith("d") || aString.startsWith("b"));
+
+			String shrunkValue = shrink(shrinkable, filteredFalsifier, null);
+			assertThat(shrunkValue).isEqualTo("b");
+		}
+
+		@Example
+		void shrinkCharacterPairsTogether() {
+			Shrinkable<String> shrinkable = createShrinkableString("xxxx", 2);
+
+			TestingFalsifier<String> falsifier =
+				string -> {
+					Set<Integer> usedLetters = string.chars().boxed().collect(CollectorsSupport.toLinkedHashSet());
+					return usedLetters.size() != 1;
+				};
+
+			String shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo("aa");
+		}
+
+		@Example
+		void shrinkToSortedString() {
+			Shrinkable<String> shrinkable = createShrinkableString("cdab", 4);
+
+			TestingFalsifier<String> falsifier =
+				string -> {
+					int sum = string.chars().map(c -> c - 'a').sum();
+					return sum < 6;
+				};
+
+			String shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo("abcd");
+		}
+
+		@Example
+		void longString() {
+			String aString = IntStream.range(0, 1000).mapToObj(i -> "z").collect(Collectors.joining());
+			Shrinkable<String> shrinkable = new ShrinkableCharString(aString.toCharArray(), 5, 1000, 'a', 'z', c -> true);
+			String shrunkValue = shrink(shrinkable, (TestingFalsifier<String>) String::isEmpty, null);
+			assertThat(shrunkValue).isEqualTo("aaaaa");
+		}
+	}
+
+	@Example
+	void growRemovedCharactersBack() {
+		Shrinkable<String> before = createShrinkableString("abc", 0);
+		Shrinkable<String> after = createShrinkableString("c", 0);
+		Shrinkable<String> toGrow = new ShrinkableCharString("x".toCharArray(), 0, 5, 'a', 'z', c -> true);
+
+		Optional<Shrinkable<String>> grown = toGrow.grow(before, after);
+		assertThat(grown.map(Shrinkable::value)).hasValue("bax");
+	}
+
+	static Shrinkable<String> createShrinkableString(String aString, int minSize) {
+		return new ShrinkableCharString(aString.toCharArray(), minSize, aString.length(), 'a', 'z', c -> true);
+	}
+}
@@ -0,0 +1,153 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
+
+@Group
+@Label("ShrinkableIntegralArray")
+class ShrinkableIntegralArrayTests {
+
+	@Example
+	void creation() {
+		Shrinkable<int[]> shrinkable = createShrinkableInts(0, 1, 2, 3);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(3, 6));
+		assertThat(shrinkable.value()).containsExactly(1, 2, 3);
+	}
+
+	@Example
+	void valueIsCopiedForEachAccess() {
+		Shrinkable<int[]> shrinkable = createShrinkableInts(0, 1, 2, 3);
+		int[] value = shrinkable.value();
+		value[0] = 42;
+		assertThat(shrinkable.value()).containsExactly(1, 2, 3);
+	}
+
+	@Example
+	void distanceIsSaturated() {
+		Shrinkable<long[]> shrinkable = new ShrinkableIntegralArray<>(
+			new long[]{Long.MAX_VALUE, Long.MIN_VALUE},
+			IntegralArrayType.LONG, 0, 10, Long.MIN_VALUE, Long.MAX_VALUE, 0L
+		);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(2, Long.MAX_VALUE));
+	}
+
+	@Example
+	void equality() {
+		assertThat(createShrinkableInts(0, 1, 2)).isEqualTo(createShrinkableInts(0, 1, 2));
+		assertThat(createShrinkableInts(0, 1, 2)).hasSameHashCodeAs(createShrinkableInts(0, 1, 2));
+		assertThat(createShrinkableInts(0, 1, 2)).isNotEqualTo(createShrinkableInts(0, 2, 1));
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void downAllTheWay() {
+			Shrinkable<int[]> shrinkable = createShrinkableInts(0, 5, 10, 15, 20);
+			int[] shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).isEmpty();
+		}
+
+		@Example
+		void downToMinSize() {
+			Shrinkable<int[]> shrinkable = createShrinkableInts(2, 5, 10, 15, 20);
+			int[] shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).containsExactly(0, 0);
+		}
+
+		@Example
+		void firstCandidatesRemoveLargestChunks() {
+			Shrinkable<int[]> shrinkable = createShrinkableInts(0, 1, 2, 3, 4, 5);
+			List<int[]> candidates = shrinkable.shrink().limit(3).map(Shrinkable::value).collect(Collectors.toList());
+			assertThat(candidates.get(0)).isEmpty();
+			assertThat(candidates.get(1)).containsExactly(1, 2, 3);
+			assertThat(candidates.get(2)).containsExactly(3, 4, 5);
+		}
+
+		@Example
+		void shrinkElementsTowardsTarget() {
+			Shrinkable<int[]> shrinkable = new ShrinkableIntegralArray<>(
+				new int[]{100, -100, 50}, IntegralArrayType.INT, 3, 3, -1000, 1000, 10
+			);
+			int[] shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+			assertThat(shrunkValue).containsExactly(10, 10, 10);
+		}
+
+		@Example
+		void shrinkWithFalsifierOnSum() {
+			Shrinkable<int[]> shrinkable = createShrinkableInts(0, 30, 40, 50, 60, 70);
+			TestingFalsifier<int[]> falsifier = ints -> IntStream.of(ints).sum() < 100;
+			int[] shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(IntStream.of(shrunkValue).sum()).isEqualTo(100);
+		}
+
+		@Example
+		void shrinkBytesWithinRange() {
+			Shrinkable<byte[]> shrinkable = new ShrinkableIntegralArray<>(
+				new byte[]{-128, 127, 5}, IntegralArrayType.BYTE, 0, 10, Byte.MIN_VALUE, Byte.MAX_VALUE, 0L
+			);
+			TestingFalsifier<byte[]> falsifier = bytes -> bytes.length < 2 || bytes[0] >= bytes[1];
+			byte[] shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(0, 1);
+		}
+
+		@Example
+		void shrinkPairsTogether() {
+			Shrinkable<int[]> shrinkable = createShrinkableInts(2, 10, 10);
+			TestingFalsifier<int[]> falsifier = ints -> ints.length != 2 || ints[0] != ints[1] || ints[0] < 3;
+			int[] shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(3, 3);
+		}
+
+		@Example
+		void shrinkToSortedArray() {
+			Shrinkable<int[]> shrinkable = new ShrinkableIntegralArray<>(
+				new int[]{4, 3, 1, 2}, IntegralArrayType.INT, 4, 4, 1, 4, 1
+			);
+			TestingFalsifier<int[]> falsifier = ints -> IntStream.of(ints).distinct().count() < 4;
+			int[] shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(1, 2, 3, 4);
+		}
+
+		@Example
+		void shrinkSumOfPairToLastValue() {
+			Shrinkable<int[]> shrinkable = createShrinkableInts(2, 17, 8);
+			TestingFalsifier<int[]> falsifier = ints -> ints.length < 2 || IntStream.of(ints).sum() < 20;
+			int[] shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(0, 20);
+		}
+
+		@Example
+		void growRemovedValuesBack() {
+			Shrinkable<int[]> before = createShrinkableInts(0, 5, 7);
+			Shrinkable<int[]> after = createShrinkableInts(0, 7);
+			Shrinkable<int[]> other = createShrinkableInts(0, 3);
+
+			Optional<Shrinkable<int[]>> grown = other.grow(before, after);
+
+			assertThat(grown).isPresent();
+			assertThat(grown.get().value()).containsExactly(5, 3);
+		}
+
+		@Example
+		void shrinkLargeArrayFast() {
+			int[] ints = IntStream.range(0, 10000).toArray();
+			Shrinkable<int[]> shrinkable = new ShrinkableIntegralArray<>(ints, IntegralArrayType.INT, 0, 10000, 0, 10000, 0);
+			TestingFalsifier<int[]> falsifier = array -> IntStream.of(array).noneMatch(i -> i >= 5000);
+			int[] shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(5000);
+		}
+	}
+
+	private static Shrinkable<int[]> createShrinkableInts(int minSize, int... values) {
+		return new ShrinkableIntegralArray<>(values.clone(), IntegralArrayType.INT, minSize, 100, 0, 1000, 0);
+	}
+}
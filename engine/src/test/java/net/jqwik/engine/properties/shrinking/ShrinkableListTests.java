@@ -254,6 +254,15 @@ class ShrinkableListTests {
 			assertThat(shrunkValue).containsExactly(0, 2, 4);
 		}
 
+		@Example
+		void shrinkLargeListWithUniquenessExtractor() {
+			List<Integer> values = IntStream.rangeClosed(51, 100).map(i -> 151 - i).boxed().collect(Collectors.toList());
+			Shrinkable<List<Integer>> shrinkable = createShrinkableList(values, 3, 50, i -> i % 50);
+
+			List<Integer> shrunkValue = shrink(shrinkable, TestingFalsifier.alwaysFalsify(), null);
+			assertThat(shrunkValue).containsExactly(0, 1, 2);
+		}
+
 		@Example
 		void shrinkingNeverCreatesListThatViolatesUniqueness() {
 			List<Integer> values = Arrays.asList(56, 4, 23, 2, 95);
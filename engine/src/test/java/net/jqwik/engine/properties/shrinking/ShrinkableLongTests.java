@@ -0,0 +1,139 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+@Group
+@Label("ShrinkableLong")
+class ShrinkableLongTests {
+
+	@Example
+	void creation() {
+		Shrinkable<Long> shrinkable = createShrinkableLong(25, -100L, 100L);
+		assertThat(shrinkable.value()).isEqualTo(25L);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(25));
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy(
+			() -> createShrinkableLong(25, 50L, 100L))
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void shrinkingDistanceIsDistanceToShrinkingTarget() {
+		assertThat(createShrinkableLong(25, -100L, 100L).distance()).isEqualTo(ShrinkingDistance.of(25));
+		assertThat(createShrinkableLong(-25, -100L, 100L).distance()).isEqualTo(ShrinkingDistance.of(25));
+		assertThat(createShrinkableLong(25, 5L, 100L).distance()).isEqualTo(ShrinkingDistance.of(20));
+		assertThat(createShrinkableLong(-25, -100L, -5L).distance()).isEqualTo(ShrinkingDistance.of(20));
+	}
+
+	@Example
+	void shrinkingDistanceIsSaturatedAtLongMaxValue() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void downAllTheWay() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(100000, 5L, 500000L);
+
+			TestingFalsifier<Long> falsifier = aLong -> aLong <= 1000;
+			long shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(1001L);
+		}
+
+		@Example
+		void withFilter() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(100000, 0L, 1000000L);
+
+			TestingFalsifier<Long> falsifier = aLong -> aLong < 99;
+			Falsifier<Long> filteredFalsifier = falsifier.withFilter(aLong -> aLong % 2 == 0);
+
+			long shrunkValue = shrink(shrinkable, filteredFalsifier, null);
+			assertThat(shrunkValue).isEqualTo(100L);
+		}
+
+		@Example
+		void upToExplicitShrinkingTarget() {
+			Shrinkable<Long> shrinkable = new ShrinkableLong(1000, 5L, 500000L, 5000L);
+
+			TestingFalsifier<Long> falsifier = aLong -> aLong >= 5000;
+			long shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(4999L);
+		}
+
+		@Example
+		void negativeValueIsShrunkToPositive() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(-42, -100L, 100L);
+
+			TestingFalsifier<Long> falsifier = aLong -> Math.abs(aLong) < 42;
+			long shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(42L);
+		}
+
+		@Example
+		void fromExtremeValuesWithoutOverflow() {
+			TestingFalsifier<Long> falsifier = aLong -> Math.abs(aLong) < 1000;
+
+			Shrinkable<Long> maxValue = createShrinkableLong(Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE);
+			assertThat(shrink(maxValue, falsifier, null)).isEqualTo(1000L);
+
+			Shrinkable<Long> minValue = createShrinkableLong(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE);
+			assertThat(shrink(minValue, falsifier, null)).isEqualTo(1000L);
+		}
+	}
+
+	@Group
+	class Growing {
+
+		@Example
+		void upToMax() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(100000, 5L, 500000L);
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactlyInAnyOrder(100001L, 100010L, 300000L, 500000L);
+		}
+
+		@Example
+		void downToMin() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(-100000, -500000L, -5L);
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactlyInAnyOrder(-100001L, -100010L, -300000L, -500000L);
+		}
+
+		@Example
+		void upOnlyProducesGrownValues() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(499998, 5L, 500000L);
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactlyInAnyOrder(499999L, 500000L);
+		}
+
+		@Example
+		void upToLongMaxValueWithoutOverflow() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(Long.MAX_VALUE - 1, Long.MIN_VALUE, Long.MAX_VALUE);
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactlyInAnyOrder(Long.MAX_VALUE);
+		}
+	}
+
+	private Shrinkable<Long> createShrinkableLong(long number, long min, long max) {
+		return new ShrinkableLong(number, min, max, RandomIntegralGenerators.defaultShrinkingTarget(min, max));
+	}
+
+}
@@ -131,6 +131,25 @@ class ShrunkSampleRecreatorTests {
 		assertThat(recreatedSample).hasValue(shrunkSample.shrinkables());
 	}
 
+	@Property(tries = 10)
+	void recreateWithHeavyParametersThatAreNotRetainedInFalsificationCache(
+		@ForAll @IntRange(min = 1, max = 1000) int shrinkingResult
+	) {
+		Shrinkable<Object> heavyShrinkable = listOfShrinkableInts(1500).get(0).map(i -> Collections.nCopies(1000 + (int) i, 0));
+		FalsifiedSample originalSample = toFalsifiedSample(asList(heavyShrinkable), null);
+		PropertyShrinker shrinker = createPropertyShrinker(originalSample, ShrinkingMode.FULL, 0);
+
+		Falsifier<List<Object>> falsifier = paramFalsifier((List<Integer> list) -> list.size() < 1000 + shrinkingResult);
+		ShrunkFalsifiedSample shrunkSample = shrinker.shrink(falsifier);
+
+		assertThat((List<?>) shrunkSample.parameters().get(0)).hasSize(1000 + shrinkingResult);
+		assertThat(shrinker.falsificationCache().size()).isZero();
+
+		ShrunkSampleRecreator recreator = new ShrunkSampleRecreator(originalSample.shrinkables());
+		Optional<List<Shrinkable<Object>>> recreatedSample = recreator.recreateFrom(shrinker.shrinkingSequence());
+		assertThat(recreatedSample).hasValue(shrunkSample.shrinkables());
+	}
+
 	// Takes >= 5 seconds due to sleeps in shrinking
 	// TODO: This test sometimes fails. Make it reliable.
 	@SuppressLogging
@@ -193,6 +212,7 @@ class ShrunkSampleRecreatorTests {
 			originalSample,
 			shrinkingMode,
 			boundedShrinkingSeconds,
+			1,
 			Mockito.mock(Consumer.class),
 			null
 		);
@@ -0,0 +1,288 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.lifecycle.PropertyExecutionResult.Status.*;
+
+class TestRunDatabaseTests {
+
+	private Path databaseDirectory;
+	private Path databasePath;
+
+	@BeforeProperty
+	void createDatabaseDirectory() throws IOException {
+		databaseDirectory = Files.createTempDirectory("jqwik-database");
+		databasePath = databaseDirectory.resolve(".jqwik-database");
+	}
+
+	@AfterProperty
+	void deleteDatabaseDirectory() throws IOException {
+		try (Stream<Path> files = Files.list(databaseDirectory)) {
+			for (Path file : files.collect(Collectors.toList())) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(databaseDirectory);
+	}
+
+	@Example
+	void emptyDatabaseWhenFileDoesNotExist() {
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void failuresAreReadInNextRun() {
+		GenerationInfo generationInfo = new GenerationInfo("4242", 41)
+			.appendShrinkingSequence(Arrays.asList(TryExecutionResult.Status.SATISFIED, TryExecutionResult.Status.FALSIFIED));
+		record(
+			new TestRun(uniqueId("failing"), FAILED, generationInfo),
+			new TestRun(uniqueId("aborted"), ABORTED, GenerationInfo.NULL),
+			new TestRun(uniqueId("successful"), SUCCESSFUL, GenerationInfo.NULL)
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(uniqueId("failing"), uniqueId("aborted"));
+		TestRun failing = previousRun.byUniqueId(uniqueId("failing")).get();
+		assertThat(failing.getStatus()).isEqualTo(FAILED);
+		assertThat(failing.generationInfo()).isEqualTo(generationInfo);
+		assertThat(previousRun.byUniqueId(uniqueId("successful"))).isEmpty();
+	}
+
+	@Example
+	void failuresOfPropertiesNotRunAreKept() {
+		record(new TestRun(uniqueId("first"), FAILED, new GenerationInfo("1", 1)));
+		record(new TestRun(uniqueId("second"), FAILED, new GenerationInfo("2", 2)));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+			.containsExactly(uniqueId("first"), uniqueId("second"));
+	}
+
+	@Example
+	void laterRecordSupersedesEarlierOne() {
+		record(new TestRun(uniqueId("property"), FAILED, new GenerationInfo("1", 1)));
+		record(new TestRun(uniqueId("property"), FAILED, new GenerationInfo("2", 2)));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.allNonSuccessfulTests()).hasSize(1);
+		assertThat(previousRun.byUniqueId(uniqueId("property")).get().generationInfo())
+			.isEqualTo(new GenerationInfo("2", 2));
+	}
+
+	@Example
+	void successfulRunRemovesPreviousFailure() {
+		record(new TestRun(uniqueId("property"), FAILED, new GenerationInfo("1", 1)));
+		record(new TestRun(uniqueId("property"), SUCCESSFUL, GenerationInfo.NULL));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void corruptedTailIsDiscardedAndValidRecordsAreKept() throws IOException {
+		record(
+			new TestRun(uniqueId("first"), FAILED, new GenerationInfo("1", 1)),
+			new TestRun(uniqueId("second"), FAILED, new GenerationInfo("2", 2))
+		);
+		long sizeWithTwoRecords = Files.size(databasePath);
+		try (OutputStream out = Files.newOutputStream(databasePath, StandardOpenOption.APPEND)) {
+			out.write(new byte[]{0, 0, 0, 42, 1, 2, 3});
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).hasSize(2);
+
+		database.recorder().close();
+		assertThat(Files.size(databasePath)).isEqualTo(sizeWithTwoRecords);
+	}
+
+	@Example
+	void corruptedTailLeftByAnotherProcessIsRemovedBeforeAppending() throws IOException {
+		record(new TestRun(uniqueId("first"), FAILED, new GenerationInfo("1", 1)));
+
+		try (TestRunRecorder recorder = new TestRunDatabase(databasePath).recorder()) {
+			try (OutputStream out = Files.newOutputStream(databasePath, StandardOpenOption.APPEND)) {
+				out.write(new byte[]{0, 0, 0, 42, 1, 2, 3});
+			}
+			recorder.record(new TestRun(uniqueId("second"), FAILED, new GenerationInfo("2", 2)));
+		}
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(uniqueId("first"))).isPresent();
+		assertThat(previousRun.byUniqueId(uniqueId("second"))).isPresent();
+	}
+
+	@Example
+	void recordWithWrongChecksumIsDiscarded() throws IOException {
+		record(new TestRun(uniqueId("first"), FAILED, new GenerationInfo("1", 1)));
+		byte[] bytes = Files.readAllBytes(databasePath);
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(databasePath, bytes);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void databaseInUnknownFormatIsReplaced() throws IOException {
+		try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(databasePath))) {
+			out.writeObject("a serialized object");
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(uniqueId("property"), FAILED, new GenerationInfo("1", 1)));
+		}
+		assertThat(new TestRunDatabase(databasePath).previousRun().allNonSuccessfulTests()).hasSize(1);
+	}
+
+	@Example
+	void databaseOfPreviousFormatVersionIsReplaced() throws IOException {
+		byte[] previousVersionHeader = TestRunFormat.header();
+		previousVersionHeader[previousVersionHeader.length - 1] = 1;
+		Files.write(databasePath, previousVersionHeader);
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(uniqueId("property"), FAILED, new GenerationInfo("1", 1)));
+		}
+		assertThat(new TestRunDatabase(databasePath).previousRun().allNonSuccessfulTests()).hasSize(1);
+	}
+
+	@Example
+	void obsoleteRecordsAreRemovedByCompaction() throws IOException {
+		TestRun[] testRuns = new TestRun[100];
+		for (int i = 0; i < testRuns.length; i++) {
+			testRuns[i] = new TestRun(uniqueId("property"), FAILED, new GenerationInfo(Integer.toString(i), i));
+		}
+		record(testRuns);
+		long sizeBeforeCompaction = Files.size(databasePath);
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		database.recorder().close();
+
+		assertThat(Files.size(databasePath)).isLessThan(sizeBeforeCompaction / 50);
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(uniqueId("property")).get().generationInfo())
+			.isEqualTo(new GenerationInfo("99", 99));
+	}
+
+	@Group
+	class SharedDatabase {
+
+		@Example
+		void recordsOfDatabasesOpenedAtTheSameTimeAreMerged() {
+			TestRunDatabase fork1 = new TestRunDatabase(databasePath);
+			TestRunDatabase fork2 = new TestRunDatabase(databasePath);
+
+			TestRunRecorder recorder1 = fork1.recorder();
+			TestRunRecorder recorder2 = fork2.recorder();
+			recorder1.record(new TestRun(uniqueId("first"), FAILED, new GenerationInfo("1", 1)));
+			recorder2.record(new TestRun(uniqueId("second"), FAILED, new GenerationInfo("2", 2)));
+			recorder1.record(new TestRun(uniqueId("third"), FAILED, new GenerationInfo("3", 3)));
+			recorder1.close();
+			recorder2.close();
+
+			TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+			assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+				.containsExactly(uniqueId("first"), uniqueId("second"), uniqueId("third"));
+		}
+
+		@Example
+		void compactionKeepsRecordsAppendedByOthers() {
+			TestRunDatabase staleDatabase = new TestRunDatabase(databasePath);
+
+			TestRun[] testRuns = new TestRun[101];
+			for (int i = 0; i < 100; i++) {
+				testRuns[i] = new TestRun(uniqueId("property"), FAILED, new GenerationInfo(Integer.toString(i), i));
+			}
+			testRuns[100] = new TestRun(uniqueId("other"), FAILED, new GenerationInfo("other", 1));
+			record(testRuns);
+
+			staleDatabase.recorder().close();
+
+			TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+			assertThat(previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId))
+				.containsExactly(uniqueId("property"), uniqueId("other"));
+			assertThat(previousRun.byUniqueId(uniqueId("property")).get().generationInfo())
+				.isEqualTo(new GenerationInfo("99", 99));
+		}
+
+		@Example
+		void concurrentRecordingFromSeveralDatabasesLosesNothing() throws Exception {
+			int numberOfDatabases = 8;
+			int recordsPerDatabase = 50;
+			ExecutorService executor = Executors.newFixedThreadPool(numberOfDatabases);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int d = 0; d < numberOfDatabases; d++) {
+					int databaseIndex = d;
+					futures.add(executor.submit(() -> {
+						try (TestRunRecorder recorder = new TestRunDatabase(databasePath).recorder()) {
+							for (int r = 0; r < recordsPerDatabase; r++) {
+								String name = String.format("property-%s-%s", databaseIndex, r);
+								recorder.record(new TestRun(uniqueId(name), FAILED, new GenerationInfo(name, r)));
+							}
+						}
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+
+			TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+			assertThat(previousRun.allNonSuccessfulTests()).hasSize(numberOfDatabases * recordsPerDatabase);
+		}
+	}
+
+	@Example
+	void hugeUniqueIdsCanBeStored() {
+		StringBuilder segment = new StringBuilder();
+		for (int i = 0; i < 70000; i++) {
+			segment.append('x');
+		}
+		UniqueId hugeId = uniqueId(segment.toString());
+		record(new TestRun(hugeId, FAILED, GenerationInfo.NULL));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(hugeId)).isPresent();
+	}
+
+	private void record(TestRun... testRuns) {
+		try (TestRunRecorder recorder = new TestRunDatabase(databasePath).recorder()) {
+			for (TestRun testRun : testRuns) {
+				recorder.record(testRun);
+			}
+		}
+	}
+
+	private static UniqueId uniqueId(String methodName) {
+		return UniqueId.forEngine("jqwik").append("property", methodName);
+	}
+}
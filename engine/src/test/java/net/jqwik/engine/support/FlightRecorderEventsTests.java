@@ -0,0 +1,55 @@
+package net.jqwik.engine.support;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SuppressLogging
+class FlightRecorderEventsTests {
+
+	@Example
+	void disabledEventsAreNoOps() {
+		FlightRecorderEvents.enable(false);
+
+		assertThat(FlightRecorderEvents.isEnabled()).isFalse();
+		assertThat(FlightRecorderEvents.TRY.begin()).isSameAs(FlightRecorderEvents.Event.NONE);
+		assertThat(FlightRecorderEvents.Event.NONE.shouldCommit()).isFalse();
+	}
+
+	@Example
+	void enabledEventsAreNotCommittedWithoutRecording() {
+		try {
+			FlightRecorderEvents.enable(true);
+
+			assertThat(FlightRecorderEvents.TRY.begin().shouldCommit()).isFalse();
+		} finally {
+			FlightRecorderEvents.enable(false);
+		}
+	}
+
+	@Example
+	void enabledEventsCanBeCommittedIfJfrIsAvailable() {
+		try {
+			FlightRecorderEvents.enable(true);
+
+			assertThat(FlightRecorderEvents.isEnabled()).isEqualTo(isJfrAvailable());
+			FlightRecorderEvents.PROPERTY.begin().commit("a property", "SUCCESSFUL", 10L, 9L);
+			FlightRecorderEvents.TRY.begin().commit("a property", TryExecutionResult.Status.SATISFIED);
+			FlightRecorderEvents.SHRINKING_STEP.begin().commit(ShrinkingDistance.of(1, 2));
+			FlightRecorderEvents.FILTER_MISSES.begin().commit("a generator", 3);
+		} finally {
+			FlightRecorderEvents.enable(false);
+		}
+	}
+
+	private boolean isJfrAvailable() {
+		try {
+			Class.forName("jdk.jfr.EventFactory");
+			return true;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+}